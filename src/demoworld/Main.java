@@ -5,8 +5,11 @@ import demoworld.model.Character;
 import demoworld.model.DemoWorld;
 import demoworld.model.RuleBook;
 import demoworld.scholar.Scholar;
+import demoworld.scribe.MutationLog;
 import demoworld.view.View;
 import javax.swing.*;
+import java.io.IOException;
+import java.nio.file.Path;
 
 /**
  * Launch the application GUI.
@@ -20,7 +23,56 @@ public class Main {
     public static void main(String[] args) {
         SwingUtilities.invokeLater(() -> {
             RuleBook rulebook = new DemoWorld();
-            Character character = new Scholar(rulebook).build("./demo.sheet").getCharacter();
+            Path sheet = Path.of("./demo.sheet");
+            Character character = new Scholar(rulebook).build(sheet.toString()).getCharacter();
+            // changes since the sheet was loaded are logged, and replayed after a crash
+            MutationLog log = null;
+            try {
+                log = new MutationLog(Path.of("./demo.sheet.log"), rulebook, character);
+            } catch (IOException e) {
+                System.err.println("An error occurred while opening the change log: "
+                        + e.getMessage());
+            }
+            if (log != null) {
+                try {
+                    if (log.isOlderThan(sheet)) {
+                        // the sheet was edited or saved over since, so it is what to show
+                        log.snapshot(character);
+                    } else {
+                        character = log.recover();
+                    }
+                } catch (IOException e) {
+                    System.err.println("An error occurred while recovering the change log: "
+                            + e.getMessage());
+                    // start the log again from the sheet, so it never holds events the
+                    // character shown did not go through
+                    try {
+                        log.snapshot(character);
+                    } catch (IOException snapshotError) {
+                        System.err.println("An error occurred while resetting the change log: "
+                                + snapshotError.getMessage());
+                        try {
+                            log.close();
+                        } catch (IOException closeError) {
+                            System.err.println("An error occurred while closing the change log: "
+                                    + closeError.getMessage());
+                        }
+                        log = null;
+                    }
+                }
+            }
+            if (log != null) {
+                // only a crash leaves the log behind; a clean exit has nothing to recover
+                MutationLog finished = log;
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    try {
+                        finished.delete();
+                    } catch (IOException e) {
+                        System.err.println("An error occurred while deleting the change log: "
+                                + e.getMessage());
+                    }
+                }));
+            }
             View view = new View(
                     rulebook.getName()
                             + " | "
@@ -29,6 +81,7 @@ public class Main {
                     800
             );
             Controller controller = new Controller(view, rulebook, character);
+            controller.setMutationLog(log);
         });
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import demoworld.controller.sheetcontrollers.DiceController;
 import demoworld.controller.sheetcontrollers.SheetController;
 import demoworld.model.Character;
 import demoworld.model.RuleBook;
+import demoworld.scribe.MutationLog;
 import demoworld.view.View;
 
 /**
@@ -66,12 +67,28 @@ public class Controller extends GameController implements MainController, Relies
 
         featureSearchController.updateCharacter(character);
         specialtySearchController.updateCharacter(character);
+        menuBarController.setCharacter(character);
         sheetController.updateCharacter(character);
         diceController.updateCharacter(character);
 
         getView().updateCharacter(character);
     }
 
+    /**
+     * Sets the log the character's changes are written to, here and in the sub-controllers
+     * that change the character.
+     *
+     * @param mutationLog the log, or null to log nothing
+     */
+    @Override
+    public void setMutationLog(MutationLog mutationLog) {
+        super.setMutationLog(mutationLog);
+        sheetController.setMutationLog(mutationLog);
+        menuBarController.setMutationLog(mutationLog);
+        featureSearchController.setMutationLog(mutationLog);
+        specialtySearchController.setMutationLog(mutationLog);
+    }
+
     /**
      * Orders the sheetController to open the sheet screen.
      */
@@ -4,6 +4,7 @@ import demoworld.ReliesOnCharacterData;
 import demoworld.model.Character;
 import demoworld.model.Feature;
 import demoworld.model.RuleBook;
+import demoworld.scribe.MutationLog;
 import demoworld.view.View;
 
 import java.util.List;
@@ -43,6 +44,7 @@ public class FeatureSearchController extends GameController
             if (selectedFeatureName != null) {
                 Feature selectedFeature = getRules().getFeatureByName(selectedFeatureName);
                 getCharacter().addFeature(selectedFeature);
+                logChange(MutationLog.Type.ADD_FEATURE, selectedFeature.getName());
                 updateCharacter(getCharacter());
                 getView().openSheet();
             }
@@ -57,7 +59,7 @@ public class FeatureSearchController extends GameController
      */
     @Override
     public void openCharacterSearch() {
-        List<String> characterFeatures = getCharacter().getFeature().all().stream()
+        List<String> characterFeatures = getCharacter().getFeature().view().stream()
                 .map(Feature::getName)
                 .toList();
 
@@ -68,6 +70,7 @@ public class FeatureSearchController extends GameController
             if (selectedFeatureName != null) {
                 Feature selectedFeature = getCharacter().getFeature().byName(selectedFeatureName);
                 getCharacter().removeFeature(selectedFeature);
+                logChange(MutationLog.Type.REMOVE_FEATURE, selectedFeature.getName());
                 updateCharacter(getCharacter());
                 getView().openSheet();
             }
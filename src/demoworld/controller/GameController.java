@@ -2,8 +2,11 @@ package demoworld.controller;
 
 import demoworld.model.Character;
 import demoworld.model.RuleBook;
+import demoworld.scribe.MutationLog;
 import demoworld.view.View;
 
+import java.io.IOException;
+
 /**
  * Parent class for any controllers that require access to the full game state.
  * Holds a reference to the View, RuleBook, and Character and provides methods
@@ -23,6 +26,10 @@ public class GameController {
      * Character
      */
     private Character character;
+    /**
+     * The log changes to the character are recorded in, or null if they are not logged.
+     */
+    private MutationLog mutationLog;
 
     /**
      * Constructor for the GameController.
@@ -74,5 +81,59 @@ public class GameController {
     public void setCharacter(Character character) {
         this.character = character;
     }
-}
 
+    /**
+     * Sets the log that changes made to the character are recorded in.
+     *
+     * @param mutationLog the log, or null to stop logging
+     */
+    public void setMutationLog(MutationLog mutationLog) {
+        this.mutationLog = mutationLog;
+    }
+
+    /**
+     * Records a change that carries an amount in the mutation log, if there is one.
+     *
+     * @param type   the kind of change
+     * @param amount the amount of the change
+     */
+    protected void logChange(MutationLog.Type type, int amount) {
+        if (mutationLog != null) {
+            try {
+                mutationLog.record(character, type, amount);
+            } catch (IOException e) {
+                System.err.println("An error occurred while logging a change: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Records a change that carries a name in the mutation log, if there is one.
+     *
+     * @param type the kind of change
+     * @param name the name of the feature or specialty changed
+     */
+    protected void logChange(MutationLog.Type type, String name) {
+        if (mutationLog != null) {
+            try {
+                mutationLog.record(character, type, name);
+            } catch (IOException e) {
+                System.err.println("An error occurred while logging a change: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Records the whole character in the mutation log, if there is one, for changes that no
+     * single event describes.
+     */
+    protected void logSnapshot() {
+        if (mutationLog != null) {
+            try {
+                mutationLog.snapshot(character);
+            } catch (IOException e) {
+                System.err.println("An error occurred while logging a change: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -6,12 +6,15 @@ import demoworld.model.Feature;
 import demoworld.model.Specialty;
 
 import demoworld.scholar.Scholar;
+import demoworld.scribe.MutationLog;
 import demoworld.scribe.Scribe;
 import demoworld.view.MenuBar;
 import demoworld.view.Search;
 import demoworld.view.View;
 
 import javax.swing.*;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.List;
 
 /**
@@ -89,10 +92,17 @@ public class MenuBarController extends GameController {
         if (result == JFileChooser.APPROVE_OPTION) {
             String filePath = fileChooser.getSelectedFile().getAbsolutePath();
 
-            String characterData = getCharacter().toString();
             String studentId = "43442148";
 
-            Scribe.writeToFile(filePath, characterData, studentId);
+            try {
+                new Scribe(true).write(Paths.get(filePath), getCharacter(), studentId);
+                System.out.println("File written successfully to " + filePath);
+                // the saved sheet holds every change so far, so the log can start again
+                logSnapshot();
+            } catch (IOException e) {
+                System.err.println("An error occurred while writing to the file: "
+                        + e.getMessage());
+            }
         }
     }
 
@@ -128,6 +138,7 @@ public class MenuBarController extends GameController {
             String selectedSpecialty = searchPanel.getSelectedEntry();
             if (selectedSpecialty != null) {
                 getCharacter().addSpecialty(getRules().getSpecialtyByName(selectedSpecialty));
+                logChange(MutationLog.Type.ADD_SPECIALTY, selectedSpecialty);
                 mainController.updateCharacter(getCharacter());
                 getView().openSheet();
             }
@@ -151,6 +162,7 @@ public class MenuBarController extends GameController {
             String selectedFeature = searchPanel.getSelectedEntry();
             if (selectedFeature != null) {
                 getCharacter().addFeature(getRules().getFeatureByName(selectedFeature));
+                logChange(MutationLog.Type.ADD_FEATURE, selectedFeature);
                 mainController.updateCharacter(getCharacter());
                 getView().openSheet();
             }
@@ -164,7 +176,7 @@ public class MenuBarController extends GameController {
     private void removeSpecialty() {
         searchPanel.clearPickListeners();
 
-        List<String> characterSpecialties = getCharacter().getSpecialty().all().stream()
+        List<String> characterSpecialties = getCharacter().getSpecialty().view().stream()
                 .map(Specialty::getName)
                 .toList();
 
@@ -175,6 +187,7 @@ public class MenuBarController extends GameController {
             if (selectedSpecialty != null) {
                 getCharacter()
                         .removeSpecialty(getCharacter().getSpecialty().byName(selectedSpecialty));
+                logChange(MutationLog.Type.REMOVE_SPECIALTY, selectedSpecialty);
                 mainController.updateCharacter(getCharacter());
                 getView().openSheet();
             }
@@ -188,7 +201,7 @@ public class MenuBarController extends GameController {
     private void removeFeature() {
         searchPanel.clearPickListeners();
 
-        List<String> characterFeatures = getCharacter().getFeature().all().stream()
+        List<String> characterFeatures = getCharacter().getFeature().view().stream()
                 .map(Feature::getName)
                 .toList();
 
@@ -198,6 +211,7 @@ public class MenuBarController extends GameController {
             String selectedFeature = searchPanel.getSelectedEntry();
             if (selectedFeature != null) {
                 getCharacter().removeFeature(getCharacter().getFeature().byName(selectedFeature));
+                logChange(MutationLog.Type.REMOVE_FEATURE, selectedFeature);
                 mainController.updateCharacter(getCharacter());
                 getView().openSheet();
             }
@@ -216,10 +230,12 @@ public class MenuBarController extends GameController {
                 if (action.equals("Add Specialties")) {
                     Character character = getCharacter();
                     character.addSpecialty(getRules().getSpecialtyByName(selectedEntry));
+                    logChange(MutationLog.Type.ADD_SPECIALTY, selectedEntry);
                     mainController.updateCharacter(character);
                 } else if (action.equals("Add Features")) {
                     Character character = getCharacter();
                     character.addFeature(getRules().getFeatureByName(selectedEntry));
+                    logChange(MutationLog.Type.ADD_FEATURE, selectedEntry);
                     mainController.updateCharacter(character);
                 }
             }
@@ -4,6 +4,7 @@ import demoworld.ReliesOnCharacterData;
 import demoworld.model.Character;
 import demoworld.model.RuleBook;
 import demoworld.model.Specialty;
+import demoworld.scribe.MutationLog;
 import demoworld.view.Search;
 import demoworld.view.View;
 
@@ -47,13 +48,14 @@ public class SpecialtySearchController
                 Specialty specialty = character.getSpecialty().byName(selectedSpecialty);
                 if (specialty != null) {
                     character.removeSpecialty(specialty);
+                    logChange(MutationLog.Type.REMOVE_SPECIALTY, specialty.getName());
                     updateCharacter(character);
                     System.out.println("Removed specialty: " + selectedSpecialty);
                 }
             }
         });
 
-        List<String> characterSpecialties = getCharacter().getSpecialty().all().stream()
+        List<String> characterSpecialties = getCharacter().getSpecialty().view().stream()
                 .map(Specialty::getName)
                 .toList();
         searchPanel.updateList(characterSpecialties);
@@ -74,6 +76,7 @@ public class SpecialtySearchController
                 Specialty specialty = getRules().getSpecialtyByName(selectedSpecialty);
                 if (specialty != null) {
                     character.addSpecialty(specialty);
+                    logChange(MutationLog.Type.ADD_SPECIALTY, specialty.getName());
                     updateCharacter(character);
                     System.out.println("Added specialty: " + selectedSpecialty);
                 }
@@ -4,7 +4,6 @@ import demoworld.ReliesOnCharacterData;
 import demoworld.controller.GameController;
 import demoworld.model.Character;
 import demoworld.model.RuleBook;
-import demoworld.view.Notification;
 import demoworld.view.View;
 import demoworld.view.sheetpanels.DicePanel;
 
@@ -58,7 +57,7 @@ public class DiceController extends GameController implements ReliesOnCharacterD
 
         dicePanel.updateResult(result);
 
-        new Notification("Rolled 2D6", "Got: " + result);
+        getView().getNotifications().post("Rolled 2D6", "Got: " + result);
     }
 
 
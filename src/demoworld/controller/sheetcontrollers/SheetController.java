@@ -4,9 +4,10 @@ import demoworld.ReliesOnCharacterData;
 import demoworld.controller.GameController;
 import demoworld.model.Character;
 import demoworld.model.Feature;
+import demoworld.model.History;
 import demoworld.model.RuleBook;
 import demoworld.model.Specialty;
-import demoworld.view.Notification;
+import demoworld.scribe.MutationLog;
 import demoworld.view.View;
 
 import javax.swing.*;
@@ -16,6 +17,16 @@ import javax.swing.*;
  */
 public class SheetController extends GameController implements ReliesOnCharacterData {
 
+    /**
+     * The most edits that can be undone.
+     */
+    private static final int HISTORY_LIMIT = 100;
+
+    /**
+     * The edits made to the character that can be undone and redone.
+     */
+    private final History history;
+
     /**
      * Constructs a new SheetController.
      *
@@ -25,6 +36,8 @@ public class SheetController extends GameController implements ReliesOnCharacter
      */
     public SheetController(View view, RuleBook rules, Character character) {
         super(view, rules, character);
+        this.history = new History(HISTORY_LIMIT);
+        this.history.reset(character);
 
         view.getSheet().addDamageListener(e -> damage());
         view.getSheet().addHealListener(e -> heal());
@@ -38,6 +51,38 @@ public class SheetController extends GameController implements ReliesOnCharacter
 
         view.getSheet().addDisplayFeatureInfoListener(e -> displayFeatureInfo());
         view.getSheet().addDisplaySpecialtyInfoListener(e -> displaySpecialtyInfo());
+
+        view.getTopMenuBar().addParentMenu("Edit");
+        view.getTopMenuBar().addOption("Edit", "Undo", e -> undo());
+        view.getTopMenuBar().addOption("Edit", "Redo", e -> redo());
+    }
+
+    /**
+     * Records the character's new state so it can be undone, then updates the View.
+     */
+    private void changed() {
+        history.record(getCharacter());
+        getView().updateCharacter(getCharacter());
+    }
+
+    /**
+     * Undoes the last change made to the Character and updates the View.
+     */
+    public void undo() {
+        if (history.undo(getCharacter())) {
+            logSnapshot();
+            getView().updateCharacter(getCharacter());
+        }
+    }
+
+    /**
+     * Redoes the last change undone and updates the View.
+     */
+    public void redo() {
+        if (history.redo(getCharacter())) {
+            logSnapshot();
+            getView().updateCharacter(getCharacter());
+        }
     }
 
     /**
@@ -51,7 +96,8 @@ public class SheetController extends GameController implements ReliesOnCharacter
             Feature featureToRemove = getCharacter().getFeature().byName(selectedFeature);
             if (featureToRemove != null) {
                 getCharacter().removeFeature(featureToRemove);
-                getView().updateCharacter(getCharacter());
+                logChange(MutationLog.Type.REMOVE_FEATURE, featureToRemove.getName());
+                changed();
             }
         }
     }
@@ -66,7 +112,8 @@ public class SheetController extends GameController implements ReliesOnCharacter
             Specialty specialtyToRemove = getCharacter().getSpecialty().byName(selectedSpecialty);
             if (specialtyToRemove != null) {
                 getCharacter().removeSpecialty(specialtyToRemove);
-                getView().updateCharacter(getCharacter());
+                logChange(MutationLog.Type.REMOVE_SPECIALTY, specialtyToRemove.getName());
+                changed();
             }
         }
     }
@@ -109,9 +156,11 @@ public class SheetController extends GameController implements ReliesOnCharacter
      */
     public void heal() {
         getCharacter().heal(1);
-        getView().updateCharacter(getCharacter());
+        logChange(MutationLog.Type.HEAL, 1);
+        changed();
 
-        new Notification("Heal!", "HP: (" + getCharacter().getHitpoints().getTempHp() + ") "
+        getView().getNotifications().post("Heal!",
+                "HP: (" + getCharacter().getHitpoints().getTempHp() + ") "
                 + getCharacter().getHitpoints().getBase().current()
                 + "/" + getCharacter().getHitpoints().getBase().max());
     }
@@ -121,9 +170,10 @@ public class SheetController extends GameController implements ReliesOnCharacter
      */
     public void gainTempHp() {
         getCharacter().getHitpoints().setTempHp(getCharacter().getHitpoints().getTempHp() + 1);
-        getView().updateCharacter(getCharacter());
+        logChange(MutationLog.Type.SET_TEMP_HP, getCharacter().getHitpoints().getTempHp());
+        changed();
 
-        new Notification("Gain Temp HP!",
+        getView().getNotifications().post("Gain Temp HP!",
                 "HP: (" + getCharacter().getHitpoints().getTempHp() + ") "
                 + getCharacter().getHitpoints().getBase().current()
                 + "/" + getCharacter().getHitpoints().getBase().max());
@@ -134,9 +184,11 @@ public class SheetController extends GameController implements ReliesOnCharacter
      */
     public void damage() {
         getCharacter().damage(1);
-        getView().updateCharacter(getCharacter());
+        logChange(MutationLog.Type.DAMAGE, 1);
+        changed();
 
-        new Notification("Damage!", "HP: (" + getCharacter().getHitpoints().getTempHp() + ") "
+        getView().getNotifications().post("Damage!",
+                "HP: (" + getCharacter().getHitpoints().getTempHp() + ") "
                 + getCharacter().getHitpoints().getBase().current() + "/"
                 + getCharacter().getHitpoints().getBase().max());
     }
@@ -149,16 +201,17 @@ public class SheetController extends GameController implements ReliesOnCharacter
         int oldXp = getCharacter().getExperience().current();
 
         getCharacter().adjustXp(1);
-        getView().updateCharacter(getCharacter());
+        logChange(MutationLog.Type.ADJUST_XP, 1);
+        changed();
 
         int newXp = getCharacter().getExperience().current();
         int maxXp = getCharacter().getExperience().max();
 
         // Check if level-up occurred
         if (oldXp < maxXp && newXp == 0) {
-            new Notification("Level Up!", "+1 Max Hp!");
+            getView().getNotifications().post("Level Up!", "+1 Max Hp!");
         } else {
-            new Notification("XP!", newXp + "/" + maxXp);
+            getView().getNotifications().post("XP!", newXp + "/" + maxXp);
         }
     }
 
@@ -167,11 +220,12 @@ public class SheetController extends GameController implements ReliesOnCharacter
      */
     public void loseXp() {
         getCharacter().adjustXp(-1);
-        getView().updateCharacter(getCharacter());
+        logChange(MutationLog.Type.ADJUST_XP, -1);
+        changed();
 
         int currentXp = getCharacter().getExperience().current();
         int maxXp = getCharacter().getExperience().max();
-        new Notification("XP!", currentXp + "/" + maxXp);
+        getView().getNotifications().post("XP!", currentXp + "/" + maxXp);
     }
 
     /**
@@ -183,12 +237,20 @@ public class SheetController extends GameController implements ReliesOnCharacter
 
     /**
      * Updates View and relevant children with a new Character state.
+     * A different Character starts a new undo history, while changes to the same Character
+     * are recorded so they can be undone.
      *
      * @param character The updated Character state.
      */
     @Override
     public void updateCharacter(Character character) {
-        setCharacter(character);
+        if (character != getCharacter()) {
+            setCharacter(character);
+            history.reset(character);
+            logSnapshot();
+        } else {
+            history.record(character);
+        }
         getView().updateCharacter(character);
     }
 }
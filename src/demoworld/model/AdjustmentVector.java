@@ -0,0 +1,280 @@
+package demoworld.model;
+
+import demoworld.model.adjustments.Adjustment;
+import demoworld.model.adjustments.MaxHpAdjustment;
+import demoworld.model.adjustments.MaxXpAdjustment;
+import demoworld.model.adjustments.StatAdjustment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The net effect of a set of {@link Adjustment}s, flattened into one change to each stat
+ * modifier, one to the maximum {@link Hitpoints} and one to the maximum {@link Experience}.
+ * Applying the vector makes one write per stat it touches, however many adjustments went
+ * into it. Adjustments to the same stat are summed before being applied, so the bounds of
+ * the modifier are enforced once on the net change rather than after each adjustment.
+ * Adjustments that cannot be flattened, such as a {@link StatAdjustment} whose stat was never
+ * bound to a slot, are kept and applied one at a time after the flattened changes.
+ */
+public final class AdjustmentVector implements Adjuster {
+
+    /**
+     * The vector of a feature with no adjustments, which changes nothing.
+     */
+    public static final AdjustmentVector NONE =
+            new AdjustmentVector(new int[0], new int[0], 0, 0, new Adjustment[0]);
+
+    /**
+     * The stat slots changed, in ascending order.
+     */
+    private final int[] slots;
+
+    /**
+     * The change to the modifier of the stat in the matching position of {@code slots}.
+     */
+    private final int[] deltas;
+
+    /**
+     * The change to the maximum hitpoints.
+     */
+    private final int maxHp;
+
+    /**
+     * The change to the maximum experience.
+     */
+    private final int maxXp;
+
+    /**
+     * The adjustments that could not be flattened.
+     */
+    private final Adjustment[] remaining;
+
+    /**
+     * Constructs a vector from its parts.
+     *
+     * @param slots     the stat slots changed, ascending
+     * @param deltas    the change to each slot's modifier
+     * @param maxHp     the change to the maximum hitpoints
+     * @param maxXp     the change to the maximum experience
+     * @param remaining the adjustments to apply one at a time
+     */
+    private AdjustmentVector(int[] slots, int[] deltas, int maxHp, int maxXp,
+                             Adjustment[] remaining) {
+        this.slots = slots;
+        this.deltas = deltas;
+        this.maxHp = maxHp;
+        this.maxXp = maxXp;
+        this.remaining = remaining;
+    }
+
+    /**
+     * Flattens the given adjustments into a vector.
+     *
+     * @param adjustments the adjustments, already bound to their rulebook's stats
+     * @return the net effect of the adjustments
+     */
+    public static AdjustmentVector of(List<Adjustment> adjustments) {
+        if (adjustments.isEmpty()) {
+            return NONE;
+        }
+        int[] totals = new int[0];
+        boolean[] touched = new boolean[0];
+        int maxHp = 0;
+        int maxXp = 0;
+        List<Adjustment> remaining = new ArrayList<>();
+        for (Adjustment adjustment : adjustments) {
+            if (adjustment instanceof StatAdjustment
+                    && ((StatAdjustment) adjustment).getStatSlot() != SymbolTable.UNRESOLVED) {
+                StatAdjustment statAdjustment = (StatAdjustment) adjustment;
+                int slot = statAdjustment.getStatSlot();
+                if (slot >= totals.length) {
+                    totals = Arrays.copyOf(totals, slot + 1);
+                    touched = Arrays.copyOf(touched, slot + 1);
+                }
+                totals[slot] += statAdjustment.getValue();
+                touched[slot] = true;
+            } else if (adjustment instanceof MaxHpAdjustment) {
+                maxHp += ((MaxHpAdjustment) adjustment).getValue();
+            } else if (adjustment instanceof MaxXpAdjustment) {
+                maxXp += ((MaxXpAdjustment) adjustment).getValue();
+            } else {
+                remaining.add(adjustment);
+            }
+        }
+        return build(totals, touched, maxHp, maxXp, remaining);
+    }
+
+    /**
+     * Adds several vectors together, as when a {@link Specialty} grants several features.
+     *
+     * @param vectors the vectors to add
+     * @return the combined vector
+     */
+    public static AdjustmentVector sum(List<AdjustmentVector> vectors) {
+        int[] totals = new int[0];
+        boolean[] touched = new boolean[0];
+        int maxHp = 0;
+        int maxXp = 0;
+        List<Adjustment> remaining = new ArrayList<>();
+        for (AdjustmentVector vector : vectors) {
+            for (int i = 0; i < vector.slots.length; i++) {
+                int slot = vector.slots[i];
+                if (slot >= totals.length) {
+                    totals = Arrays.copyOf(totals, slot + 1);
+                    touched = Arrays.copyOf(touched, slot + 1);
+                }
+                totals[slot] += vector.deltas[i];
+                touched[slot] = true;
+            }
+            maxHp += vector.maxHp;
+            maxXp += vector.maxXp;
+            remaining.addAll(Arrays.asList(vector.remaining));
+        }
+        return build(totals, touched, maxHp, maxXp, remaining);
+    }
+
+    /**
+     * Packs dense per-slot totals into a vector.
+     *
+     * @param totals    the change to each slot
+     * @param touched   which slots were adjusted at all
+     * @param maxHp     the change to the maximum hitpoints
+     * @param maxXp     the change to the maximum experience
+     * @param remaining the adjustments to apply one at a time
+     * @return the vector
+     */
+    private static AdjustmentVector build(int[] totals, boolean[] touched, int maxHp, int maxXp,
+                                          List<Adjustment> remaining) {
+        int count = 0;
+        for (boolean slotTouched : touched) {
+            if (slotTouched) {
+                count++;
+            }
+        }
+        if (count == 0 && maxHp == 0 && maxXp == 0 && remaining.isEmpty()) {
+            return NONE;
+        }
+        int[] slots = new int[count];
+        int[] deltas = new int[count];
+        int next = 0;
+        for (int slot = 0; slot < touched.length; slot++) {
+            if (touched[slot]) {
+                slots[next] = slot;
+                deltas[next] = totals[slot];
+                next++;
+            }
+        }
+        return new AdjustmentVector(slots, deltas, maxHp, maxXp,
+                remaining.toArray(new Adjustment[0]));
+    }
+
+    /**
+     * Applies the vector to the given character.
+     *
+     * @param character the {@link Character} to adjust
+     * @return the adjusted character
+     */
+    @Override
+    public Character adjust(Character character) {
+        apply(character, 1);
+        applyRemaining(character, 1);
+        return character;
+    }
+
+    /**
+     * Takes the vector away from the given character.
+     *
+     * @param character the {@link Character} to unadjust
+     * @return the unadjusted character
+     */
+    @Override
+    public Character unadjust(Character character) {
+        applyRemaining(character, -1);
+        apply(character, -1);
+        return character;
+    }
+
+    /**
+     * Adds or subtracts the flattened changes.
+     *
+     * @param character the character to change
+     * @param sign      1 to add the changes, -1 to subtract them
+     */
+    private void apply(Character character, int sign) {
+        StatBlock stats = character.getStatBlock();
+        for (int i = 0; i < slots.length; i++) {
+            if (deltas[i] != 0) {
+                stats.addToModifier(slots[i], sign * deltas[i]);
+            }
+        }
+        if (maxHp != 0) {
+            int hitpoints = stats.hitpointsSlot();
+            stats.setBaseMax(hitpoints, stats.baseMax(hitpoints) + sign * maxHp);
+        }
+        if (maxXp != 0) {
+            character.getExperience().addToMax(sign * maxXp);
+        }
+    }
+
+    /**
+     * Adds the flattened stat changes to a running total per slot, as a {@link Character.Batch}
+     * does while it collects changes.
+     *
+     * @param totals the running total for each stat slot
+     * @param sign   1 to add the changes, -1 to subtract them
+     */
+    void addTo(int[] totals, int sign) {
+        for (int i = 0; i < slots.length; i++) {
+            totals[slots[i]] += sign * deltas[i];
+        }
+    }
+
+    /**
+     * Applies or undoes only the adjustments that could not be flattened.
+     *
+     * @param character the character to change
+     * @param sign      1 to apply them, -1 to undo them
+     */
+    void applyRemaining(Character character, int sign) {
+        if (sign > 0) {
+            for (Adjustment adjustment : remaining) {
+                adjustment.adjust(character);
+            }
+        } else {
+            for (int i = remaining.length - 1; i >= 0; i--) {
+                remaining[i].unadjust(character);
+            }
+        }
+    }
+
+    /**
+     * Gets the change the vector makes to a stat's modifier.
+     *
+     * @param slot the stat slot
+     * @return the net change, zero if the vector does not touch the stat
+     */
+    public int statDelta(int slot) {
+        int index = Arrays.binarySearch(slots, slot);
+        return index < 0 ? 0 : deltas[index];
+    }
+
+    /**
+     * Gets the change the vector makes to the maximum hitpoints.
+     *
+     * @return the net change to the maximum hitpoints
+     */
+    public int maxHpDelta() {
+        return maxHp;
+    }
+
+    /**
+     * Gets the change the vector makes to the maximum experience.
+     *
+     * @return the net change to the maximum experience
+     */
+    public int maxXpDelta() {
+        return maxXp;
+    }
+}
@@ -0,0 +1,208 @@
+package demoworld.model;
+
+/**
+ * Everything in a ruleset that is the same for every copy of its {@link RuleBook}: the
+ * {@link Stat}s, {@link Requirement}s, {@link Feature}s and {@link Specialty}/~ies, the
+ * {@link SymbolTable} naming them, the default {@link StatBlock} characters start from and
+ * the indexes built over them.
+ * A catalog is filled in once and then frozen, after which none of it can change, so a single
+ * catalog can be shared by every rulebook of the same ruleset and edition, and by every thread.
+ */
+public final class Catalog {
+
+    /**
+     * symbols
+     */
+    private final SymbolTable symbols;
+
+    /**
+     * stats
+     */
+    private final EntryManager<Stat> stats;
+
+    /**
+     * requirements
+     */
+    private final EntryManager<Requirement> requirements;
+
+    /**
+     * features
+     */
+    private final EntryManager<Feature> features;
+
+    /**
+     * specialties
+     */
+    private final EntryManager<Specialty> specialties;
+
+    /**
+     * The starting stats and hitpoints, set when the catalog is frozen.
+     */
+    private StatBlock defaultStatBlock;
+
+    /**
+     * The features indexed by the stats their requirements read, set when frozen.
+     */
+    private DependencyIndex<Feature> featureDependencies;
+
+    /**
+     * The specialties indexed by the stats their requirements read, set when frozen.
+     */
+    private DependencyIndex<Specialty> specialtyDependencies;
+
+    /**
+     * The feature catalog as eligibility bitmaps, created on first use.
+     */
+    private EligibilityBitmaps<Feature> featureBitmaps;
+
+    /**
+     * The specialty catalog as eligibility bitmaps, created on first use.
+     */
+    private EligibilityBitmaps<Specialty> specialtyBitmaps;
+
+    /**
+     * Constructs an empty catalog ready to be filled in.
+     */
+    public Catalog() {
+        this.symbols = new SymbolTable();
+        this.stats = new EntryManager<>();
+        this.requirements = new EntryManager<>();
+        this.features = new EntryManager<>();
+        this.specialties = new EntryManager<>();
+    }
+
+    /**
+     * Freezes every entry in the catalog and builds the indexes over them. Nothing in the
+     * catalog can be changed afterwards.
+     *
+     * @param defaults the starting stats and hitpoints for characters, which are frozen too
+     */
+    public void freeze(StatBlock defaults) {
+        for (Feature feature : features) {
+            feature.freeze();
+        }
+        for (Specialty specialty : specialties) {
+            specialty.freeze();
+        }
+        for (Requirement requirement : requirements) {
+            requirement.freeze();
+        }
+        for (Stat stat : stats) {
+            stat.freeze();
+        }
+        symbols.freeze();
+        stats.freeze();
+        requirements.freeze();
+        features.freeze();
+        specialties.freeze();
+        defaults.freeze();
+        this.defaultStatBlock = defaults;
+        this.featureDependencies = new DependencyIndex<>(features);
+        this.specialtyDependencies = new DependencyIndex<>(specialties);
+    }
+
+    /**
+     * Returns whether the catalog has been frozen.
+     *
+     * @return true once {@link #freeze(StatBlock)} has been called
+     */
+    public boolean isFrozen() {
+        return defaultStatBlock != null;
+    }
+
+    /**
+     * Gets the symbol table naming the catalog's entries.
+     *
+     * @return the symbol table
+     */
+    public SymbolTable getSymbols() {
+        return symbols;
+    }
+
+    /**
+     * Gets the catalog's stats.
+     *
+     * @return the stats, in stat slot order
+     */
+    public EntryManager<Stat> getStats() {
+        return stats;
+    }
+
+    /**
+     * Gets the catalog's requirements.
+     *
+     * @return the requirements
+     */
+    public EntryManager<Requirement> getRequirements() {
+        return requirements;
+    }
+
+    /**
+     * Gets the catalog's features.
+     *
+     * @return the features
+     */
+    public EntryManager<Feature> getFeatures() {
+        return features;
+    }
+
+    /**
+     * Gets the catalog's specialties.
+     *
+     * @return the specialties
+     */
+    public EntryManager<Specialty> getSpecialties() {
+        return specialties;
+    }
+
+    /**
+     * Gets the frozen starting stats and hitpoints characters are copied from.
+     *
+     * @return the default stat block, or null before the catalog is frozen
+     */
+    public StatBlock getDefaultStatBlock() {
+        return defaultStatBlock;
+    }
+
+    /**
+     * Gets the features indexed by the stats their requirements read.
+     *
+     * @return the feature dependency index, or null before the catalog is frozen
+     */
+    public DependencyIndex<Feature> getFeatureDependencies() {
+        return featureDependencies;
+    }
+
+    /**
+     * Gets the specialties indexed by the stats their requirements read.
+     *
+     * @return the specialty dependency index, or null before the catalog is frozen
+     */
+    public DependencyIndex<Specialty> getSpecialtyDependencies() {
+        return specialtyDependencies;
+    }
+
+    /**
+     * Gets the features as eligibility bitmaps, building them the first time.
+     *
+     * @return the feature eligibility bitmaps
+     */
+    public synchronized EligibilityBitmaps<Feature> getFeatureEligibilityBitmaps() {
+        if (this.featureBitmaps == null) {
+            this.featureBitmaps = new EligibilityBitmaps<>(features);
+        }
+        return this.featureBitmaps;
+    }
+
+    /**
+     * Gets the specialties as eligibility bitmaps, building them the first time.
+     *
+     * @return the specialty eligibility bitmaps
+     */
+    public synchronized EligibilityBitmaps<Specialty> getSpecialtyEligibilityBitmaps() {
+        if (this.specialtyBitmaps == null) {
+            this.specialtyBitmaps = new EligibilityBitmaps<>(specialties);
+        }
+        return this.specialtyBitmaps;
+    }
+}
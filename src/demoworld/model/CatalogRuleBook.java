@@ -0,0 +1,577 @@
+package demoworld.model;
+
+import demoworld.model.adjustments.MaxHpAdjustment;
+import demoworld.model.adjustments.MaxXpAdjustment;
+import demoworld.model.adjustments.StatAdjustment;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A {@link RuleBook} whose stats, requirements, features and specialties are loaded from a
+ * binary catalog file written by {@link CatalogWriter}, instead of being written out in Java
+ * like {@link DemoWorld}'s.
+ * The file is memory-mapped rather than read in. Loading walks the entries to build the
+ * {@link Catalog}, decoding only names and numbers, while feature and specialty descriptions
+ * stay in the mapped file until they are first asked for. The catalog is frozen once loaded.
+ */
+public class CatalogRuleBook extends RuleBook {
+
+    /**
+     * The first four bytes of every catalog file, "DWCT".
+     */
+    static final int MAGIC = 0x44574354;
+
+    /**
+     * The version of the catalog format this class reads and {@link CatalogWriter} writes.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * The size in bytes of the magic, version and string section offset at the start of
+     * the file.
+     */
+    static final int HEADER_SIZE = 12;
+
+    /**
+     * Marks a {@link StatAdjustment} in the file.
+     */
+    static final byte STAT_ADJUSTMENT = 0;
+
+    /**
+     * Marks a {@link MaxHpAdjustment} in the file.
+     */
+    static final byte MAX_HP_ADJUSTMENT = 1;
+
+    /**
+     * Marks a {@link MaxXpAdjustment} in the file.
+     */
+    static final byte MAX_XP_ADJUSTMENT = 2;
+
+    /**
+     * The mapped catalog file, read with absolute gets only once loading is done.
+     */
+    private final ByteBuffer file;
+
+    /**
+     * Where the string section starts in {@code file}.
+     */
+    private final int strings;
+
+    /**
+     * name
+     */
+    private final String name;
+
+    /**
+     * edition
+     */
+    private final double edition;
+
+    /**
+     * featurePickCount
+     */
+    private final int featurePickCount;
+
+    /**
+     * The maximum starting hitpoints.
+     */
+    private final int startingHpMax;
+
+    /**
+     * The current starting hitpoints.
+     */
+    private final int startingHpCurrent;
+
+    /**
+     * The maximum starting experience.
+     */
+    private final int startingXpMax;
+
+    /**
+     * The current starting experience.
+     */
+    private final int startingXpCurrent;
+
+    /**
+     * The spread of values allocated to a new character's stats.
+     */
+    private final List<Integer> statSpread;
+
+    /**
+     * The entries loaded from the file.
+     */
+    private final Catalog catalog;
+
+    /**
+     * experience
+     */
+    private final Experience xp;
+
+    /**
+     * DiceRoller used for this game
+     */
+    private final DiceRoller dice;
+
+    /**
+     * Loads a rulebook from a catalog file.
+     *
+     * @param path the catalog file to load
+     * @throws IOException if the file cannot be read, is not a catalog file, is of a version
+     *                     this class cannot read, or is cut short or corrupt
+     */
+    public CatalogRuleBook(Path path) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        this.file = mapped;
+        try {
+            if (mapped.getInt() != MAGIC) {
+                throw new IOException(path + " is not a catalog file!");
+            }
+            int version = mapped.getInt();
+            if (version != VERSION) {
+                throw new IOException(path + " is catalog version " + version
+                        + " but only version " + VERSION + " can be read!");
+            }
+            this.strings = mapped.getInt();
+            if (this.strings < HEADER_SIZE || this.strings > mapped.limit()) {
+                throw new IOException(path + " is cut short or corrupt!");
+            }
+            this.name = readString(mapped);
+            this.edition = mapped.getDouble();
+            this.featurePickCount = mapped.getInt();
+            this.startingHpMax = mapped.getInt();
+            this.startingHpCurrent = mapped.getInt();
+            this.startingXpMax = mapped.getInt();
+            this.startingXpCurrent = mapped.getInt();
+
+            List<Integer> spread = new ArrayList<>();
+            for (int i = readCount(mapped); i > 0; i--) {
+                spread.add(mapped.getInt());
+            }
+            this.statSpread = Collections.unmodifiableList(spread);
+
+            this.catalog = new Catalog();
+            readEntries(mapped);
+        } catch (BufferUnderflowException e) {
+            throw new IOException(path + " is cut short or corrupt!", e);
+        }
+        this.catalog.freeze(new StatBlock(this.getStat().view(),
+                setCharacterStartingHitpoints()));
+        this.xp = setCharacterStartingExperience();
+        this.dice = new DiceRoller(1);
+    }
+
+    /**
+     * Reads the stats, requirements, features and specialties into the catalog, binding each
+     * to the catalog's {@link SymbolTable} as it goes.
+     *
+     * @param in the mapped file, positioned at the first stat
+     * @throws IOException if a count, reference or adjustment kind in the file is corrupt
+     */
+    private void readEntries(ByteBuffer in) throws IOException {
+        SymbolTable symbols = this.catalog.getSymbols();
+
+        for (int i = readCount(in); i > 0; i--) {
+            String statName = readString(in);
+            String description = readString(in);
+            int min = in.getInt();
+            int max = in.getInt();
+            int current = in.getInt();
+            this.getStat().add(new Stat(statName, description, min, max, current));
+            symbols.intern(SymbolTable.Kind.STAT, statName);
+        }
+
+        Requirement[] requirements = new Requirement[readCount(in)];
+        for (int i = 0; i < requirements.length; i++) {
+            Requirement requirement = new Requirement(readString(in), readString(in), in.getInt());
+            requirement.bind(symbols);
+            requirements[i] = requirement;
+            this.getRequirement().add(requirement);
+        }
+
+        Feature[] features = new Feature[readCount(in)];
+        for (int i = 0; i < features.length; i++) {
+            Feature feature = new Feature(readString(in), lazyString(in));
+            for (int count = readCount(in); count > 0; count--) {
+                feature.addRequirement(requirements[readIndex(in, requirements.length)]);
+            }
+            for (int count = readCount(in); count > 0; count--) {
+                byte kind = in.get();
+                if (kind == STAT_ADJUSTMENT) {
+                    feature.addAdjustment(new StatAdjustment(readString(in), in.getInt()));
+                } else if (kind == MAX_HP_ADJUSTMENT) {
+                    feature.addAdjustment(new MaxHpAdjustment(in.getInt()));
+                } else if (kind == MAX_XP_ADJUSTMENT) {
+                    feature.addAdjustment(new MaxXpAdjustment(in.getInt()));
+                } else {
+                    throw new IOException("Unknown adjustment kind " + kind);
+                }
+            }
+            feature.bind(symbols);
+            features[i] = feature;
+            this.getFeature().add(feature);
+        }
+
+        for (int i = readCount(in); i > 0; i--) {
+            Specialty specialty = new Specialty(readString(in), lazyString(in));
+            for (int count = readCount(in); count > 0; count--) {
+                specialty.addRequirement(requirements[readIndex(in, requirements.length)]);
+            }
+            for (int count = readCount(in); count > 0; count--) {
+                specialty.addFeature(features[readIndex(in, features.length)]);
+            }
+            specialty.bind(symbols);
+            this.getSpecialty().add(specialty);
+        }
+    }
+
+    /**
+     * Reads how many of something follow. Every item takes at least one byte, so a count
+     * larger than the bytes left in the file is corrupt.
+     *
+     * @param in the mapped file, positioned at the count
+     * @return the count
+     * @throws IOException if the count is negative or larger than the rest of the file
+     */
+    private static int readCount(ByteBuffer in) throws IOException {
+        int count = in.getInt();
+        if (count < 0 || count > in.remaining()) {
+            throw new IOException("Count " + count + " at byte " + (in.position() - 4)
+                    + " is corrupt!");
+        }
+        return count;
+    }
+
+    /**
+     * Reads a reference to an earlier entry by its position.
+     *
+     * @param in     the mapped file, positioned at the reference
+     * @param length how many entries there are to refer to
+     * @return the position referred to
+     * @throws IOException if the position is not one of the entries
+     */
+    private static int readIndex(ByteBuffer in, int length) throws IOException {
+        int index = in.getInt();
+        if (index < 0 || index >= length) {
+            throw new IOException("Reference " + index + " at byte " + (in.position() - 4)
+                    + " is corrupt!");
+        }
+        return index;
+    }
+
+    /**
+     * Reads a string reference and decodes the string straight away.
+     *
+     * @param in the mapped file, positioned at the reference
+     * @return the decoded string
+     * @throws IOException if the reference is not within the string section
+     */
+    private String readString(ByteBuffer in) throws IOException {
+        int offset = in.getInt();
+        int length = in.getInt();
+        checkString(offset, length, in.position() - 8);
+        return decode(offset, length);
+    }
+
+    /**
+     * Reads a string reference, leaving the string to be decoded when first asked for.
+     *
+     * @param in the mapped file, positioned at the reference
+     * @return supplies the decoded string
+     * @throws IOException if the reference is not within the string section
+     */
+    private Supplier<String> lazyString(ByteBuffer in) throws IOException {
+        int offset = in.getInt();
+        int length = in.getInt();
+        checkString(offset, length, in.position() - 8);
+        return () -> decode(offset, length);
+    }
+
+    /**
+     * Checks that a string reference lies within the string section.
+     *
+     * @param offset where the string starts in the string section
+     * @param length the length of the string in bytes
+     * @param at     where the reference was read from, for the error message
+     * @throws IOException if the offset or length is negative or the string runs past the end
+     *                     of the file
+     */
+    private void checkString(int offset, int length, int at) throws IOException {
+        if (offset < 0 || length < 0
+                || (long) this.strings + offset + length > this.file.limit()) {
+            throw new IOException("String reference at byte " + at + " is corrupt!");
+        }
+    }
+
+    /**
+     * Decodes a string from the string section. Only absolute reads are used, so this is
+     * safe to call from several threads at once.
+     *
+     * @param offset where the string starts in the string section
+     * @param length the length of the string in bytes
+     * @return the decoded string
+     */
+    private String decode(int offset, int length) {
+        byte[] bytes = new byte[length];
+        this.file.get(this.strings + offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the {@link DiceRoller} assigned to this ruleset.
+     * @return the dice roller.
+     */
+    @Override
+    public DiceRoller getDiceRoller() {
+        return this.dice;
+    }
+
+    /**
+     * Gets the name of the rulebook.
+     *
+     * @return name of the rulebook
+     */
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets the edition of the rulebook.
+     *
+     * @return edition of the rulebook
+     */
+    @Override
+    public double getEdition() {
+        return this.edition;
+    }
+
+    /**
+     * Gets the {@link SymbolTable} built while loading the catalog.
+     *
+     * @return the symbol table for this ruleset
+     */
+    @Override
+    public SymbolTable getSymbols() {
+        return this.catalog.getSymbols();
+    }
+
+    /**
+     * Gets the starting stats and hitpoints loaded from the catalog.
+     *
+     * @return the catalog's frozen default {@link StatBlock}
+     */
+    @Override
+    protected StatBlock getDefaultStatBlock() {
+        return this.catalog.getDefaultStatBlock();
+    }
+
+    /**
+     * Gets the feature eligibility bitmaps for the loaded catalog.
+     *
+     * @return the catalog's feature eligibility bitmaps
+     */
+    @Override
+    public EligibilityBitmaps<Feature> getFeatureEligibilityBitmaps() {
+        return this.catalog.getFeatureEligibilityBitmaps();
+    }
+
+    /**
+     * Gets the specialty eligibility bitmaps for the loaded catalog.
+     *
+     * @return the catalog's specialty eligibility bitmaps
+     */
+    @Override
+    public EligibilityBitmaps<Specialty> getSpecialtyEligibilityBitmaps() {
+        return this.catalog.getSpecialtyEligibilityBitmaps();
+    }
+
+    /**
+     * Gets a list of every {@link Feature} in the game.
+     *
+     * @return a List of every feature that exists for this ruleset.
+     */
+    @Override
+    public List<Feature> getFeaturesReference() {
+        return this.getFeature().all();
+    }
+
+    /**
+     * Get the rulebooks initial {@link Experience} reference.
+     *
+     * @return the rulebooks initial {@link Experience} reference.
+     */
+    @Override
+    public Experience getExperienceReference() {
+        return this.xp;
+    }
+
+    /**
+     * gets the number of features a starting character gets to pick
+     *
+     * @return the number of features a starting character gets to pick
+     */
+    @Override
+    public int getFeaturePickCount() {
+        return this.featurePickCount;
+    }
+
+    /**
+     * Returns the spread of values to allocate to a {@link Character}'s initial primary stats.
+     *
+     * @return a new List of the values loaded from the catalog
+     */
+    @Override
+    public List<Integer> getStatSpreadReference() {
+        return new ArrayList<>(this.statSpread);
+    }
+
+    /**
+     * Get a list of every {@link Specialty} in the game that the given {@link Character}
+     * meets the {@link Requirement}s for.
+     *
+     * @param character the character whose stats are checked
+     * @return a List of every specialty the character is qualified for
+     */
+    @Override
+    public List<Specialty> getSpecialtiesFilteredByRequirements(Character character) {
+        return character.getSpecialtyEligibility(
+                this.catalog.getSpecialtyDependencies()).eligible(character);
+    }
+
+    /**
+     * Get a list of every {@link Feature} in the game that the given {@link Character}
+     * meets the {@link Requirement}s for.
+     *
+     * @param character the character whose stats are checked
+     * @return a List of every feature the character is qualified for
+     */
+    @Override
+    public List<Feature> getFeaturesFilteredByRequirements(Character character) {
+        return character.getFeatureEligibility(
+                this.catalog.getFeatureDependencies()).eligible(character);
+    }
+
+    /**
+     * Returns the stats loaded from the catalog.
+     *
+     * @return a new List of the loaded stats
+     */
+    @Override
+    protected List<Stat> createAndGetStats() {
+        return this.getStat().all();
+    }
+
+    @Override
+    protected Hitpoints setCharacterStartingHitpoints() {
+        return new Hitpoints(this.startingHpMax, this.startingHpCurrent);
+    }
+
+    @Override
+    protected Experience setCharacterStartingExperience() {
+        return new Experience(this.startingXpMax, this.startingXpCurrent);
+    }
+
+    /**
+     * Returns the features loaded from the catalog.
+     *
+     * @return a new List of the loaded features
+     */
+    @Override
+    protected List<Feature> createAndGetFeatures() {
+        return this.getFeature().all();
+    }
+
+    /**
+     * Returns the specialties loaded from the catalog.
+     *
+     * @return a new List of the loaded specialties
+     */
+    @Override
+    protected List<Specialty> createAndGetSpecialties() {
+        return this.getSpecialty().all();
+    }
+
+    /**
+     * Returns the requirements loaded from the catalog.
+     *
+     * @return a new List of the loaded requirements
+     */
+    @Override
+    protected List<Requirement> createAndGetRequirements() {
+        return this.getRequirement().all();
+    }
+
+    @Override
+    protected EntryManager<Stat> getStat() {
+        return this.catalog.getStats();
+    }
+
+    @Override
+    protected EntryManager<Feature> getFeature() {
+        return this.catalog.getFeatures();
+    }
+
+    @Override
+    protected EntryManager<Specialty> getSpecialty() {
+        return this.catalog.getSpecialties();
+    }
+
+    @Override
+    protected EntryManager<Requirement> getRequirement() {
+        return this.catalog.getRequirements();
+    }
+
+    /**
+     * Gets a list of every {@link Stat} in the game.
+     *
+     * @return a List of every stat that exists for this ruleset.
+     */
+    @Override
+    public List<Stat> getStatReference() {
+        return this.getStat().all();
+    }
+
+    /**
+     * Get a list of every {@link Specialty} in the game.
+     *
+     * @return a List of every specialty that exists for this ruleset.
+     */
+    @Override
+    public List<Specialty> getSpecialtiesReference() {
+        return this.getSpecialty().all();
+    }
+
+    /**
+     * Get a {@link Specialty} from rulebook specified by its exact name.
+     * @param specialtyName name of the specialty wanting to find
+     * @return the {@link Specialty} from the rulebook
+     */
+    @Override
+    public Specialty getSpecialtyByName(String specialtyName) {
+        return exactly(this.getSpecialty(), specialtyName, "no specialty by that name!");
+    }
+
+    /**
+     * Get a {@link Feature} from rulebook specified by its exact name.
+     * @param featureName name of the feature wanting to find
+     * @return the {@link Feature} from the rulebook
+     */
+    @Override
+    public Feature getFeatureByName(String featureName) {
+        return exactly(this.getFeature(), featureName, "no feature by that name!");
+    }
+}
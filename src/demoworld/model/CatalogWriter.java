@@ -0,0 +1,250 @@
+package demoworld.model;
+
+import demoworld.model.adjustments.Adjustment;
+import demoworld.model.adjustments.MaxHpAdjustment;
+import demoworld.model.adjustments.MaxXpAdjustment;
+import demoworld.model.adjustments.StatAdjustment;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the contents of a {@link RuleBook} to a binary catalog file that a
+ * {@link CatalogRuleBook} can load.
+ * The file starts with the entries themselves, in which every string is stored as an offset
+ * and length into a string section at the end of the file. That way a reader can walk the
+ * entries without touching the descriptions, which make up most of the file, and decode each
+ * description only when it is first asked for. Strings that occur more than once are stored
+ * once. All numbers are big-endian.
+ */
+public class CatalogWriter {
+
+    /**
+     * The entries, written first.
+     */
+    private final ByteArrayOutputStream entryBytes;
+
+    /**
+     * A stream over {@code entryBytes}.
+     */
+    private final DataOutputStream entries;
+
+    /**
+     * The UTF-8 bytes of every string, written last.
+     */
+    private final ByteArrayOutputStream strings;
+
+    /**
+     * The offset of each string already in {@code strings}.
+     */
+    private final Map<String, Integer> stringOffsets;
+
+    /**
+     * Constructs an empty CatalogWriter.
+     */
+    private CatalogWriter() {
+        this.entryBytes = new ByteArrayOutputStream();
+        this.entries = new DataOutputStream(entryBytes);
+        this.strings = new ByteArrayOutputStream();
+        this.stringOffsets = new HashMap<>();
+    }
+
+    /**
+     * Writes the stats, requirements, features and specialties of a rulebook, along with its
+     * starting values, to a catalog file.
+     *
+     * @param rulebook the rulebook to write out
+     * @param file     the file to write, replacing it if it exists
+     * @throws IOException           if the file cannot be written
+     * @throws IllegalStateException if the rulebook uses an {@link Adjustment} the catalog
+     *                               format cannot hold, or a specialty grants a feature the
+     *                               rulebook does not have
+     */
+    public static void write(RuleBook rulebook, Path file)
+            throws IOException, IllegalStateException {
+        CatalogWriter writer = new CatalogWriter();
+        writer.writeRuleBook(rulebook);
+        writer.entries.flush();
+        try (OutputStream out = Files.newOutputStream(file)) {
+            DataOutputStream header = new DataOutputStream(out);
+            header.writeInt(CatalogRuleBook.MAGIC);
+            header.writeInt(CatalogRuleBook.VERSION);
+            header.writeInt(CatalogRuleBook.HEADER_SIZE + writer.entryBytes.size());
+            writer.entryBytes.writeTo(header);
+            writer.strings.writeTo(header);
+            header.flush();
+        }
+    }
+
+    /**
+     * Writes every part of the rulebook to the entry section.
+     *
+     * @param rulebook the rulebook to write out
+     * @throws IOException never, as the sections are held in memory
+     */
+    private void writeRuleBook(RuleBook rulebook) throws IOException {
+        writeString(rulebook.getName());
+        entries.writeDouble(rulebook.getEdition());
+        entries.writeInt(rulebook.getFeaturePickCount());
+        Hitpoints hitpoints = rulebook.setCharacterStartingHitpoints();
+        entries.writeInt(hitpoints.getBase().max());
+        entries.writeInt(hitpoints.getBase().current());
+        Experience experience = rulebook.setCharacterStartingExperience();
+        entries.writeInt(experience.max());
+        entries.writeInt(experience.current());
+
+        List<Integer> spread = rulebook.getStatSpreadReference();
+        entries.writeInt(spread.size());
+        for (int amount : spread) {
+            entries.writeInt(amount);
+        }
+
+        EntryManager<Stat> stats = rulebook.getStat();
+        entries.writeInt(stats.size());
+        for (Stat stat : stats) {
+            writeString(stat.getName());
+            writeString(stat.getDescription());
+            entries.writeInt(stat.getBase().min());
+            entries.writeInt(stat.getBase().max());
+            entries.writeInt(stat.getBase().current());
+        }
+
+        // requirements are shared between entries, so each is written once and referred to by
+        // position; requirements an entry holds that the rulebook does not are added on the end
+        List<Requirement> requirements = new ArrayList<>();
+        Map<Requirement, Integer> requirementIds = new IdentityHashMap<>();
+        collect(rulebook.getRequirement().view(), requirements, requirementIds);
+        for (Feature feature : rulebook.getFeature()) {
+            collect(feature.getRequirements(), requirements, requirementIds);
+        }
+        for (Specialty specialty : rulebook.getSpecialty()) {
+            collect(specialty.getRequirements(), requirements, requirementIds);
+        }
+        entries.writeInt(requirements.size());
+        for (Requirement requirement : requirements) {
+            writeString(requirement.getName());
+            writeString(requirement.getStatKey());
+            entries.writeInt(requirement.getThreshold());
+        }
+
+        Map<Feature, Integer> featureIds = new IdentityHashMap<>();
+        entries.writeInt(rulebook.getFeature().size());
+        for (Feature feature : rulebook.getFeature()) {
+            featureIds.put(feature, featureIds.size());
+            writeString(feature.getName());
+            writeString(feature.getDescription());
+            writeRequirements(feature, requirementIds);
+            List<Adjustment> adjustments = feature.getAdjustments();
+            entries.writeInt(adjustments.size());
+            for (Adjustment adjustment : adjustments) {
+                writeAdjustment(feature, adjustment);
+            }
+        }
+
+        entries.writeInt(rulebook.getSpecialty().size());
+        for (Specialty specialty : rulebook.getSpecialty()) {
+            writeString(specialty.getName());
+            writeString(specialty.getDescription());
+            writeRequirements(specialty, requirementIds);
+            List<Feature> features = specialty.getFeatures();
+            entries.writeInt(features.size());
+            for (Feature feature : features) {
+                Integer id = featureIds.get(feature);
+                if (id == null) {
+                    throw new IllegalStateException("Specialty " + specialty.getName()
+                            + " grants feature " + feature.getName()
+                            + " which is not in the rulebook!");
+                }
+                entries.writeInt(id);
+            }
+        }
+    }
+
+    /**
+     * Adds any of the given requirements that have not been seen yet.
+     *
+     * @param found          the requirements to add
+     * @param requirements   every requirement, in the order they will be written
+     * @param requirementIds the position of each requirement in {@code requirements}
+     */
+    private static void collect(List<Requirement> found, List<Requirement> requirements,
+                                Map<Requirement, Integer> requirementIds) {
+        for (Requirement requirement : found) {
+            if (!requirementIds.containsKey(requirement)) {
+                requirementIds.put(requirement, requirements.size());
+                requirements.add(requirement);
+            }
+        }
+    }
+
+    /**
+     * Writes the positions of the requirements of an entry.
+     *
+     * @param entry          the entry whose requirements are written
+     * @param requirementIds the position of each requirement
+     * @throws IOException never, as the sections are held in memory
+     */
+    private void writeRequirements(HasRequirements entry, Map<Requirement, Integer> requirementIds)
+            throws IOException {
+        List<Requirement> requirements = entry.getRequirements();
+        entries.writeInt(requirements.size());
+        for (Requirement requirement : requirements) {
+            entries.writeInt(requirementIds.get(requirement));
+        }
+    }
+
+    /**
+     * Writes one adjustment as its kind followed by its values.
+     *
+     * @param feature    the feature the adjustment belongs to, for error messages
+     * @param adjustment the adjustment to write
+     * @throws IOException           never, as the sections are held in memory
+     * @throws IllegalStateException if the catalog format cannot hold the adjustment
+     */
+    private void writeAdjustment(Feature feature, Adjustment adjustment)
+            throws IOException, IllegalStateException {
+        if (adjustment instanceof StatAdjustment) {
+            StatAdjustment statAdjustment = (StatAdjustment) adjustment;
+            entries.writeByte(CatalogRuleBook.STAT_ADJUSTMENT);
+            writeString(statAdjustment.getStatKey());
+            entries.writeInt(statAdjustment.getValue());
+        } else if (adjustment instanceof MaxHpAdjustment) {
+            entries.writeByte(CatalogRuleBook.MAX_HP_ADJUSTMENT);
+            entries.writeInt(((MaxHpAdjustment) adjustment).getValue());
+        } else if (adjustment instanceof MaxXpAdjustment) {
+            entries.writeByte(CatalogRuleBook.MAX_XP_ADJUSTMENT);
+            entries.writeInt(((MaxXpAdjustment) adjustment).getValue());
+        } else {
+            throw new IllegalStateException("Feature " + feature.getName() + " has an "
+                    + adjustment.getClass().getSimpleName() + " which cannot be written!");
+        }
+    }
+
+    /**
+     * Writes a reference to a string, adding the string to the string section if it is new.
+     *
+     * @param value the string to refer to
+     * @throws IOException never, as the sections are held in memory
+     */
+    private void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        Integer offset = stringOffsets.get(value);
+        if (offset == null) {
+            offset = strings.size();
+            strings.write(bytes);
+            stringOffsets.put(value, offset);
+        }
+        entries.writeInt(offset);
+        entries.writeInt(bytes.length);
+    }
+}
@@ -1,5 +1,12 @@
 package demoworld.model;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 /**
  * A representation of a characters state in a rpg game
  */
@@ -15,9 +22,16 @@ public class Character {
     private final RuleBook rulebook;
 
     /**
-     * An entry manager that holds all the stats related to the character.
+     * The compact block holding the values of all the stats and the hitpoints of the character.
+     * It shares the rulebook's defaults until the character first changes them.
+     */
+    private final StatBlock stats;
+
+    /**
+     * An entry manager of {@link Stat} views onto {@code stats}, created the first time
+     * {@link #getStat()} is called.
      */
-    private final EntryManager<Stat> stats;
+    private EntryManager<Stat> statViews;
 
     /**
      * An entry manager that holds all the features that have been added to the character.
@@ -30,14 +44,74 @@ public class Character {
     private final EntryManager<Specialty> specialties;
 
     /**
-     * Represents the hitpoints (HP) of the character.
+     * Represents the experience points (XP) of the character.
      */
-    private final Hitpoints hitpoints;
+    private final Experience experience;
 
     /**
-     * Represents the experience points (XP) of the character.
+     * Which of the rulebook's features the character is eligible for, kept up to date as the
+     * character's stats change. Created the first time it is asked for.
      */
-    private final Experience experience;
+    private Eligibility<Feature> featureEligibility;
+
+    /**
+     * Which of the rulebook's specialties the character is eligible for, kept up to date as
+     * the character's stats change. Created the first time it is asked for.
+     */
+    private Eligibility<Specialty> specialtyEligibility;
+
+    /**
+     * The batch collecting adjustments until it is closed, or null when none is open.
+     */
+    private Batch batch;
+
+    /**
+     * How many of the character's specialties grant each feature, plus one if the feature was
+     * added directly, indexed by feature id. Created the first time a feature is granted.
+     */
+    private int[] grants;
+
+    /**
+     * The listeners told whenever part of the character changes.
+     */
+    private final List<CharacterListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * How many times the character's features, specialties or grant counts have changed.
+     */
+    private long membership;
+
+    /**
+     * The last snapshot taken or restored, or null before the first.
+     */
+    private CharacterSnapshot snapshot;
+
+    /**
+     * The value of {@code membership} when {@code snapshot} was taken.
+     */
+    private long snapshotMembership;
+
+    /**
+     * The first position in the features that has changed since {@code snapshot} was taken,
+     * or {@link Integer#MAX_VALUE} if none has.
+     */
+    private int featuresChangedFrom;
+
+    /**
+     * The first position in the specialties that has changed since {@code snapshot} was
+     * taken, or {@link Integer#MAX_VALUE} if none has.
+     */
+    private int specialtiesChangedFrom;
+
+    /**
+     * The stat block's version when {@code snapshot} was taken.
+     */
+    private long snapshotStatsVersion;
+
+    /**
+     * The version of each stat block slot when {@code snapshot} was taken.
+     */
+    private long[] snapshotSlotVersions;
 
 
     /**
@@ -49,20 +123,51 @@ public class Character {
     public Character(String name, RuleBook rulebook) {
         this.name = name;
         this.rulebook = rulebook;
-        this.stats = rulebook.getStat();
+        this.stats = new StatBlock(rulebook.getDefaultStatBlock());
+        this.stats.setListener(slot -> changed(slot == this.stats.hitpointsSlot()
+                ? CharacterChange.HITPOINTS : CharacterChange.STATS));
         this.features = new EntryManager<>();
         this.specialties = new EntryManager<>();
-        this.hitpoints = rulebook.setCharacterStartingHitpoints();
-        this.experience = rulebook.setCharacterStartingExperience();
+        this.experience = new ObservedExperience(rulebook.setCharacterStartingExperience());
+    }
+
+    /**
+     * Adds a listener to be told whenever part of the character changes.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(CharacterListener listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addListener(CharacterListener)}.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(CharacterListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * Tells every listener that part of the character changed.
+     *
+     * @param change the part that changed
+     */
+    private void changed(CharacterChange change) {
+        for (CharacterListener listener : this.listeners) {
+            listener.characterChanged(this, change);
+        }
     }
 
     /**
      * Gets the Hitpoints Stat from the Character.
+     * The Hitpoints returned is a view onto the character's {@link StatBlock}.
      *
      * @return reference to the Hitpoints Stat from the Character
      */
     public Hitpoints getHitpoints() {
-        return this.hitpoints;
+        return this.stats.hitpoints();
     }
 
     /**
@@ -71,7 +176,10 @@ public class Character {
      * @param name the name to assign to this Character.
      */
     public void setName(String name) {
-        this.name = name;
+        if (!Objects.equals(this.name, name)) {
+            this.name = name;
+            changed(CharacterChange.NAME);
+        }
     }
 
     /**
@@ -85,21 +193,56 @@ public class Character {
 
     /**
      * Gets the EntryManager for the character
+     * The Stats it holds are views onto the character's {@link StatBlock}.
      *
      * @return reference to the characters EntryManager
      */
     public EntryManager<Stat> getStat() {
+        if (this.statViews == null) {
+            this.statViews = new EntryManager<>();
+            for (int slot = 0; slot < this.stats.size(); slot++) {
+                this.statViews.add(this.stats.stat(slot));
+            }
+        }
+        return this.statViews;
+    }
+
+    /**
+     * Gets the compact block holding the values of the character's stats and hitpoints.
+     *
+     * @return reference to the characters StatBlock
+     */
+    public StatBlock getStatBlock() {
         return this.stats;
     }
 
     /**
      * Gets the Stat with the given name from the character.
+     * The Stat returned is a view onto the character's {@link StatBlock}.
      *
      * @param name name of stat looking for
      * @return the Stat with the given name from the character.
+     * @throws IllegalStateException if the character has no stat with the given name
      */
-    public Stat getStatByName(String name) {
-        return this.stats.byName(name);
+    public Stat getStatByName(String name) throws IllegalStateException {
+        int slot = name == null ? SymbolTable.UNRESOLVED
+                : this.rulebook.getSymbols().idOf(SymbolTable.Kind.STAT, name);
+        if (slot == SymbolTable.UNRESOLVED || slot >= this.stats.size()) {
+            throw new IllegalStateException("Entry with name " + name + " does not exist!");
+        }
+        return this.stats.stat(slot);
+    }
+
+    /**
+     * Gets the Stat in the given stat slot from the character. Stat slots are the ids the
+     * rulebook's {@link SymbolTable} gave each stat name, which follow the order the rulebook
+     * lists its stats in.
+     *
+     * @param slot the stat slot of the stat looking for
+     * @return the Stat in the given slot from the character.
+     */
+    public Stat getStatBySlot(int slot) {
+        return this.stats.stat(slot);
     }
 
     /**
@@ -120,6 +263,33 @@ public class Character {
         return this.specialties;
     }
 
+    /**
+     * Returns the tracker of which features in the given index this character is eligible for.
+     *
+     * @param index the rulebook's features, indexed by the stats their requirements read
+     * @return the eligibility tracker for that index
+     */
+    Eligibility<Feature> getFeatureEligibility(DependencyIndex<Feature> index) {
+        if (this.featureEligibility == null || this.featureEligibility.getIndex() != index) {
+            this.featureEligibility = new Eligibility<>(index);
+        }
+        return this.featureEligibility;
+    }
+
+    /**
+     * Returns the tracker of which specialties in the given index this character is eligible
+     * for.
+     *
+     * @param index the rulebook's specialties, indexed by the stats their requirements read
+     * @return the eligibility tracker for that index
+     */
+    Eligibility<Specialty> getSpecialtyEligibility(DependencyIndex<Specialty> index) {
+        if (this.specialtyEligibility == null || this.specialtyEligibility.getIndex() != index) {
+            this.specialtyEligibility = new Eligibility<>(index);
+        }
+        return this.specialtyEligibility;
+    }
+
     /**
      * Gets the characters Experience object
      *
@@ -135,8 +305,8 @@ public class Character {
      * @param specialty the Specialty being added to the character
      */
     public void addSpecialty(Specialty specialty) {
-        if (!this.specialties.all().contains(specialty)) {
-            this.specialties.add(specialty);
+        if (!this.specialties.contains(specialty)) {
+            holdSpecialty(specialty);
             specialty.adjust(this);
         }
     }
@@ -147,33 +317,397 @@ public class Character {
      * @param specialty the Specialty being removed from the character
      */
     public void removeSpecialty(Specialty specialty) {
-        if (this.specialties.all().contains(specialty)) {
+        if (this.specialties.contains(specialty)) {
             specialty.unadjust(this);
-            this.specialties.remove(specialty);
+            dropSpecialty(specialty);
         }
     }
 
     /**
      * adds a feature to the character if they do not already have it and adjusts
-     * the character based on that feature
+     * the character based on that feature. A feature added this way counts as one grant, so
+     * it stays when a specialty that also grants it is removed.
      * @param feature the Feature to add.
      */
     public void addFeature(Feature feature) {
-        if (!this.features.all().contains(feature)) {
-            this.features.add(feature);
-            feature.adjust(this);
+        if (!this.features.contains(feature)) {
+            addGrant(feature.getId(), 1);
+            gainFeature(feature);
+        }
+    }
+
+    /**
+     * Adds a feature to the character and adjusts the character by it, without counting a
+     * grant.
+     *
+     * @param feature the feature, which the character does not hold
+     */
+    private void gainFeature(Feature feature) {
+        holdFeature(feature);
+        adjustBy(feature, feature.getAdjustmentVector(), 1);
+    }
+
+    /**
+     * Grants the features of a specialty. Each feature counts how many of the character's
+     * specialties grant it, and is added the first time it is granted. When the character holds
+     * none of the features yet, their combined adjustments are applied in one step.
+     *
+     * @param granted  the features granted, in order
+     * @param combined the combined adjustments of the distinct features in {@code granted}
+     */
+    void grantFeatures(List<Feature> granted, AdjustmentVector combined) {
+        boolean noneHeld = true;
+        for (Feature feature : granted) {
+            noneHeld &= !this.features.contains(feature);
+            addGrant(feature.getId(), 1);
+        }
+        if (noneHeld) {
+            for (Feature feature : granted) {
+                if (!this.features.contains(feature)) {
+                    holdFeature(feature);
+                }
+            }
+            adjustBy(combined, combined, 1);
+            return;
+        }
+        for (Feature feature : granted) {
+            if (!this.features.contains(feature)) {
+                gainFeature(feature);
+            }
         }
     }
 
     /**
-     * removes a feature to the character and unadjusts the character based on that feature
+     * Revokes the features a specialty granted. A feature is only removed once no specialty
+     * the character still has grants it. When every one of the features is removed, their
+     * combined adjustments are taken away in one step.
+     *
+     * @param revoked  the features revoked
+     * @param combined the combined adjustments of the distinct features in {@code revoked}
+     */
+    void revokeFeatures(List<Feature> revoked, AdjustmentVector combined) {
+        boolean allRemoved = true;
+        for (Feature feature : revoked) {
+            addGrant(feature.getId(), -1);
+        }
+        for (Feature feature : revoked) {
+            allRemoved &= grantCount(feature) == 0 && this.features.contains(feature);
+        }
+        if (allRemoved) {
+            adjustBy(combined, combined, -1);
+            for (Feature feature : revoked) {
+                dropFeature(feature);
+            }
+            return;
+        }
+        for (Feature feature : revoked) {
+            if (grantCount(feature) == 0) {
+                removeFeature(feature);
+            }
+        }
+    }
+
+    /**
+     * Returns how many of the character's specialties grant a feature, plus one if it was added
+     * directly. Features that are not bound to the rulebook's symbols are not counted, and
+     * report zero.
+     *
+     * @param feature the feature
+     * @return the number of grants holding it
+     */
+    public int grantCount(Feature feature) {
+        int id = feature.getId();
+        return id < 0 || this.grants == null || id >= this.grants.length ? 0 : this.grants[id];
+    }
+
+    /**
+     * Adds to the grant count of a feature, never letting it drop below zero.
+     *
+     * @param id    the feature id, or {@link SymbolTable#UNRESOLVED} to count nothing
+     * @param delta 1 to grant the feature, -1 to revoke it
+     */
+    private void addGrant(int id, int delta) {
+        if (id < 0) {
+            return;
+        }
+        if (this.grants == null || id >= this.grants.length) {
+            int size = Math.max(id + 1, this.rulebook.getSymbols().size(SymbolTable.Kind.FEATURE));
+            this.grants = this.grants == null ? new int[size] : Arrays.copyOf(this.grants, size);
+        }
+        this.grants[id] = Math.max(0, this.grants[id] + delta);
+        this.membership++;
+    }
+
+    /**
+     * removes a feature to the character and unadjusts the character based on that feature.
+     * Every grant of the feature is dropped with it, so removing a specialty that grants it
+     * later does not count it down again.
      *
      * @param feature the Feature being removed from the character
      */
     public void removeFeature(Feature feature) {
-        if (this.features.all().contains(feature)) {
-            feature.unadjust(this);
-            this.features.remove(feature);
+        if (this.features.contains(feature)) {
+            adjustBy(feature, feature.getAdjustmentVector(), -1);
+            dropFeature(feature);
+            int granted = grantCount(feature);
+            if (granted > 0) {
+                addGrant(feature.getId(), -granted);
+            }
+        }
+    }
+
+    /**
+     * Adds a feature to the end of the character's features, without adjusting the character.
+     *
+     * @param feature the feature to add
+     */
+    private void holdFeature(Feature feature) {
+        this.features.add(feature);
+        this.featuresChangedFrom = Math.min(this.featuresChangedFrom, this.features.size() - 1);
+        this.membership++;
+        changed(CharacterChange.FEATURES);
+    }
+
+    /**
+     * Removes a feature from the character's features, without adjusting the character.
+     *
+     * @param feature the feature to remove
+     */
+    private void dropFeature(Feature feature) {
+        int position = this.features.view().indexOf(feature);
+        this.features.remove(feature);
+        this.featuresChangedFrom = Math.min(this.featuresChangedFrom, position);
+        this.membership++;
+        changed(CharacterChange.FEATURES);
+    }
+
+    /**
+     * Adds a specialty to the end of the character's specialties, without adjusting the
+     * character.
+     *
+     * @param specialty the specialty to add
+     */
+    private void holdSpecialty(Specialty specialty) {
+        this.specialties.add(specialty);
+        this.specialtiesChangedFrom = Math.min(this.specialtiesChangedFrom,
+                this.specialties.size() - 1);
+        this.membership++;
+        changed(CharacterChange.SPECIALTIES);
+    }
+
+    /**
+     * Removes a specialty from the character's specialties, without adjusting the character.
+     *
+     * @param specialty the specialty to remove
+     */
+    private void dropSpecialty(Specialty specialty) {
+        int position = this.specialties.view().indexOf(specialty);
+        this.specialties.remove(specialty);
+        this.specialtiesChangedFrom = Math.min(this.specialtiesChangedFrom, position);
+        this.membership++;
+        changed(CharacterChange.SPECIALTIES);
+    }
+
+    /**
+     * Applies or undoes an adjustment straight away, or leaves it for the open batch to
+     * reconcile when it is closed.
+     *
+     * @param adjuster the adjuster to apply when no batch is open
+     * @param vector   the net effect of {@code adjuster}
+     * @param sign     1 to apply the adjustment, -1 to undo it
+     */
+    private void adjustBy(Adjuster adjuster, AdjustmentVector vector, int sign) {
+        if (this.batch != null) {
+            this.batch.collect(vector, sign);
+        } else if (sign > 0) {
+            adjuster.adjust(this);
+        } else {
+            adjuster.unadjust(this);
+        }
+    }
+
+    /**
+     * Opens a batch. Until the batch is closed, features and specialties are still added and
+     * removed straight away, but the changes they make to stats, maximum hitpoints and
+     * maximum experience are only summed. Closing the batch applies the net change once.
+     * Opening a batch while one is already open joins it, and only closing the outermost
+     * batch applies the changes.
+     *
+     * @return the batch, to be closed once every change has been made
+     */
+    public Batch batch() {
+        if (this.batch == null) {
+            this.batch = new Batch();
+        }
+        this.batch.depth++;
+        return this.batch;
+    }
+
+    /**
+     * Adds the given specialties and then the given features inside a single batch, so the
+     * adjustments they make are reconciled once at the end.
+     *
+     * @param addedSpecialties the specialties to add, in order
+     * @param addedFeatures    the features to add, in order
+     */
+    public void applyAll(Iterable<Specialty> addedSpecialties, Iterable<Feature> addedFeatures) {
+        Batch changes = batch();
+        try {
+            for (Specialty specialty : addedSpecialties) {
+                addSpecialty(specialty);
+            }
+            for (Feature feature : addedFeatures) {
+                addFeature(feature);
+            }
+        } finally {
+            changes.close();
+        }
+    }
+
+    /**
+     * Takes an immutable snapshot of the character's current state. If nothing has changed since
+     * the last snapshot, that snapshot is returned again. Otherwise the new snapshot is built
+     * from the last one, copying only the stat slots that have been written to and, if they
+     * changed, the features and specialties. Features and specialties are updated from the
+     * first position that changed, so adding one costs O(log n) and the rest is shared.
+     *
+     * @return a snapshot of the character
+     * @throws IllegalStateException if a batch is open, since the stats would not yet include
+     *                               the adjustments of the features added in it
+     */
+    public CharacterSnapshot snapshot() throws IllegalStateException {
+        if (this.batch != null) {
+            throw new IllegalStateException("Cannot snapshot a character while a batch is open!");
+        }
+        CharacterSnapshot last = this.snapshot;
+        if (last != null && this.snapshotStatsVersion == this.stats.version()
+                && this.snapshotMembership == this.membership
+                && last.getName().equals(this.name)
+                && last.getExperience() == this.experience.current()
+                && last.getMaxExperience() == this.experience.max()) {
+            return last;
+        }
+        int slotCount = this.stats.hitpointsSlot() + 1;
+        PersistentVector<int[]> slots;
+        if (last == null) {
+            slots = PersistentVector.empty();
+            this.snapshotSlotVersions = new long[slotCount];
+            for (int slot = 0; slot < slotCount; slot++) {
+                slots = slots.append(this.stats.row(slot));
+                this.snapshotSlotVersions[slot] = this.stats.version(slot);
+            }
+        } else {
+            slots = last.getSlots();
+            if (this.snapshotStatsVersion != this.stats.version()) {
+                for (int slot = 0; slot < slotCount; slot++) {
+                    if (this.snapshotSlotVersions[slot] != this.stats.version(slot)) {
+                        slots = slots.set(slot, this.stats.row(slot));
+                        this.snapshotSlotVersions[slot] = this.stats.version(slot);
+                    }
+                }
+            }
+        }
+        PersistentVector<Feature> heldFeatures;
+        PersistentVector<Specialty> heldSpecialties;
+        int[] heldGrants;
+        if (last == null) {
+            heldFeatures = PersistentVector.of(this.features);
+            heldSpecialties = PersistentVector.of(this.specialties);
+            heldGrants = this.grants == null ? null : this.grants.clone();
+        } else if (this.snapshotMembership != this.membership) {
+            heldFeatures = updated(last.getFeatures(), this.features, this.featuresChangedFrom);
+            heldSpecialties = updated(last.getSpecialties(), this.specialties,
+                    this.specialtiesChangedFrom);
+            heldGrants = this.grants == null ? null : this.grants.clone();
+        } else {
+            heldFeatures = last.getFeatures();
+            heldSpecialties = last.getSpecialties();
+            heldGrants = last.getGrants();
+        }
+        this.snapshot = new CharacterSnapshot(this.name, slots, this.experience.current(),
+                this.experience.max(), heldFeatures, heldSpecialties, heldGrants);
+        this.snapshotMembership = this.membership;
+        this.snapshotStatsVersion = this.stats.version();
+        this.featuresChangedFrom = Integer.MAX_VALUE;
+        this.specialtiesChangedFrom = Integer.MAX_VALUE;
+        return this.snapshot;
+    }
+
+    /**
+     * Brings a vector held by the last snapshot up to date with the entries it copied, keeping
+     * every element before the first position that changed.
+     *
+     * @param held        the vector held by the last snapshot
+     * @param current     the entries now
+     * @param changedFrom the first position that changed since the last snapshot
+     * @param <T>         the type of entry
+     * @return the updated vector
+     */
+    private static <T extends Named> PersistentVector<T> updated(PersistentVector<T> held,
+            EntryManager<T> current, int changedFrom) {
+        int keep = Math.min(changedFrom, Math.min(held.size(), current.size()));
+        while (held.size() > keep) {
+            held = held.pop();
+        }
+        for (int position = keep; position < current.size(); position++) {
+            held = held.append(current.get(position));
+        }
+        return held;
+    }
+
+    /**
+     * Puts the character back into the state held by a snapshot. Features and specialties are
+     * put back as they were without adjusting the character again, since the stats in the
+     * snapshot already include their adjustments.
+     *
+     * @param restored a snapshot taken from a character built from the same rulebook
+     * @throws IllegalStateException if a batch is open
+     */
+    public void restore(CharacterSnapshot restored) throws IllegalStateException {
+        if (this.batch != null) {
+            throw new IllegalStateException("Cannot restore a character while a batch is open!");
+        }
+        setName(restored.getName());
+        PersistentVector<int[]> slots = restored.getSlots();
+        for (int slot = 0; slot < slots.size(); slot++) {
+            if (!Arrays.equals(this.stats.row(slot), slots.get(slot))) {
+                this.stats.loadRow(slot, slots.get(slot));
+            }
+        }
+        this.experience.setMax(restored.getMaxExperience());
+        this.experience.setCurrent(restored.getExperience());
+        CharacterSnapshot last = this.snapshot;
+        boolean sameMembership = last != null && this.snapshotMembership == this.membership
+                && last.getFeatures() == restored.getFeatures()
+                && last.getSpecialties() == restored.getSpecialties()
+                && last.getGrants() == restored.getGrants();
+        if (!sameMembership) {
+            for (Feature feature : this.features.all()) {
+                this.features.remove(feature);
+            }
+            for (Feature feature : restored.getFeatures()) {
+                this.features.add(feature);
+            }
+            for (Specialty specialty : this.specialties.all()) {
+                this.specialties.remove(specialty);
+            }
+            for (Specialty specialty : restored.getSpecialties()) {
+                this.specialties.add(specialty);
+            }
+            int[] restoredGrants = restored.getGrants();
+            this.grants = restoredGrants == null ? null : restoredGrants.clone();
+            this.membership++;
+            changed(CharacterChange.FEATURES);
+            changed(CharacterChange.SPECIALTIES);
+        }
+        this.snapshot = restored;
+        this.snapshotMembership = this.membership;
+        this.featuresChangedFrom = Integer.MAX_VALUE;
+        this.specialtiesChangedFrom = Integer.MAX_VALUE;
+        this.snapshotStatsVersion = this.stats.version();
+        this.snapshotSlotVersions = new long[slots.size()];
+        for (int slot = 0; slot < slots.size(); slot++) {
+            this.snapshotSlotVersions[slot] = this.stats.version(slot);
         }
     }
 
@@ -183,7 +717,7 @@ public class Character {
      * @param value the amount of damage to be inflicted on the character
      */
     public void damage(int value) {
-        this.hitpoints.damage(value);
+        this.getHitpoints().damage(value);
         checkForDeath();
     }
 
@@ -191,7 +725,7 @@ public class Character {
      * Checks if the Character is dead, if so, adds the "downed" feature.
      */
     private void checkForDeath() {
-        if (this.hitpoints.isDead()) {
+        if (this.getHitpoints().isDead()) {
             Feature downed = this.rulebook.getFeatureByName("downed");
             this.addFeature(downed);
         }
@@ -203,8 +737,8 @@ public class Character {
      * @param value the amount of hitpoints to be healed
      */
     public void heal(int value) {
-        this.hitpoints.heal(value);
-        if (!this.hitpoints.isDead()) {
+        this.getHitpoints().heal(value);
+        if (!this.getHitpoints().isDead()) {
             Feature downed = this.rulebook.getFeatureByName("downed");
             this.removeFeature(downed);
         }
@@ -219,85 +753,153 @@ public class Character {
         this.experience.addToCurrent(value);
         if (this.experience.canLevelUp()) {
             this.experience.resetToMin();
-            this.hitpoints.addToMaxBase(1);
+            this.getHitpoints().addToMaxBase(1);
         }
     }
 
     /**
-     * creates and returns a string representation of the characters current state
+     * creates and returns a string representation of the characters current state.
+     * The sheet is written by a {@link SheetRenderer}, which can also write it straight to a
+     * file or stream.
      *
      * @return a String representation of the Character's current state.
      */
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-
-        sb.append("   _______________________________").append("\n")
-                .append(" / \\                              |").append("\n")
-                .append(" \\__|                             |").append("\n")
-                .append("    |          * ").append(this.name).append(" *          |").append("\n")
-                .append("    |                             |").append("\n");
-
-        int maxStatLength = getMaxStatLength();
-
-        for (Stat stat : this.stats.all()) {
-            String statString = stat.toString();
-            sb.append("    |  ").append(padRight(statString, maxStatLength)).append("     |\n");
+        try {
+            new SheetRenderer().render(this, sb);
+        } catch (IOException e) {
+            throw new IllegalStateException("StringBuilder cannot fail to append", e);
         }
+        return sb.toString();
+    }
 
-        sb.append("    |                             |\n")
-                .append("    |  ___________________________|__\n")
-                .append("    \\_/_____________________________/\n");
-
-        sb.append(this.hitpoints.toString()).append("\n");
-        sb.append(this.experience.toString()).append("\n");
-
-        sb.append("        |================================\\\n")
-                .append("[0]#####>--------  SPECIALTIES  ---------->\n")
-                .append("        |================================/\n\n");
-
-        int specialtyIndex = 1;
-        for (Specialty specialty : this.specialties.all()) {
-            sb.append(specialtyIndex).append(". ").append(specialty.toString()).append("\n\n");
-            specialtyIndex++;
+    /**
+     * A set of changes to a {@link Character} whose adjustments are applied together when
+     * the batch is closed. Opened with {@link Character#batch()}.
+     */
+    public final class Batch implements AutoCloseable {
+        /**
+         * The net change to each stat modifier so far, indexed by stat slot.
+         */
+        private final int[] statTotals;
+        /**
+         * The net change to the maximum hitpoints so far.
+         */
+        private int maxHp;
+        /**
+         * The net change to the maximum experience so far.
+         */
+        private int maxXp;
+        /**
+         * The vectors with adjustments that could not be flattened, in the order collected.
+         */
+        private final List<AdjustmentVector> pending;
+        /**
+         * Whether each vector in {@code pending} was applied (1) or undone (-1).
+         */
+        private final List<Integer> pendingSigns;
+        /**
+         * How many times the batch has been opened and not yet closed.
+         */
+        private int depth;
+
+        /**
+         * Constructs an empty batch.
+         */
+        private Batch() {
+            this.statTotals = new int[stats.size()];
+            this.pending = new ArrayList<>();
+            this.pendingSigns = new ArrayList<>();
         }
 
-        sb.append("        |================================\\\n")
-                .append("[0]#####>----------  FEATURES  ----------->\n")
-                .append("        |================================/\n\n");
-
-        int featureIndex = 1;
-        for (Feature feature : this.features.all()) {
-            sb.append(featureIndex).append(". ").append(feature.toString()).append("\n\n");
-            featureIndex++;
+        /**
+         * Adds an adjustment to the batch.
+         *
+         * @param vector the net effect of the adjustment
+         * @param sign   1 to apply it, -1 to undo it
+         */
+        private void collect(AdjustmentVector vector, int sign) {
+            vector.addTo(statTotals, sign);
+            maxHp += sign * vector.maxHpDelta();
+            maxXp += sign * vector.maxXpDelta();
+            pending.add(vector);
+            pendingSigns.add(sign);
         }
 
-        return sb.toString();
+        /**
+         * Closes the batch. When this closes the outermost batch, the net change collected is
+         * applied to the character. Closing a batch that is already closed does nothing.
+         */
+        @Override
+        public void close() {
+            if (depth == 0 || --depth > 0) {
+                return;
+            }
+            if (Character.this.batch == this) {
+                Character.this.batch = null;
+            }
+            for (int slot = 0; slot < statTotals.length; slot++) {
+                if (statTotals[slot] != 0) {
+                    stats.addToModifier(slot, statTotals[slot]);
+                }
+            }
+            if (maxHp != 0) {
+                int hitpoints = stats.hitpointsSlot();
+                stats.setBaseMax(hitpoints, stats.baseMax(hitpoints) + maxHp);
+            }
+            if (maxXp != 0) {
+                experience.addToMax(maxXp);
+            }
+            for (int i = 0; i < pending.size(); i++) {
+                pending.get(i).applyRemaining(Character.this, pendingSigns.get(i));
+            }
+        }
     }
 
     /**
-     * Calculates the maximum length of the stat string for proper alignment.
-     *
-     * @return the maximum length of any stat's string representation
+     * The character's {@link Experience}, which tells the character's listeners whenever it
+     * changes.
      */
-    private int getMaxStatLength() {
-        int maxLength = 0;
-        for (Stat stat : this.stats.all()) {
-            maxLength = Math.max(maxLength, stat.toString().length());
+    private final class ObservedExperience extends Experience {
+        /**
+         * Constructs a copy of the given experience.
+         *
+         * @param start the experience to copy
+         */
+        private ObservedExperience(Experience start) {
+            super(start.max(), start.current());
         }
-        return maxLength;
-    }
 
-    /**
-     * Pads a string with spaces to ensure consistent width for alignment.
-     *
-     * @param str    the string to pad
-     * @param length the length to pad the string to
-     * @return the padded string
-     */
-    private String padRight(String str, int length) {
-        return String.format("%-" + length + "s", str);
-    }
+        @Override
+        public void setMin(int min) {
+            super.setMin(min);
+            changed(CharacterChange.EXPERIENCE);
+        }
+
+        @Override
+        public void setMax(int max) {
+            super.setMax(max);
+            changed(CharacterChange.EXPERIENCE);
+        }
+
+        @Override
+        public void setCurrent(int value) {
+            super.setCurrent(value);
+            changed(CharacterChange.EXPERIENCE);
+        }
 
+        @Override
+        public void addToCurrent(int value) {
+            super.addToCurrent(value);
+            changed(CharacterChange.EXPERIENCE);
+        }
 
+        @Override
+        public void addToMax(int value) {
+            super.addToMax(value);
+            changed(CharacterChange.EXPERIENCE);
+        }
+    }
 }
@@ -0,0 +1,24 @@
+package demoworld.model;
+
+/**
+ * The parts of a {@link Character} that a {@link CharacterListener} is told have changed.
+ */
+public enum CharacterChange {
+    /** The character's name. */
+    NAME,
+
+    /** The base, modifier or bounds of any of the character's stats. */
+    STATS,
+
+    /** The character's hitpoints, maximum hitpoints or temporary hitpoints. */
+    HITPOINTS,
+
+    /** The character's experience or maximum experience. */
+    EXPERIENCE,
+
+    /** Which features the character has. */
+    FEATURES,
+
+    /** Which specialties the character has. */
+    SPECIALTIES;
+}
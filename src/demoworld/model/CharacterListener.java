@@ -0,0 +1,16 @@
+package demoworld.model;
+
+/**
+ * Listens for changes made to a {@link Character}.
+ */
+public interface CharacterListener {
+
+    /**
+     * Called straight after part of a character changes, on whichever thread changed it.
+     * A single action such as adding a specialty may call this several times.
+     *
+     * @param character the character that changed
+     * @param change    the part of the character that changed
+     */
+    void characterChanged(Character character, CharacterChange change);
+}
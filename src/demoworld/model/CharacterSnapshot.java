@@ -0,0 +1,211 @@
+package demoworld.model;
+
+import java.util.List;
+
+/**
+ * An immutable copy of the state of a {@link Character} at one point in time, taken with
+ * {@link Character#snapshot()} and put back with {@link Character#restore(CharacterSnapshot)}.
+ * The values of each stat slot, and the character's features and specialties, are held in
+ * {@link PersistentVector}s, so a snapshot taken after a small change shares everything but the
+ * changed parts with the one taken before it.
+ */
+public final class CharacterSnapshot {
+
+    /**
+     * name
+     */
+    private final String name;
+
+    /**
+     * One row per stat block slot, each holding the base, base minimum, base maximum, unclamped
+     * modifier, modifier minimum and modifier maximum of the slot. Rows are never modified.
+     */
+    private final PersistentVector<int[]> slots;
+
+    /**
+     * The current experience.
+     */
+    private final int experience;
+
+    /**
+     * The maximum experience.
+     */
+    private final int maxExperience;
+
+    /**
+     * features
+     */
+    private final PersistentVector<Feature> features;
+
+    /**
+     * specialties
+     */
+    private final PersistentVector<Specialty> specialties;
+
+    /**
+     * The character's feature grant counts by feature id, or null if none had been granted.
+     * Never modified.
+     */
+    private final int[] grants;
+
+    /**
+     * Constructs a snapshot.
+     *
+     * @param name          the character's name
+     * @param slots         the rows of the character's stat block
+     * @param experience    the current experience
+     * @param maxExperience the maximum experience
+     * @param features      the character's features, in order
+     * @param specialties   the character's specialties, in order
+     * @param grants        the feature grant counts, which the snapshot takes ownership of
+     */
+    CharacterSnapshot(String name, PersistentVector<int[]> slots, int experience,
+                      int maxExperience, PersistentVector<Feature> features,
+                      PersistentVector<Specialty> specialties, int[] grants) {
+        this.name = name;
+        this.slots = slots;
+        this.experience = experience;
+        this.maxExperience = maxExperience;
+        this.features = features;
+        this.specialties = specialties;
+        this.grants = grants;
+    }
+
+    /**
+     * Builds a snapshot from values saved elsewhere, such as a snapshot written to disk.
+     *
+     * @param name          the character's name
+     * @param slots         the values of each stat block slot, as returned by {@link #row(int)}
+     * @param experience    the current experience
+     * @param maxExperience the maximum experience
+     * @param features      the character's features, in order
+     * @param specialties   the character's specialties, in order
+     * @param grants        the feature grant counts by feature id, as returned by
+     *                      {@link #grants()}
+     * @return the snapshot
+     */
+    public static CharacterSnapshot of(String name, List<int[]> slots, int experience,
+                                       int maxExperience, List<Feature> features,
+                                       List<Specialty> specialties, int[] grants) {
+        PersistentVector<int[]> rows = PersistentVector.empty();
+        for (int[] row : slots) {
+            rows = rows.append(row.clone());
+        }
+        return new CharacterSnapshot(name, rows, experience, maxExperience,
+                PersistentVector.of(features), PersistentVector.of(specialties),
+                grants.length == 0 ? null : grants.clone());
+    }
+
+    /**
+     * Gets the character's name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the current base amount in a stat block slot.
+     *
+     * @param slot the slot
+     * @return the current base amount
+     */
+    public int base(int slot) {
+        return slots.get(slot)[0];
+    }
+
+    /**
+     * Gets the current modifier amount in a stat block slot, kept within its bounds.
+     *
+     * @param slot the slot
+     * @return the current modifier amount
+     */
+    public int modifier(int slot) {
+        int[] row = slots.get(slot);
+        return Math.max(Math.min(row[3], row[5]), row[4]);
+    }
+
+    /**
+     * Gets the current experience.
+     *
+     * @return the current experience
+     */
+    public int getExperience() {
+        return experience;
+    }
+
+    /**
+     * Gets the character's features, in the order they were added.
+     *
+     * @return the features
+     */
+    public PersistentVector<Feature> getFeatures() {
+        return features;
+    }
+
+    /**
+     * Gets the character's specialties, in the order they were added.
+     *
+     * @return the specialties
+     */
+    public PersistentVector<Specialty> getSpecialties() {
+        return specialties;
+    }
+
+    /**
+     * Gets the number of stat block slots, including the hitpoints slot.
+     *
+     * @return the number of slots
+     */
+    public int slotCount() {
+        return slots.size();
+    }
+
+    /**
+     * Copies every value held for a stat block slot: the base, base minimum, base maximum,
+     * unclamped modifier, modifier minimum and modifier maximum.
+     *
+     * @param slot the slot
+     * @return a new array of the slot's values
+     */
+    public int[] row(int slot) {
+        return slots.get(slot).clone();
+    }
+
+    /**
+     * Copies the feature grant counts.
+     *
+     * @return the grant counts by feature id, empty if none were granted
+     */
+    public int[] grants() {
+        return grants == null ? new int[0] : grants.clone();
+    }
+
+    /**
+     * Gets the maximum experience.
+     *
+     * @return the maximum experience
+     */
+    public int getMaxExperience() {
+        return maxExperience;
+    }
+
+    /**
+     * Gets the rows of the stat block.
+     *
+     * @return the rows, which must not be modified
+     */
+    PersistentVector<int[]> getSlots() {
+        return slots;
+    }
+
+    /**
+     * Gets the feature grant counts.
+     *
+     * @return the grant counts, which must not be modified, or null if none were granted
+     */
+    int[] getGrants() {
+        return grants;
+    }
+}
@@ -0,0 +1,168 @@
+package demoworld.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@link Requirement}s of a {@link HasRequirements} entry compiled into a single check over a
+ * {@link Character}'s stat slots.
+ * Requirements on the same stat are merged into the strictest threshold, and the checks are
+ * ordered with the highest thresholds first, since those are the most likely to fail, so a
+ * failing character is usually turned away by the first comparison. Requirements that were
+ * never bound to a stat slot are kept and checked by name after the slot checks.
+ * Checking allocates nothing.
+ */
+public final class CompiledRequirements {
+
+    /**
+     * The check for an entry without requirements, which every character passes.
+     */
+    public static final CompiledRequirements NONE =
+            new CompiledRequirements(new int[0], new int[0], new Requirement[0]);
+
+    /**
+     * The stat slots to check, in the order they are checked.
+     */
+    private final int[] slots;
+
+    /**
+     * The minimum total for the stat in the matching position of {@code slots}.
+     */
+    private final int[] thresholds;
+
+    /**
+     * Requirements whose stat could not be resolved to a slot.
+     */
+    private final Requirement[] unresolved;
+
+    /**
+     * Constructs a compiled check from its parts.
+     *
+     * @param slots      the stat slots to check
+     * @param thresholds the minimum total for each slot
+     * @param unresolved the requirements to check by name
+     */
+    private CompiledRequirements(int[] slots, int[] thresholds, Requirement[] unresolved) {
+        this.slots = slots;
+        this.thresholds = thresholds;
+        this.unresolved = unresolved;
+    }
+
+    /**
+     * Compiles the given requirements into a single check.
+     *
+     * @param requirements the requirements that must all be met
+     * @return the compiled check
+     */
+    public static CompiledRequirements compile(Iterable<Requirement> requirements) {
+        List<int[]> bySlot = new ArrayList<>();
+        List<Requirement> unresolved = new ArrayList<>();
+        for (Requirement requirement : requirements) {
+            int slot = requirement.getStatSlot();
+            if (slot == SymbolTable.UNRESOLVED) {
+                unresolved.add(requirement);
+                continue;
+            }
+            int[] existing = null;
+            for (int[] check : bySlot) {
+                if (check[0] == slot) {
+                    existing = check;
+                    break;
+                }
+            }
+            if (existing == null) {
+                bySlot.add(new int[] {slot, requirement.getThreshold()});
+            } else {
+                existing[1] = Math.max(existing[1], requirement.getThreshold());
+            }
+        }
+        if (bySlot.isEmpty() && unresolved.isEmpty()) {
+            return NONE;
+        }
+
+        int[][] ordered = bySlot.toArray(new int[0][]);
+        Arrays.sort(ordered, (a, b) -> Integer.compare(b[1], a[1]));
+        int[] slots = new int[ordered.length];
+        int[] thresholds = new int[ordered.length];
+        for (int i = 0; i < ordered.length; i++) {
+            slots[i] = ordered[i][0];
+            thresholds[i] = ordered[i][1];
+        }
+        return new CompiledRequirements(slots, thresholds,
+                unresolved.toArray(new Requirement[0]));
+    }
+
+    /**
+     * Returns whether the given character meets every requirement, stopping at the first one
+     * it does not meet.
+     *
+     * @param character the character to check
+     * @return true if every requirement is met, false otherwise
+     */
+    public boolean test(Character character) {
+        if (slots.length > 0) {
+            StatBlock stats = character.getStatBlock();
+            for (int i = 0; i < slots.length; i++) {
+                if (stats.total(slots[i]) < thresholds[i]) {
+                    return false;
+                }
+            }
+        }
+        for (Requirement requirement : unresolved) {
+            if (!requirement.check(character)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of stat slots this check reads.
+     *
+     * @return the number of slots
+     */
+    public int slotCount() {
+        return slots.length;
+    }
+
+    /**
+     * Returns one of the stat slots this check reads.
+     *
+     * @param index which slot, from zero to {@link #slotCount()} exclusive
+     * @return the stat slot
+     */
+    public int slot(int index) {
+        return slots[index];
+    }
+
+    /**
+     * Returns the minimum total required for one of the stat slots this check reads.
+     *
+     * @param index which slot, from zero to {@link #slotCount()} exclusive
+     * @return the minimum total for {@link #slot(int)} of the same index
+     */
+    public int threshold(int index) {
+        return thresholds[index];
+    }
+
+    /**
+     * Returns whether some requirements are checked by name, so that which stats the check
+     * reads is not known up front.
+     *
+     * @return true if some requirements were never bound to a stat slot
+     */
+    public boolean hasUnresolved() {
+        return unresolved.length > 0;
+    }
+
+    /**
+     * Returns the number of separate checks made by {@link #test(Character)} when every
+     * requirement is met.
+     *
+     * @return the number of checks
+     */
+    public int size() {
+        return slots.length + unresolved.length;
+    }
+}
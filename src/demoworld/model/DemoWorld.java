@@ -7,7 +7,8 @@ import demoworld.model.Character;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Holds a set of defaults used for characters using the demo world ruleset, this way the character
@@ -25,25 +26,43 @@ public class DemoWorld extends RuleBook {
 
         this.xp = setCharacterStartingExperience();
 
-        this.stats = new EntryManager<Stat>();
+        this.catalog = CATALOGS.computeIfAbsent(getClass().getName() + " " + getEdition(),
+                key -> this.buildCatalog());
+    }
+
+    /**
+     * Builds and freezes the {@link Catalog} for this ruleset. Only called the first time a
+     * rulebook of this class and edition is constructed; later rulebooks share the result.
+     *
+     * @return the frozen catalog
+     */
+    private Catalog buildCatalog() {
+        this.catalog = new Catalog();
+        SymbolTable symbols = this.catalog.getSymbols();
+
         for (Stat stat : this.createAndGetStats()) {
-            this.stats.add(stat);
+            this.getStat().add(stat);
+            symbols.intern(SymbolTable.Kind.STAT, stat.getName());
         }
 
-        this.requirements = new EntryManager<Requirement>();
         for (Requirement requirement : this.createAndGetRequirements()) {
-            this.requirements.add(requirement);
+            requirement.bind(symbols);
+            this.getRequirement().add(requirement);
         }
 
-        this.features = new EntryManager<Feature>();
         for (Feature feature : this.createAndGetFeatures()) {
-            this.features.add(feature);
+            feature.bind(symbols);
+            this.getFeature().add(feature);
         }
 
-        this.specialties = new EntryManager<Specialty>();
         for (Specialty specialty : this.createAndGetSpecialties()) {
-            this.specialties.add(specialty);
+            specialty.bind(symbols);
+            this.getSpecialty().add(specialty);
         }
+
+        this.catalog.freeze(new StatBlock(this.getStat().view(),
+                setCharacterStartingHitpoints()));
+        return this.catalog;
     }
 
     /**
@@ -83,6 +102,46 @@ public class DemoWorld extends RuleBook {
         return edition;
     }
 
+    /**
+     * Gets the {@link SymbolTable} built alongside this ruleset's entries.
+     *
+     * @return the symbol table for this ruleset
+     */
+    @Override
+    public SymbolTable getSymbols() {
+        return this.catalog.getSymbols();
+    }
+
+    /**
+     * Gets the starting stats and hitpoints shared by every rulebook of this ruleset.
+     *
+     * @return the catalog's frozen default {@link StatBlock}
+     */
+    @Override
+    protected StatBlock getDefaultStatBlock() {
+        return this.catalog.getDefaultStatBlock();
+    }
+
+    /**
+     * Gets the feature eligibility bitmaps shared by every rulebook of this ruleset.
+     *
+     * @return the catalog's feature eligibility bitmaps
+     */
+    @Override
+    public EligibilityBitmaps<Feature> getFeatureEligibilityBitmaps() {
+        return this.catalog.getFeatureEligibilityBitmaps();
+    }
+
+    /**
+     * Gets the specialty eligibility bitmaps shared by every rulebook of this ruleset.
+     *
+     * @return the catalog's specialty eligibility bitmaps
+     */
+    @Override
+    public EligibilityBitmaps<Specialty> getSpecialtyEligibilityBitmaps() {
+        return this.catalog.getSpecialtyEligibilityBitmaps();
+    }
+
     /**
      * Creates all the {@link Stat}s for this particular game.
      * Consult the provided rulebook pdf for details on the core game stats if you need
@@ -192,13 +251,13 @@ public class DemoWorld extends RuleBook {
         Feature earlyRiser = new Feature("early riser", "You've spent your life "
                 + "having to get up early, you are not afflicted by drowsy or similar"
                 + " effects in the morning.");
-        earlyRiser.addRequirement(this.requirements.byName("resilience"));
+        earlyRiser.addRequirement(this.getRequirement().byName("resilience"));
         features.add(earlyRiser);
 
         Feature workInHeat = new Feature("heat resistant", "You've spent your "
                 + "life working around intense heat, it doesn't bother you much anymore. "
                 + "You can roll twice and take the best result on checks related to heat.");
-        workInHeat.addRequirement(this.requirements.byName("resilience"));
+        workInHeat.addRequirement(this.getRequirement().byName("resilience"));
         features.add(workInHeat);
 
         Feature weatherMinded = new Feature("weather minded", "You've developed "
@@ -227,7 +286,7 @@ public class DemoWorld extends RuleBook {
 
         Feature basicMath = new Feature("basic mathematics", "You have learned "
                 + "basic mathematics like arithmetic ! a valuable rare skill.");
-        basicMath.addRequirement(this.requirements.byName("analytical"));
+        basicMath.addRequirement(this.getRequirement().byName("analytical"));
         features.add(basicMath);
 
         Feature analyticalMind = new Feature("analytical mind", "You have "
@@ -237,7 +296,7 @@ public class DemoWorld extends RuleBook {
                 + " analytical"
         );
         StatAdjustment analyticalStatAdjustment = new StatAdjustment("analytical", BOOST);
-        analyticalMind.addRequirement(this.requirements.byName("analytical"));
+        analyticalMind.addRequirement(this.getRequirement().byName("analytical"));
         analyticalMind.addAdjustment(analyticalStatAdjustment);
         features.add(analyticalMind);
 
@@ -246,7 +305,7 @@ public class DemoWorld extends RuleBook {
                 + BOOST
                 + " empathy.");
         StatAdjustment sociallyFluentAdjustment = new StatAdjustment("empathy", BOOST);
-        sociallyFluent.addRequirement(this.requirements.byName("empathy"));
+        sociallyFluent.addRequirement(this.getRequirement().byName("empathy"));
         analyticalMind.addAdjustment(sociallyFluentAdjustment);
         features.add(sociallyFluent);
 
@@ -293,7 +352,7 @@ public class DemoWorld extends RuleBook {
         farmer.addFeature(this.getFeature().byName("grit"));
         farmer.addFeature(this.getFeature().byName("early riser"));
         farmer.addFeature(this.getFeature().byName("weather minded"));
-        farmer.addRequirement(this.requirements.byName("resilience"));
+        farmer.addRequirement(this.getRequirement().byName("resilience"));
         specialtyReferences.add(farmer);
 
         Specialty smith = new Specialty("smith", "You've spent much of your "
@@ -301,7 +360,7 @@ public class DemoWorld extends RuleBook {
         smith.addFeature(this.getFeature().byName("grit"));
         smith.addFeature(this.getFeature().byName("heat resistant"));
         smith.addFeature(this.getFeature().byName("analytical mind"));
-        smith.addRequirement(this.requirements.byName("force"));
+        smith.addRequirement(this.getRequirement().byName("force"));
         specialtyReferences.add(smith);
 
         Specialty merchant = new Specialty("merchant", "You've spent much of your "
@@ -310,7 +369,7 @@ public class DemoWorld extends RuleBook {
         merchant.addFeature(this.getFeature().byName("write"));
         merchant.addFeature(this.getFeature().byName("basic mathematics"));
         merchant.addFeature(this.getFeature().byName("socially fluent"));
-        merchant.addRequirement(this.requirements.byName("analytical"));
+        merchant.addRequirement(this.getRequirement().byName("analytical"));
         specialtyReferences.add(merchant);
 
         Specialty innkeeper = new Specialty("innkeeper", "You've spent "
@@ -321,7 +380,7 @@ public class DemoWorld extends RuleBook {
         innkeeper.addFeature(this.getFeature().byName("socially fluent"));
         innkeeper.addFeature(this.getFeature().byName("basic mathematics"));
         innkeeper.addFeature(this.getFeature().byName("early riser"));
-        innkeeper.addRequirement(this.requirements.byName("empathy"));
+        innkeeper.addRequirement(this.getRequirement().byName("empathy"));
         specialtyReferences.add(innkeeper);
 
         Specialty bandit = new Specialty("bandit", "You've spent much of "
@@ -337,9 +396,8 @@ public class DemoWorld extends RuleBook {
     @Override
     protected List<Requirement> createAndGetRequirements() {
         List<Requirement> requirements = new ArrayList<>();
-        List<Stat> stats = this.getStat().all();
         int mildThreshold = 0;
-        for (Stat stat : stats) {
+        for (Stat stat : this.getStat()) {
             requirements.add(new Requirement(stat.getName(), stat.getName(), mildThreshold));
         }
         return requirements;
@@ -347,17 +405,17 @@ public class DemoWorld extends RuleBook {
 
     @Override
     protected EntryManager<Feature> getFeature() {
-        return this.features;
+        return this.catalog.getFeatures();
     }
 
     @Override
     protected EntryManager<Specialty> getSpecialty() {
-        return this.specialties;
+        return this.catalog.getSpecialties();
     }
 
     @Override
     protected EntryManager<Requirement> getRequirement() {
-        return this.requirements;
+        return this.catalog.getRequirements();
     }
 
     /**
@@ -379,8 +437,8 @@ public class DemoWorld extends RuleBook {
     }
 
     @Override
-    protected EntryManager getStat() {
-        return this.stats;
+    protected EntryManager<Stat> getStat() {
+        return this.catalog.getStats();
     }
 
 
@@ -391,7 +449,7 @@ public class DemoWorld extends RuleBook {
      */
     @Override
     public List<Feature> getFeaturesReference() {
-        return this.features.all();
+        return this.getFeature().all();
     }
 
     /**
@@ -401,7 +459,7 @@ public class DemoWorld extends RuleBook {
      */
     @Override
     public List<Stat> getStatReference() {
-        return this.stats.all();
+        return this.getStat().all();
     }
 
     /**
@@ -411,7 +469,7 @@ public class DemoWorld extends RuleBook {
      */
     @Override
     public List<Specialty> getSpecialtiesReference() {
-        return this.specialties.all();
+        return this.getSpecialty().all();
     }
 
     /**
@@ -426,13 +484,8 @@ public class DemoWorld extends RuleBook {
     @Override
     public List<Specialty> getSpecialtiesFilteredByRequirements(Character character)
             throws IllegalStateException {
-        List<Specialty> specialtiesFilteredByRequirements = new ArrayList<>();
-        for (Specialty specialty : this.getSpecialtiesReference()) {
-            if (specialty.meetsRequirements(character)) {
-                specialtiesFilteredByRequirements.add(specialty);
-            }
-        }
-        return specialtiesFilteredByRequirements;
+        return character.getSpecialtyEligibility(
+                this.catalog.getSpecialtyDependencies()).eligible(character);
     }
 
     /**
@@ -446,13 +499,8 @@ public class DemoWorld extends RuleBook {
      */
     @Override
     public List<Feature> getFeaturesFilteredByRequirements(Character character) {
-        List<Feature> featuresFilteredByRequirements = new ArrayList<>();
-        for (Feature feature : this.getFeaturesReference()) {
-            if (feature.meetsRequirements(character)) {
-                featuresFilteredByRequirements.add(feature);
-            }
-        }
-        return featuresFilteredByRequirements;
+        return character.getFeatureEligibility(
+                this.catalog.getFeatureDependencies()).eligible(character);
     }
 
     /**
@@ -462,13 +510,7 @@ public class DemoWorld extends RuleBook {
      */
     @Override
     public Specialty getSpecialtyByName(String specialtyName) {
-        List<Specialty> specialties = this.getSpecialty().all();
-        for (Specialty specialty : specialties) {
-            if (Objects.equals(specialty.getName(), specialtyName)) {
-                return specialty;
-            }
-        }
-        throw new IllegalStateException("no specialty by that name!");
+        return exactly(this.getSpecialty(), specialtyName, "no specialty by that name!");
     }
 
     /**
@@ -478,13 +520,7 @@ public class DemoWorld extends RuleBook {
      */
     @Override
     public Feature getFeatureByName(String featureName) {
-        List<Feature> features = this.getFeature().all();
-        for (Feature feature : features) {
-            if (Objects.equals(feature.getName(), featureName)) {
-                return feature;
-            }
-        }
-        throw new IllegalStateException("no feature by that name!");
+        return exactly(this.getFeature(), featureName, "no feature by that name!");
     }
 
     /**
@@ -508,24 +544,16 @@ public class DemoWorld extends RuleBook {
     }
 
     /**
-     * EntryManager
-     */
-    private final EntryManager<Stat> stats;
-
-    /**
-     * EntryManager
-     */
-    private final EntryManager<Requirement> requirements;
-
-    /**
-     * EntryManager
+     * The frozen catalog for each rulebook class and edition, built by the first rulebook of
+     * that class and edition and shared by all later ones.
      */
-    private final EntryManager<Feature> features;
+    private static final ConcurrentMap<String, Catalog> CATALOGS = new ConcurrentHashMap<>();
 
     /**
-     * EntryManager
+     * The stats, requirements, features and specialties of this ruleset, shared with every
+     * other rulebook of the same class and edition.
      */
-    private final EntryManager<Specialty> specialties;
+    private Catalog catalog;
 
     /**
      * experience
@@ -0,0 +1,119 @@
+package demoworld.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An index from each stat slot to the {@link HasRequirements} entries whose requirements read
+ * that stat, built from a rulebook's catalog of features or specialties.
+ * It lets an {@link Eligibility} re-check only the entries that depend on the stats that
+ * changed. Entries with requirements that could not be bound to a stat slot depend on every
+ * stat and are re-checked every time.
+ *
+ * @param <T> the type of entry indexed
+ */
+public class DependencyIndex<T extends HasRequirements> {
+
+    /**
+     * The dependents of a slot no entry reads.
+     */
+    private static final int[] NONE = new int[0];
+
+    /**
+     * The indexed entries, in catalog order.
+     */
+    private final List<T> entries;
+
+    /**
+     * For each stat slot, the positions of the entries that read it.
+     */
+    private final int[][] dependents;
+
+    /**
+     * The positions of the entries that have to be re-checked after any change.
+     */
+    private final int[] always;
+
+    /**
+     * Builds the index over the entries currently in the given catalog.
+     *
+     * @param catalog the entries to index
+     */
+    public DependencyIndex(EntryManager<? extends T> catalog) {
+        this.entries = new ArrayList<>(catalog.view());
+        List<List<Integer>> bySlot = new ArrayList<>();
+        List<Integer> unbound = new ArrayList<>();
+        for (int position = 0; position < entries.size(); position++) {
+            CompiledRequirements check = entries.get(position).getCompiledRequirements();
+            if (check.hasUnresolved()) {
+                unbound.add(position);
+            }
+            for (int i = 0; i < check.slotCount(); i++) {
+                int slot = check.slot(i);
+                while (bySlot.size() <= slot) {
+                    bySlot.add(new ArrayList<>());
+                }
+                bySlot.get(slot).add(position);
+            }
+        }
+        this.dependents = new int[bySlot.size()][];
+        for (int slot = 0; slot < dependents.length; slot++) {
+            dependents[slot] = toArray(bySlot.get(slot));
+        }
+        this.always = toArray(unbound);
+    }
+
+    /**
+     * Returns the number of entries indexed.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the entry at a position.
+     *
+     * @param position the position in catalog order
+     * @return the entry
+     */
+    public T get(int position) {
+        return entries.get(position);
+    }
+
+    /**
+     * Returns the positions of the entries whose requirements read a stat slot.
+     * The returned array must not be modified.
+     *
+     * @param slot the stat slot
+     * @return the positions of the dependent entries
+     */
+    int[] dependents(int slot) {
+        return slot < dependents.length ? dependents[slot] : NONE;
+    }
+
+    /**
+     * Returns the positions of the entries that have to be re-checked after any change.
+     * The returned array must not be modified.
+     *
+     * @return the positions of the entries with unbound requirements
+     */
+    int[] always() {
+        return always;
+    }
+
+    /**
+     * Copies a list of positions into an array.
+     *
+     * @param positions the positions
+     * @return the positions as an array
+     */
+    private static int[] toArray(List<Integer> positions) {
+        int[] array = new int[positions.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = positions.get(i);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,124 @@
+package demoworld.model;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Tracks which entries of a {@link DependencyIndex} one {@link Character} meets the
+ * requirements for.
+ * The set is worked out in full the first time it is read. After that, each read compares the
+ * version of every stat slot with the version last seen and only re-checks the entries whose
+ * requirements read a stat that has changed, so reading an unchanged set costs one comparison.
+ *
+ * @param <T> the type of entry tracked
+ */
+public class Eligibility<T extends HasRequirements> {
+
+    /**
+     * The entries being tracked.
+     */
+    private final DependencyIndex<T> index;
+
+    /**
+     * The positions of the entries the character currently meets the requirements for.
+     */
+    private final BitSet eligible;
+
+    /**
+     * The stat block the set was last worked out against, or null before the first read.
+     */
+    private StatBlock block;
+
+    /**
+     * The version of the whole of {@code block} when the set was last brought up to date.
+     */
+    private long seenVersion;
+
+    /**
+     * The version of each slot of {@code block} when the set was last brought up to date.
+     */
+    private long[] seen;
+
+    /**
+     * Constructs an Eligibility over the given index that has not been worked out yet.
+     *
+     * @param index the entries to track
+     */
+    public Eligibility(DependencyIndex<T> index) {
+        this.index = index;
+        this.eligible = new BitSet(index.size());
+    }
+
+    /**
+     * Returns the index this tracks the entries of.
+     *
+     * @return the dependency index
+     */
+    public DependencyIndex<T> getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns every entry the character meets the requirements for, in catalog order.
+     *
+     * @param character the character whose stats are checked
+     * @return a new list of the eligible entries
+     */
+    public List<T> eligible(Character character) {
+        refresh(character);
+        List<T> result = new ArrayList<>(eligible.cardinality());
+        for (int position = eligible.nextSetBit(0); position >= 0;
+             position = eligible.nextSetBit(position + 1)) {
+            result.add(index.get(position));
+        }
+        return result;
+    }
+
+    /**
+     * Brings the set up to date with the character's stats.
+     *
+     * @param character the character whose stats are checked
+     */
+    private void refresh(Character character) {
+        StatBlock stats = character.getStatBlock();
+        if (stats != this.block) {
+            this.block = stats;
+            this.seen = new long[stats.size() + 1];
+            for (int slot = 0; slot < seen.length; slot++) {
+                seen[slot] = stats.version(slot);
+            }
+            this.seenVersion = stats.version();
+            for (int position = 0; position < index.size(); position++) {
+                check(character, position);
+            }
+            return;
+        }
+        if (stats.version() == this.seenVersion) {
+            return;
+        }
+        this.seenVersion = stats.version();
+        for (int slot = 0; slot < seen.length; slot++) {
+            long version = stats.version(slot);
+            if (version != seen[slot]) {
+                seen[slot] = version;
+                for (int position : index.dependents(slot)) {
+                    check(character, position);
+                }
+            }
+        }
+        for (int position : index.always()) {
+            check(character, position);
+        }
+    }
+
+    /**
+     * Re-checks one entry.
+     *
+     * @param character the character whose stats are checked
+     * @param position  the position of the entry
+     */
+    private void check(Character character, int position) {
+        eligible.set(position, index.get(position).meetsRequirements(character));
+    }
+}
@@ -0,0 +1,256 @@
+package demoworld.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+/**
+ * Eligibility for a whole catalog of {@link HasRequirements} entries worked out with bitwise
+ * operations, for checking many characters at once.
+ * Each entry is given a dense id, its position in the catalog, and sets of entries are held as
+ * {@code long[]} bitmaps over those ids. For every stat slot some requirement reads, the
+ * distinct thresholds on that stat are sorted, and one bitmap is precomputed for each range
+ * between consecutive thresholds, holding the entries whose requirement on that stat (if any)
+ * a total in that range meets. A character's eligible entries are then the AND of one bitmap
+ * per stat, found by a binary search of its total.
+ * Entries whose requirements are checked by name are kept in every bitmap and confirmed one
+ * at a time afterwards.
+ *
+ * @param <T> the type of entry in the catalog
+ */
+public class EligibilityBitmaps<T extends HasRequirements> {
+
+    /**
+     * The entries, indexed by id.
+     */
+    private final List<T> entries;
+
+    /**
+     * The number of {@code long}s in each bitmap.
+     */
+    private final int words;
+
+    /**
+     * The stat slots read by at least one entry.
+     */
+    private final int[] slots;
+
+    /**
+     * For each of {@code slots}, its distinct thresholds in ascending order.
+     */
+    private final int[][] thresholds;
+
+    /**
+     * For each of {@code slots}, one bitmap per threshold range: the bitmap at index
+     * {@code j + 1} holds the entries allowed by a total of at least {@code thresholds[i][j]}
+     * but below the next threshold, and the bitmap at index 0 those allowed below the lowest.
+     */
+    private final long[][][] allowed;
+
+    /**
+     * Every entry, the starting point before any stat is considered.
+     */
+    private final long[] everything;
+
+    /**
+     * The entries that still have to be confirmed by name.
+     */
+    private final long[] unresolved;
+
+    /**
+     * Builds the bitmaps for the entries currently in the given catalog.
+     *
+     * @param catalog the entries to build the bitmaps for
+     */
+    public EligibilityBitmaps(EntryManager<? extends T> catalog) {
+        this.entries = new ArrayList<>(catalog.view());
+        this.words = (entries.size() + 63) >>> 6;
+        this.everything = new long[words];
+        this.unresolved = new long[words];
+
+        TreeSet<Integer> readSlots = new TreeSet<>();
+        for (int id = 0; id < entries.size(); id++) {
+            set(everything, id);
+            CompiledRequirements check = entries.get(id).getCompiledRequirements();
+            if (check.hasUnresolved()) {
+                set(unresolved, id);
+            }
+            for (int i = 0; i < check.slotCount(); i++) {
+                readSlots.add(check.slot(i));
+            }
+        }
+
+        this.slots = new int[readSlots.size()];
+        this.thresholds = new int[slots.length][];
+        this.allowed = new long[slots.length][][];
+        int index = 0;
+        for (int slot : readSlots) {
+            slots[index] = slot;
+            build(index, slot);
+            index++;
+        }
+    }
+
+    /**
+     * Builds the thresholds and bitmaps for one stat slot.
+     *
+     * @param index the position of the slot in {@code slots}
+     * @param slot  the stat slot
+     */
+    private void build(int index, int slot) {
+        int[] required = new int[entries.size()];
+        boolean[] reads = new boolean[entries.size()];
+        TreeSet<Integer> distinct = new TreeSet<>();
+        for (int id = 0; id < entries.size(); id++) {
+            CompiledRequirements check = entries.get(id).getCompiledRequirements();
+            for (int i = 0; i < check.slotCount(); i++) {
+                if (check.slot(i) == slot) {
+                    reads[id] = true;
+                    required[id] = check.threshold(i);
+                    distinct.add(check.threshold(i));
+                }
+            }
+        }
+
+        int[] sorted = new int[distinct.size()];
+        int position = 0;
+        for (int threshold : distinct) {
+            sorted[position++] = threshold;
+        }
+        long[][] bitmaps = new long[sorted.length + 1][words];
+        for (int id = 0; id < entries.size(); id++) {
+            // an entry is allowed in every range at or above its own threshold
+            int from = reads[id] ? Arrays.binarySearch(sorted, required[id]) + 1 : 0;
+            for (int range = from; range < bitmaps.length; range++) {
+                set(bitmaps[range], id);
+            }
+        }
+        this.thresholds[index] = sorted;
+        this.allowed[index] = bitmaps;
+    }
+
+    /**
+     * Returns the number of entries in the catalog.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the entry with an id.
+     *
+     * @param id the id of the entry
+     * @return the entry
+     */
+    public T get(int id) {
+        return entries.get(id);
+    }
+
+    /**
+     * Works out which entries a character is eligible for.
+     *
+     * @param character the character to check
+     * @return a new bitmap holding the ids of the eligible entries
+     */
+    public long[] evaluate(Character character) {
+        return evaluate(character, new long[words]);
+    }
+
+    /**
+     * Works out which entries a character is eligible for into an existing bitmap, so that
+     * checking many characters in turn need not allocate.
+     *
+     * @param character the character to check
+     * @param into      the bitmap to overwrite, at least {@code (size() + 63) / 64} long
+     * @return {@code into}, holding the ids of the eligible entries
+     */
+    public long[] evaluate(Character character, long[] into) {
+        StatBlock stats = character.getStatBlock();
+        System.arraycopy(everything, 0, into, 0, words);
+        for (int i = 0; i < slots.length; i++) {
+            long[] bitmap = allowed[i][range(thresholds[i], stats.total(slots[i]))];
+            for (int word = 0; word < words; word++) {
+                into[word] &= bitmap[word];
+            }
+        }
+        for (int word = 0; word < words; word++) {
+            long pending = into[word] & unresolved[word];
+            while (pending != 0) {
+                int id = (word << 6) + Long.numberOfTrailingZeros(pending);
+                pending &= pending - 1;
+                if (!entries.get(id).meetsRequirements(character)) {
+                    into[word] &= ~(1L << id);
+                }
+            }
+        }
+        return into;
+    }
+
+    /**
+     * Works out which entries each of the given characters is eligible for, spreading the
+     * characters across the available cores. The characters must not be changed until this
+     * returns.
+     *
+     * @param characters the characters to check
+     * @return one bitmap of eligible ids per character, in the same order
+     */
+    public long[][] evaluateAll(List<Character> characters) {
+        long[][] results = new long[characters.size()][words];
+        IntStream.range(0, characters.size()).parallel()
+                .forEach(i -> evaluate(characters.get(i), results[i]));
+        return results;
+    }
+
+    /**
+     * Returns the entries whose ids are set in a bitmap, in id order.
+     *
+     * @param bitmap a bitmap returned by {@link #evaluate(Character)}
+     * @return a new list of the entries
+     */
+    public List<T> entries(long[] bitmap) {
+        List<T> result = new ArrayList<>();
+        for (int word = 0; word < words; word++) {
+            long bits = bitmap[word];
+            while (bits != 0) {
+                result.add(entries.get((word << 6) + Long.numberOfTrailingZeros(bits)));
+                bits &= bits - 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds which threshold range a total falls in.
+     *
+     * @param sorted the thresholds in ascending order
+     * @param total  the stat total
+     * @return the number of thresholds the total meets
+     */
+    private static int range(int[] sorted, int total) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle] <= total) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Sets one bit in a bitmap.
+     *
+     * @param bitmap the bitmap
+     * @param id     the bit to set
+     */
+    private static void set(long[] bitmap, int id) {
+        bitmap[id >>> 6] |= 1L << id;
+    }
+}
@@ -1,14 +1,19 @@
 package demoworld.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Manages a collection of Named entries such as Features or Specialties.
  *
  * @param <T> The Named entry type the manager is responsible for.
  */
-public class EntryManager<T extends Named> {
+public class EntryManager<T extends Named> implements Iterable<T> {
 
     /**
      * A list that holds the entries managed by this EntryManager.
@@ -17,20 +22,42 @@ public class EntryManager<T extends Named> {
      */
     private List<T> entries;
 
+    /**
+     * An index from case-folded entry names to the first entry added with that name,
+     * kept alongside {@code entries} so name lookups do not have to scan the list.
+     */
+    private final Map<String, T> index;
+
+    /**
+     * A read-only live view over {@code entries}, created once and handed out by
+     * {@link #view()} so callers that only read do not pay for a copy.
+     */
+    private final List<T> view;
+
+    /**
+     * Whether entries can no longer be added or removed.
+     */
+    private boolean frozen;
+
     /**
      * Constructs a new EntryManager instance.
      */
     public EntryManager() {
         this.entries = new ArrayList<>();
+        this.index = new HashMap<>();
+        this.view = Collections.unmodifiableList(entries);
     }
 
     /**
      * Adds a Named entry.
      *
      * @param entry The Named entry to add.
+     * @throws IllegalStateException If the manager has been frozen.
      */
-    public void add(T entry) {
+    public void add(T entry) throws IllegalStateException {
+        checkNotFrozen();
         entries.add(entry);
+        index.putIfAbsent(fold(entry.getName()), entry);
     }
 
     /**
@@ -43,21 +70,36 @@ public class EntryManager<T extends Named> {
      * @throws IllegalStateException If no entry with the given name exists.
      */
     public T byName(String name) throws IllegalStateException {
-        return entries.stream()
-                .filter(entry -> entry.getName().equalsIgnoreCase(name))
-                .findFirst()
-                .orElseThrow(()
-                        -> new IllegalStateException("Entry with name "
-                        + name + " does not exist!"));
+        T entry = name == null ? null : index.get(fold(name));
+        if (entry == null) {
+            throw new IllegalStateException("Entry with name "
+                    + name + " does not exist!");
+        }
+        return entry;
     }
 
     /**
      * Removes a given entry from the collection.
      *
      * @param entry The Named entry to remove.
+     * @throws IllegalStateException If the manager has been frozen.
      */
-    public void remove(T entry) {
-        entries.remove(entry);
+    public void remove(T entry) throws IllegalStateException {
+        checkNotFrozen();
+        if (!entries.remove(entry)) {
+            return;
+        }
+        String key = fold(entry.getName());
+        if (index.get(key) == entry) {
+            index.remove(key);
+            // fall back to the next entry sharing the name, matching the old first-match lookup
+            for (T remaining : entries) {
+                if (fold(remaining.getName()).equals(key)) {
+                    index.put(key, remaining);
+                    break;
+                }
+            }
+        }
     }
 
     /**
@@ -69,6 +111,103 @@ public class EntryManager<T extends Named> {
         return new ArrayList<>(entries);
     }
 
+    /**
+     * Returns a read-only view of the entries in this manager. The view is live: it reflects
+     * any later additions and removals, so take a copy with {@link #all()} if the manager may
+     * change while the caller is still iterating.
+     *
+     * @return an unmodifiable live List of the entries in this manager.
+     */
+    public List<T> view() {
+        return view;
+    }
+
+    /**
+     * Returns an iterator over the entries in insertion order. The iterator does not
+     * support removal.
+     *
+     * @return an iterator over the entries in this manager.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return view.iterator();
+    }
+
+    /**
+     * Returns whether the given entry is held by this manager.
+     *
+     * @param entry the entry to look for.
+     * @return true if the entry is held by this manager, false otherwise.
+     */
+    public boolean contains(T entry) {
+        if (entry == null) {
+            return false;
+        }
+        T indexed = index.get(fold(entry.getName()));
+        if (indexed == null) {
+            return false;
+        }
+        return indexed == entry || entries.contains(entry);
+    }
+
+    /**
+     * Returns the entry at the given position, counting entries in the order they were added.
+     *
+     * @param position the position of the entry.
+     * @return the entry at that position.
+     * @throws IndexOutOfBoundsException if there is no entry at that position.
+     */
+    public T get(int position) throws IndexOutOfBoundsException {
+        return entries.get(position);
+    }
+
+    /**
+     * Returns the number of entries held by this manager.
+     *
+     * @return the number of entries held by this manager.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Stops any further entries being added or removed, so the manager can be shared safely.
+     * Freezing cannot be undone.
+     */
+    public void freeze() {
+        this.frozen = true;
+    }
+
+    /**
+     * Returns whether the manager has been frozen.
+     *
+     * @return true if entries can no longer be added or removed
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Throws if the manager has been frozen.
+     *
+     * @throws IllegalStateException If the manager has been frozen.
+     */
+    private void checkNotFrozen() throws IllegalStateException {
+        if (frozen) {
+            throw new IllegalStateException("Entries cannot be changed once frozen!");
+        }
+    }
+
+    /**
+     * Case-folds a name into the key used by the name index.
+     *
+     * @param name the name to fold
+     * @return the folded key
+     */
+    private static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Returns a string representation of the EntryManager's internal state.
      *
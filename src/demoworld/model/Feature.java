@@ -2,8 +2,10 @@ package demoworld.model;
 
 import demoworld.model.Character;
 import demoworld.model.adjustments.Adjustment;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * A game feature in the game that can include automated adjustments and {@link Requirement} that
@@ -18,9 +20,14 @@ public class Feature implements Adjuster, Named, HasRequirements {
     private final String name;
 
     /**
-     * description
+     * description, or null until {@code pendingDescription} has been decoded
      */
-    private final String description;
+    private String description;
+
+    /**
+     * Supplies the description the first time it is asked for, or null once it has
+     */
+    private volatile Supplier<String> pendingDescription;
 
     /**
      * adjustments
@@ -32,6 +39,26 @@ public class Feature implements Adjuster, Named, HasRequirements {
      */
     private final EntryManager<Requirement> requirements;
 
+    /**
+     * The requirements compiled for checking, or null until next needed.
+     */
+    private CompiledRequirements compiled;
+
+    /**
+     * The adjustments flattened into one vector, or null until next needed.
+     */
+    private AdjustmentVector vector;
+
+    /**
+     * Whether the feature can no longer be changed.
+     */
+    private boolean frozen;
+
+    /**
+     * id
+     */
+    private int id;
+
     /**
      * Constructs a {@code feature} that can hold {@link Adjustment}s and {@link Requirement}
      * related to that {@code feature}.
@@ -44,6 +71,76 @@ public class Feature implements Adjuster, Named, HasRequirements {
         this.description = description;
         this.adjustments = new ArrayList<>();
         this.requirements = new EntryManager<>();
+        this.id = SymbolTable.UNRESOLVED;
+    }
+
+    /**
+     * Constructs a {@code feature} whose description is only worked out the first time it is
+     * asked for, used when loading large catalogs.
+     *
+     * @param name        the name of the feature
+     * @param description supplies the description of the feature when first needed
+     */
+    Feature(String name, Supplier<String> description) {
+        this(name, (String) null);
+        this.pendingDescription = description;
+    }
+
+    /**
+     * Gets the id this feature was interned under by its rulebook's {@link SymbolTable}.
+     *
+     * @return id of the feature, or {@link SymbolTable#UNRESOLVED} if it has not been bound
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Interns this feature's name into the given {@link SymbolTable} and resolves the stats
+     * referred to by its {@link Requirement}s and {@link Adjustment}s to stat slots.
+     * Should be called once the feature's requirements and adjustments have been added.
+     *
+     * @param symbols the symbol table of the rulebook this feature belongs to
+     * @throws IllegalStateException if the feature has been frozen
+     */
+    public void bind(SymbolTable symbols) throws IllegalStateException {
+        checkNotFrozen();
+        this.id = symbols.intern(SymbolTable.Kind.FEATURE, this.name);
+        for (Requirement requirement : this.requirements) {
+            requirement.bind(symbols);
+        }
+        for (Adjustment adjustment : this.adjustments) {
+            adjustment.bind(symbols);
+        }
+        this.compiled = null;
+        this.vector = null;
+    }
+
+    /**
+     * Stops the feature and its requirements being changed, so it can be shared between
+     * rulebooks and threads. Its requirements are compiled and its adjustments flattened now
+     * rather than on first use.
+     */
+    public void freeze() {
+        for (Requirement requirement : this.requirements) {
+            requirement.freeze();
+        }
+        this.requirements.freeze();
+        getCompiledRequirements();
+        getAdjustmentVector();
+        this.frozen = true;
+    }
+
+    /**
+     * Throws if the feature has been frozen.
+     *
+     * @throws IllegalStateException if the feature has been frozen
+     */
+    private void checkNotFrozen() throws IllegalStateException {
+        if (this.frozen) {
+            throw new IllegalStateException("Feature " + this.name
+                    + " cannot be changed once frozen!");
+        }
     }
 
     /**
@@ -62,6 +159,11 @@ public class Feature implements Adjuster, Named, HasRequirements {
      * @return text description of the feature
      */
     public String getDescription() {
+        Supplier<String> pending = this.pendingDescription;
+        if (pending != null) {
+            this.description = pending.get();
+            this.pendingDescription = null;
+        }
         return description;
     }
 
@@ -69,19 +171,62 @@ public class Feature implements Adjuster, Named, HasRequirements {
      * Adds an {@link Adjustment} to the adjustments this feature uses.
      *
      * @param adjustment - the adjustment
+     * @throws IllegalStateException if the feature has been frozen
      */
-    public void addAdjustment(Adjustment adjustment) {
+    public void addAdjustment(Adjustment adjustment) throws IllegalStateException {
+        checkNotFrozen();
         this.adjustments.add(adjustment);
+        this.vector = null;
+    }
+
+    /**
+     * Returns a new list of references to the {@link Adjustment}s this feature applies.
+     *
+     * @return new List of {@link Adjustment}
+     */
+    public List<Adjustment> getAdjustments() {
+        return new ArrayList<>(this.adjustments);
+    }
+
+    /**
+     * Returns how many {@link Adjustment}s this feature applies, without copying them.
+     *
+     * @return the number of adjustments
+     */
+    int adjustmentCount() {
+        return this.adjustments.size();
+    }
+
+    /**
+     * Returns how many {@link Requirement}s this feature has, without copying them.
+     *
+     * @return the number of requirements
+     */
+    int requirementCount() {
+        return this.requirements.size();
+    }
+
+    /**
+     * Returns one of this feature's {@link Requirement}s, in the order they were added.
+     *
+     * @param position the position of the requirement
+     * @return the requirement at that position
+     */
+    Requirement requirement(int position) {
+        return this.requirements.get(position);
     }
 
     /**
      * Adds an {@link Requirement} to the requirements this feature uses;
      *
      * @param requirement - the requirement to be added to the feature
+     * @throws IllegalStateException if the feature has been frozen
      */
     @Override
-    public void addRequirement(Requirement requirement) {
+    public void addRequirement(Requirement requirement) throws IllegalStateException {
+        checkNotFrozen();
         this.requirements.add(requirement);
+        this.compiled = null;
     }
 
 
@@ -93,13 +238,23 @@ public class Feature implements Adjuster, Named, HasRequirements {
      */
     @Override
     public boolean meetsRequirements(Character character) {
-        boolean meetsRequirements = true;
-        for (Requirement requirement : this.requirements.all()) {
-            if (!requirement.check(character)) {
-                meetsRequirements = false;
-            }
+        return getCompiledRequirements().test(character);
+    }
+
+    /**
+     * Returns the requirements of this entry compiled into a single check, compiling them
+     * if they have changed since they were last compiled.
+     *
+     * @return the compiled requirements
+     */
+    @Override
+    public CompiledRequirements getCompiledRequirements() {
+        CompiledRequirements check = this.compiled;
+        if (check == null) {
+            check = CompiledRequirements.compile(this.requirements);
+            this.compiled = check;
         }
-        return meetsRequirements;
+        return check;
     }
 
     /**
@@ -109,7 +264,22 @@ public class Feature implements Adjuster, Named, HasRequirements {
      */
     @Override
     public List<Requirement> getRequirements() {
-        return new ArrayList<>(requirements.all());
+        return requirements.all();
+    }
+
+    /**
+     * Returns the net effect of this feature's adjustments, flattening them the first time
+     * it is asked for after they change.
+     *
+     * @return the feature's {@link AdjustmentVector}
+     */
+    public AdjustmentVector getAdjustmentVector() {
+        AdjustmentVector flattened = this.vector;
+        if (flattened == null) {
+            flattened = AdjustmentVector.of(this.adjustments);
+            this.vector = flattened;
+        }
+        return flattened;
     }
 
     /**
@@ -120,10 +290,7 @@ public class Feature implements Adjuster, Named, HasRequirements {
      */
     @Override
     public Character adjust(Character character) {
-        for (Adjustment adjustment : adjustments) {
-            adjustment.adjust(character);
-        }
-        return character;
+        return getAdjustmentVector().adjust(character);
     }
 
     /**
@@ -134,37 +301,23 @@ public class Feature implements Adjuster, Named, HasRequirements {
      */
     @Override
     public Character unadjust(Character character) {
-        for (Adjustment adjustment : adjustments) {
-            adjustment.unadjust(character);
-        }
-        return character;
+        return getAdjustmentVector().unadjust(character);
     }
 
     /**
-     * Returns a string representation of the Feature
+     * Returns a string representation of the Feature, as it is written on the character sheet
+     * by {@link SheetRenderer}.
      *
      * @return a string representation of the Feature
      */
     @Override
     public String toString() {
-        String title = this.getName().toUpperCase();
-        String adjustmentsTracker = "[" + "*".repeat(this.adjustments.size()) + "]";
-        StringBuilder requirements = new StringBuilder();
-
-        for (Requirement requirement : this.requirements.all()) {
-            requirements.append("requires: ").append(
-                    requirement.toString()
-            ).append("\n");
+        StringBuilder sb = new StringBuilder();
+        try {
+            new SheetRenderer().writeFeature(this, sb);
+        } catch (IOException e) {
+            throw new IllegalStateException("StringBuilder cannot fail to append", e);
         }
-
-        return title
-               + " "
-               + adjustmentsTracker
-               + "\n"
-               + requirements
-               + '"'
-               + this.getDescription()
-               + '"'
-               + "\n";
+        return sb.toString();
     }
 }
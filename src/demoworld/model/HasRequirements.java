@@ -27,4 +27,10 @@ public interface HasRequirements {
      * @return the list of requirements
      */
     List<Requirement> getRequirements();
+
+    /**
+     * Get the requirements compiled into a single check.
+     * @return the compiled requirements, which stay valid until a requirement is added
+     */
+    CompiledRequirements getCompiledRequirements();
 }
\ No newline at end of file
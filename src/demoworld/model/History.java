@@ -0,0 +1,132 @@
+package demoworld.model;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Undo and redo for one {@link Character}, kept as a stack of {@link CharacterSnapshot}s.
+ * Because successive snapshots share nearly all of their state, keeping one per edit costs
+ * little more than the parts of the character each edit changed.
+ */
+public class History {
+
+    /**
+     * The most snapshots kept to undo to.
+     */
+    private final int limit;
+
+    /**
+     * Snapshots to undo to, most recent first.
+     */
+    private final Deque<CharacterSnapshot> undo;
+
+    /**
+     * Snapshots to redo to, most recent first.
+     */
+    private final Deque<CharacterSnapshot> redo;
+
+    /**
+     * The snapshot of the character as of the last edit recorded, or null before
+     * {@link #reset(Character)}.
+     */
+    private CharacterSnapshot current;
+
+    /**
+     * Constructs an empty history.
+     *
+     * @param limit the most edits that can be undone
+     */
+    public History(int limit) {
+        this.limit = limit;
+        this.undo = new ArrayDeque<>();
+        this.redo = new ArrayDeque<>();
+    }
+
+    /**
+     * Forgets every edit and starts again from the character's current state.
+     *
+     * @param character the character to track
+     */
+    public void reset(Character character) {
+        undo.clear();
+        redo.clear();
+        current = character.snapshot();
+    }
+
+    /**
+     * Records the character's current state as an edit that can be undone, if it changed
+     * since the last one recorded. Recording an edit clears anything that could be redone.
+     *
+     * @param character the character that was edited
+     * @return true if an edit was recorded
+     */
+    public boolean record(Character character) {
+        CharacterSnapshot latest = character.snapshot();
+        if (latest == current) {
+            return false;
+        }
+        CharacterSnapshot previous = current;
+        current = latest;
+        if (previous == null) {
+            return false;
+        }
+        undo.push(previous);
+        if (undo.size() > limit) {
+            undo.removeLast();
+        }
+        redo.clear();
+        return true;
+    }
+
+    /**
+     * Returns whether there is an edit to undo.
+     *
+     * @return true if {@link #undo(Character)} would change the character
+     */
+    public boolean canUndo() {
+        return !undo.isEmpty();
+    }
+
+    /**
+     * Returns whether there is an undone edit to redo.
+     *
+     * @return true if {@link #redo(Character)} would change the character
+     */
+    public boolean canRedo() {
+        return !redo.isEmpty();
+    }
+
+    /**
+     * Puts the character back to how it was before the last edit. Changes made since the last
+     * recorded edit are recorded first, so they are what gets undone.
+     *
+     * @param character the character to change
+     * @return true if an edit was undone
+     */
+    public boolean undo(Character character) {
+        record(character);
+        if (undo.isEmpty()) {
+            return false;
+        }
+        redo.push(current);
+        current = undo.pop();
+        character.restore(current);
+        return true;
+    }
+
+    /**
+     * Puts back the last edit undone.
+     *
+     * @param character the character to change
+     * @return true if an edit was redone
+     */
+    public boolean redo(Character character) {
+        if (redo.isEmpty() || character.snapshot() != current) {
+            return false;
+        }
+        undo.push(current);
+        current = redo.pop();
+        character.restore(current);
+        return true;
+    }
+}
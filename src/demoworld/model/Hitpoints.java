@@ -5,6 +5,15 @@ package demoworld.model;
  * It extends the {@link Stat} class and provides methods to manage the character's hitpoints.
  */
 public class Hitpoints extends Stat {
+    /**
+     * name
+     */
+    private static final String NAME = "hitpoints";
+    /**
+     * description
+     */
+    private static final String DESCRIPTION = "Represents how much damage this Character can take";
+
     /**
      * Constructs a new Hitpoints instance
      *
@@ -14,8 +23,18 @@ public class Hitpoints extends Stat {
      * @param current initial current amount for the base Value in hitpoints
      */
     public Hitpoints(int max, int current) {
-        super("hitpoints", "Represents how much damage this Character can take",
-                0, max, current);
+        super(NAME, DESCRIPTION, 0, max, current);
+    }
+
+    /**
+     * Constructs a Hitpoints view over existing base and modifier Values, used by
+     * {@link StatBlock} to hand out hitpoints that live in the block.
+     *
+     * @param base     the base Value
+     * @param modifier the modifier Value, which holds the temporary hitpoints
+     */
+    Hitpoints(Value base, Value modifier) {
+        super(NAME, DESCRIPTION, base, modifier);
     }
 
     /**
@@ -22,10 +22,10 @@ public class Main {
         System.out.println(character.getStatByName("analytical").toString());
         System.out.println(character.getStatByName("empathy").toString());
         System.out.println(character.getStatByName("resilience").toString());
-        for(Specialty specialty : character.getSpecialty().all()){
+        for(Specialty specialty : character.getSpecialty()){
             System.out.println(specialty);
         }
-        for(Feature feature : character.getFeature().all()){
+        for(Feature feature : character.getFeature()){
             System.out.println(feature);
         }
         System.out.println("-----------------------------------");
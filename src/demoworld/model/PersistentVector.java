@@ -0,0 +1,249 @@
+package demoworld.model;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list held as a 32-way trie. Changing, appending or removing the last element copies
+ * only the nodes on the path to it, so the new version shares every other node with the old one and
+ * costs O(log n) to make, while the old version stays valid. Used by {@link CharacterSnapshot}
+ * so that successive snapshots of a character share nearly all of their state.
+ *
+ * @param <T> the type of element held
+ */
+public final class PersistentVector<T> implements Iterable<T> {
+
+    /**
+     * Number of index bits consumed by each level of the trie.
+     */
+    private static final int BITS = 5;
+
+    /**
+     * Mask selecting the index bits of one level.
+     */
+    private static final int MASK = (1 << BITS) - 1;
+
+    /**
+     * The vector with no elements.
+     */
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, 0, new Object[0]);
+
+    /**
+     * size
+     */
+    private final int size;
+
+    /**
+     * How far the index is shifted to find the slot in the root node.
+     */
+    private final int shift;
+
+    /**
+     * The root node. Inner nodes hold child nodes and leaf nodes hold elements; a node only
+     * holds as many slots as it has children.
+     */
+    private final Object[] root;
+
+    /**
+     * Constructs a vector over the given trie.
+     *
+     * @param size  the number of elements
+     * @param shift the shift of the root node
+     * @param root  the root node
+     */
+    private PersistentVector(int size, int shift, Object[] root) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty vector.
+     *
+     * @param <T> the type of element held
+     * @return the empty vector
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * Returns a vector holding the given elements in order.
+     *
+     * @param elements the elements
+     * @param <T>      the type of element held
+     * @return a vector of the elements
+     */
+    public static <T> PersistentVector<T> of(Iterable<? extends T> elements) {
+        PersistentVector<T> vector = empty();
+        for (T element : elements) {
+            vector = vector.append(element);
+        }
+        return vector;
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the element at the given index.
+     *
+     * @param index the index
+     * @return the element at that index
+     * @throws IndexOutOfBoundsException if there is no element at that index
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return (T) node[index & MASK];
+    }
+
+    /**
+     * Returns a vector with the element at the given index replaced.
+     *
+     * @param index the index
+     * @param value the new element
+     * @return the new vector, or this vector if the element there is already {@code value}
+     * @throws IndexOutOfBoundsException if there is no element at that index
+     */
+    public PersistentVector<T> set(int index, T value) throws IndexOutOfBoundsException {
+        if (get(index) == value) {
+            return this;
+        }
+        return new PersistentVector<>(size, shift, setIn(root, shift, index, value));
+    }
+
+    /**
+     * Returns a vector with the given element added to the end.
+     *
+     * @param value the element to add
+     * @return the new vector
+     */
+    public PersistentVector<T> append(T value) {
+        Object[] top = root;
+        int level = shift;
+        if (size == 1 << (shift + BITS)) {
+            // the trie is full, so it grows a level with the old root as the first child
+            top = new Object[] {root};
+            level += BITS;
+        }
+        return new PersistentVector<>(size + 1, level, setIn(top, level, size, value));
+    }
+
+    /**
+     * Returns a vector without its last element.
+     *
+     * @return the new vector
+     * @throws NoSuchElementException if the vector is empty
+     */
+    public PersistentVector<T> pop() throws NoSuchElementException {
+        if (size == 0) {
+            throw new NoSuchElementException("Cannot pop an empty vector");
+        }
+        if (size == 1) {
+            return empty();
+        }
+        Object[] top = popIn(root, shift, size - 1);
+        int level = shift;
+        if (level > 0 && top.length == 1) {
+            // the root is left with one child, so the trie shrinks a level
+            top = (Object[]) top[0];
+            level -= BITS;
+        }
+        return new PersistentVector<>(size - 1, level, top);
+    }
+
+    /**
+     * Copies the path to an index, setting the element at the end of it.
+     *
+     * @param node  the node to copy, which may be too short to hold the index yet
+     * @param level the shift of the node
+     * @param index the index
+     * @param value the element to set
+     * @return the copied node
+     */
+    private static Object[] setIn(Object[] node, int level, int index, Object value) {
+        int slot = (index >>> level) & MASK;
+        Object[] copy = Arrays.copyOf(node, Math.max(node.length, slot + 1));
+        if (level == 0) {
+            copy[slot] = value;
+        } else {
+            Object[] child = slot < node.length ? (Object[]) node[slot] : new Object[0];
+            copy[slot] = setIn(child, level - BITS, index, value);
+        }
+        return copy;
+    }
+
+    /**
+     * Copies the path to the last index, dropping the element at the end of it and any node
+     * left empty.
+     *
+     * @param node  the node to copy
+     * @param level the shift of the node
+     * @param index the last index
+     * @return the copied node, which is empty if nothing is left in it
+     */
+    private static Object[] popIn(Object[] node, int level, int index) {
+        int slot = (index >>> level) & MASK;
+        if (level == 0) {
+            return Arrays.copyOf(node, slot);
+        }
+        Object[] child = popIn((Object[]) node[slot], level - BITS, index);
+        if (child.length == 0) {
+            return Arrays.copyOf(node, slot);
+        }
+        Object[] copy = node.clone();
+        copy[slot] = child;
+        return copy;
+    }
+
+    /**
+     * Checks that there is an element at the given index.
+     *
+     * @param index the index
+     * @throws IndexOutOfBoundsException if there is no element at that index
+     */
+    private void checkIndex(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size "
+                    + size);
+        }
+    }
+
+    /**
+     * Returns an iterator over the elements in order.
+     *
+     * @return an iterator over the elements
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public T next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
+    }
+}
@@ -18,6 +18,14 @@ public class Requirement implements Named {
      * threshold
      */
     private final int threshold;
+    /**
+     * The stat slot {@code statKey} resolves to, or {@link SymbolTable#UNRESOLVED} until bound.
+     */
+    private int statSlot;
+    /**
+     * Whether the requirement can no longer be re-bound.
+     */
+    private boolean frozen;
 
     /**
      * Construct a new requirement with a given name, statKey and threshold.
@@ -31,6 +39,60 @@ public class Requirement implements Named {
         this.name = name;
         this.statKey = statKey;
         this.threshold = threshold;
+        this.statSlot = SymbolTable.UNRESOLVED;
+    }
+
+    /**
+     * Resolves the {@code statKey} to its stat slot in the given {@link SymbolTable}, so that
+     * {@link #check(Character)} can read the {@link Stat} without looking it up by name.
+     * Requirements that are never bound, or whose stat is unknown to the table, keep
+     * looking the {@link Stat} up by name.
+     *
+     * @param symbols the symbol table of the rulebook this requirement belongs to
+     * @throws IllegalStateException if the requirement has been frozen and the table would
+     *                               bind it to a different slot
+     */
+    public void bind(SymbolTable symbols) throws IllegalStateException {
+        int slot = symbols.idOf(SymbolTable.Kind.STAT, this.statKey);
+        if (frozen && slot != this.statSlot) {
+            throw new IllegalStateException("Requirement " + this.name
+                    + " cannot be re-bound once frozen!");
+        }
+        this.statSlot = slot;
+    }
+
+    /**
+     * Stops the requirement being re-bound to a different slot, so it can be shared safely.
+     */
+    public void freeze() {
+        this.frozen = true;
+    }
+
+    /**
+     * Gets the name of the {@link Stat} this requirement checks against.
+     *
+     * @return the statKey of the Requirement
+     */
+    public String getStatKey() {
+        return this.statKey;
+    }
+
+    /**
+     * Gets the minimum total the {@link Stat} needs to meet this requirement.
+     *
+     * @return the threshold of the Requirement
+     */
+    public int getThreshold() {
+        return this.threshold;
+    }
+
+    /**
+     * Gets the stat slot this requirement was bound to.
+     *
+     * @return the stat slot, or {@link SymbolTable#UNRESOLVED} if not bound
+     */
+    public int getStatSlot() {
+        return this.statSlot;
     }
 
     /**
@@ -50,6 +112,9 @@ public class Requirement implements Named {
      * @return true if the characters {@link Stat} that matches the {@code statKey}
      */
     public boolean check(Character character) {
+        if (this.statSlot != SymbolTable.UNRESOLVED) {
+            return character.getStatBlock().total(this.statSlot) >= this.threshold;
+        }
         return character.getStatByName(this.statKey).getTotal() >= this.threshold;
     }
 
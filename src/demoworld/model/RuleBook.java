@@ -2,12 +2,29 @@ package demoworld.model;
 
 import demoworld.model.Character;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Abstract class spelling out what a Rulebook will have at the minimum for methods.
  */
 public abstract class RuleBook {
 
+    /**
+     * The starting stats and hitpoints every {@link Character} built from this rulebook
+     * shares until it first changes them, created on first use.
+     */
+    private StatBlock defaultStatBlock;
+
+    /**
+     * The feature catalog as eligibility bitmaps, created on first use.
+     */
+    private EligibilityBitmaps<Feature> featureBitmaps;
+
+    /**
+     * The specialty catalog as eligibility bitmaps, created on first use.
+     */
+    private EligibilityBitmaps<Specialty> specialtyBitmaps;
+
     /**
      * Responsible for managing rolling the dice pool (multiple and various dice) required for the game.
      *
@@ -29,6 +46,14 @@ public abstract class RuleBook {
      */
     public abstract double getEdition();
 
+    /**
+     * Gets the {@link SymbolTable} holding the ids of every stat, feature and specialty name
+     * in the game. Stat ids are the stat slots used by {@link Character#getStatBySlot(int)}.
+     *
+     * @return the rulebook's {@link SymbolTable}
+     */
+    public abstract SymbolTable getSymbols();
+
     /**
      * Gets a list of every {@link Feature} in the game.
      *
@@ -82,6 +107,49 @@ public abstract class RuleBook {
      */
     protected abstract List<Stat> createAndGetStats();
 
+    /**
+     * Returns the {@link StatBlock} holding the starting stats and hitpoints for a
+     * {@link Character}, built once from {@link #getStatReference()} and
+     * {@link #setCharacterStartingHitpoints()}. Characters copy it with
+     * {@link StatBlock#StatBlock(StatBlock)}, so it must never be written to.
+     *
+     * @return the rulebook's default {@link StatBlock}
+     */
+    protected StatBlock getDefaultStatBlock() {
+        if (this.defaultStatBlock == null) {
+            this.defaultStatBlock = new StatBlock(getStatReference(),
+                    setCharacterStartingHitpoints());
+        }
+        return this.defaultStatBlock;
+    }
+
+    /**
+     * Returns the rulebook's features as {@link EligibilityBitmaps}, for checking which
+     * features many characters are eligible for at once. Built the first time it is asked for.
+     *
+     * @return the feature catalog's eligibility bitmaps
+     */
+    public synchronized EligibilityBitmaps<Feature> getFeatureEligibilityBitmaps() {
+        if (this.featureBitmaps == null) {
+            this.featureBitmaps = new EligibilityBitmaps<>(getFeature());
+        }
+        return this.featureBitmaps;
+    }
+
+    /**
+     * Returns the rulebook's specialties as {@link EligibilityBitmaps}, for checking which
+     * specialties many characters are eligible for at once. Built the first time it is asked
+     * for.
+     *
+     * @return the specialty catalog's eligibility bitmaps
+     */
+    public synchronized EligibilityBitmaps<Specialty> getSpecialtyEligibilityBitmaps() {
+        if (this.specialtyBitmaps == null) {
+            this.specialtyBitmaps = new EligibilityBitmaps<>(getSpecialty());
+        }
+        return this.specialtyBitmaps;
+    }
+
     /**
      * Creates an initial {@link Hitpoints} configured with the specific rulesets defaults.
      * @return {@link Hitpoints}
@@ -162,4 +230,34 @@ public abstract class RuleBook {
      * @return the {@link Feature} from the rulebook
      */
     public abstract Feature getFeatureByName(String featureName);
-}
\ No newline at end of file
+
+    /**
+     * Finds the first entry whose name matches exactly, using the manager's case-insensitive
+     * index and only scanning when the indexed entry differs in case.
+     *
+     * @param entries the entries to search
+     * @param name    the name to match
+     * @param missing the message to throw with if there is no match
+     * @param <T>     the type of entry
+     * @return the matching entry
+     * @throws IllegalStateException if no entry has exactly that name
+     */
+    protected static <T extends Named> T exactly(EntryManager<T> entries, String name,
+                                                 String missing) throws IllegalStateException {
+        T indexed;
+        try {
+            indexed = entries.byName(name);
+        } catch (IllegalStateException e) {
+            throw new IllegalStateException(missing);
+        }
+        if (Objects.equals(indexed.getName(), name)) {
+            return indexed;
+        }
+        for (T entry : entries) {
+            if (Objects.equals(entry.getName(), name)) {
+                return entry;
+            }
+        }
+        throw new IllegalStateException(missing);
+    }
+}
@@ -0,0 +1,297 @@
+package demoworld.model;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes the ASCII sheet of a {@link Character} straight to an {@link Appendable}. The fixed
+ * parts of the sheet are held as constant segments, numbers are written digit by digit from a
+ * scratch buffer, and the width of each stat line is worked out arithmetically instead of by
+ * building the line first, so rendering a sheet makes no string per stat. The output is exactly
+ * what {@link Character#toString()} returns.
+ *
+ * <p>A renderer keeps scratch state between sheets and must only be used by one thread at a
+ * time. Reusing one renderer for many sheets also reuses the upper-cased names it has seen.</p>
+ */
+public final class SheetRenderer {
+
+    /**
+     * The banner above the character's name.
+     */
+    private static final String HEADER = "   _______________________________\n"
+            + " / \\                              |\n"
+            + " \\__|                             |\n"
+            + "    |          * ";
+
+    /**
+     * The rest of the name line, and the blank line below it.
+     */
+    private static final String AFTER_NAME = " *          |\n"
+            + "    |                             |\n";
+
+    /**
+     * The start of every stat line.
+     */
+    private static final String STAT_START = "    |  ";
+
+    /**
+     * The end of every stat line, after its padding.
+     */
+    private static final String STAT_END = "     |\n";
+
+    /**
+     * The bottom of the banner, below the stats.
+     */
+    private static final String FOOTER = "    |                             |\n"
+            + "    |  ___________________________|__\n"
+            + "    \\_/_____________________________/\n";
+
+    /**
+     * The heading of the specialties.
+     */
+    private static final String SPECIALTIES = "        |================================\\\n"
+            + "[0]#####>--------  SPECIALTIES  ---------->\n"
+            + "        |================================/\n\n";
+
+    /**
+     * The heading of the features.
+     */
+    private static final String FEATURES = "        |================================\\\n"
+            + "[0]#####>----------  FEATURES  ----------->\n"
+            + "        |================================/\n\n";
+
+    /**
+     * A run of boxes written in pieces to draw hitpoint and experience tracks of any length.
+     */
+    private static final String BOXES = "[ ]".repeat(32);
+
+    /**
+     * A run of spaces written in pieces to pad stat lines of any width.
+     */
+    private static final String SPACES = " ".repeat(64);
+
+    /**
+     * A run of stars written in pieces to mark how many adjustments a feature has.
+     */
+    private static final String STARS = "*".repeat(64);
+
+    /**
+     * Holds the digits of the number being written.
+     */
+    private final char[] digits;
+
+    /**
+     * A view of {@code digits} for appendables that are neither a {@link StringBuilder} nor a
+     * {@link Writer}.
+     */
+    private final CharBuffer digitView;
+
+    /**
+     * Names upper-cased so far, by the name.
+     */
+    private final Map<String, String> upperCase;
+
+    /**
+     * Constructs a renderer.
+     */
+    public SheetRenderer() {
+        this.digits = new char[11];
+        this.digitView = CharBuffer.wrap(this.digits);
+        this.upperCase = new HashMap<>();
+    }
+
+    /**
+     * Writes the sheet of a character.
+     *
+     * @param character the character
+     * @param out       where to write the sheet
+     * @throws IOException if writing to {@code out} fails
+     */
+    public void render(Character character, Appendable out) throws IOException {
+        StatBlock stats = character.getStatBlock();
+
+        out.append(HEADER).append(character.getName()).append(AFTER_NAME);
+
+        int width = 0;
+        for (int slot = 0; slot < stats.size(); slot++) {
+            width = Math.max(width, statLength(stats, slot));
+        }
+        for (int slot = 0; slot < stats.size(); slot++) {
+            out.append(STAT_START);
+            writeStat(stats, slot, out);
+            repeat(SPACES, 1, width - statLength(stats, slot), out);
+            out.append(STAT_END);
+        }
+        out.append(FOOTER);
+
+        int hp = stats.hitpointsSlot();
+        int tempHp = stats.modifier(hp);
+        out.append("HITPOINTS:");
+        writeInt(stats.base(hp) + tempHp, out);
+        out.append('/');
+        writeInt(stats.baseMax(hp), out);
+        out.append('\n');
+        repeat(BOXES, 3, stats.baseMax(hp), out);
+        out.append("\nTEMP HP: ");
+        writeInt(tempHp, out);
+        out.append('\n');
+
+        Experience experience = character.getExperience();
+        out.append("XP:");
+        writeInt(experience.current(), out);
+        out.append('/');
+        writeInt(experience.max(), out);
+        out.append('\n');
+        repeat(BOXES, 3, experience.max(), out);
+        out.append('\n');
+
+        out.append(SPECIALTIES);
+        EntryManager<Specialty> specialties = character.getSpecialty();
+        for (int i = 0; i < specialties.size(); i++) {
+            Specialty specialty = specialties.get(i);
+            writeInt(i + 1, out);
+            out.append(". ").append(upper(specialty.getName())).append('\n')
+                    .append(specialty.getDescription()).append("\n\n");
+        }
+
+        out.append(FEATURES);
+        EntryManager<Feature> features = character.getFeature();
+        for (int i = 0; i < features.size(); i++) {
+            writeInt(i + 1, out);
+            out.append(". ");
+            writeFeature(features.get(i), out);
+            out.append("\n\n");
+        }
+    }
+
+    /**
+     * Writes a stat as {@code NAME total : (base + modifier)}, as {@link Stat#toString()} does.
+     *
+     * @param stats the stat block
+     * @param slot  the stat's slot
+     * @param out   where to write the stat
+     * @throws IOException if writing to {@code out} fails
+     */
+    private void writeStat(StatBlock stats, int slot, Appendable out) throws IOException {
+        out.append(upper(stats.name(slot))).append(' ');
+        writeInt(stats.total(slot), out);
+        out.append(" : (");
+        writeInt(stats.base(slot), out);
+        out.append(" + ");
+        writeInt(stats.modifier(slot), out);
+        out.append(')');
+    }
+
+    /**
+     * Works out how long a stat is when written by {@link #writeStat}, without writing it.
+     *
+     * @param stats the stat block
+     * @param slot  the stat's slot
+     * @return the number of characters in the written stat
+     */
+    private int statLength(StatBlock stats, int slot) {
+        return upper(stats.name(slot)).length() + 1 + intLength(stats.total(slot)) + 4
+                + intLength(stats.base(slot)) + 3 + intLength(stats.modifier(slot)) + 1;
+    }
+
+    /**
+     * Writes a feature as {@code NAME [stars]}, one {@code requires:} line per requirement and
+     * its quoted description. {@link Feature#toString()} is written by this method too.
+     *
+     * @param feature the feature
+     * @param out     where to write the feature
+     * @throws IOException if writing to {@code out} fails
+     */
+    void writeFeature(Feature feature, Appendable out) throws IOException {
+        out.append(upper(feature.getName())).append(" [");
+        repeat(STARS, 1, feature.adjustmentCount(), out);
+        out.append("]\n");
+        for (int i = 0; i < feature.requirementCount(); i++) {
+            Requirement requirement = feature.requirement(i);
+            out.append("requires: ").append(requirement.getStatKey()).append(" >= ");
+            writeInt(requirement.getThreshold(), out);
+            out.append('\n');
+        }
+        out.append('"').append(feature.getDescription()).append("\"\n");
+    }
+
+    /**
+     * Gets a name in upper case, upper-casing it only the first time it is seen.
+     *
+     * @param name the name
+     * @return the name in upper case
+     */
+    private String upper(String name) {
+        return upperCase.computeIfAbsent(name, String::toUpperCase);
+    }
+
+    /**
+     * Writes a unit of a run a number of times, in as few pieces as the run allows.
+     *
+     * @param run   a string made of the unit repeated
+     * @param unit  the length of the unit
+     * @param count how many times to write the unit; nothing is written if not positive
+     * @param out   where to write
+     * @throws IOException if writing to {@code out} fails
+     */
+    private static void repeat(String run, int unit, int count, Appendable out)
+            throws IOException {
+        int remaining = count * unit;
+        while (remaining > 0) {
+            int length = Math.min(remaining, run.length());
+            if (out instanceof Writer) {
+                ((Writer) out).write(run, 0, length);
+            } else {
+                out.append(run, 0, length);
+            }
+            remaining -= length;
+        }
+    }
+
+    /**
+     * Writes an int in decimal.
+     *
+     * @param value the int
+     * @param out   where to write it
+     * @throws IOException if writing to {@code out} fails
+     */
+    private void writeInt(int value, Appendable out) throws IOException {
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(value);
+            return;
+        }
+        long remaining = Math.abs((long) value);
+        int start = digits.length;
+        do {
+            digits[--start] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+        if (value < 0) {
+            digits[--start] = '-';
+        }
+        if (out instanceof Writer) {
+            ((Writer) out).write(digits, start, digits.length - start);
+        } else {
+            out.append(digitView, start, digits.length);
+        }
+    }
+
+    /**
+     * Works out how many characters an int has when written in decimal.
+     *
+     * @param value the int
+     * @return the number of characters, including any minus sign
+     */
+    private static int intLength(int value) {
+        long remaining = Math.abs((long) value);
+        int length = value < 0 ? 2 : 1;
+        while (remaining >= 10) {
+            remaining /= 10;
+            length++;
+        }
+        return length;
+    }
+}
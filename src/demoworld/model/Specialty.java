@@ -3,7 +3,11 @@ package demoworld.model;
 
 import demoworld.model.Character;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * A game specialty in the game that holds feautres it can bestow on a character and requirements
@@ -16,17 +20,41 @@ public class Specialty implements Adjuster, Named, HasRequirements  {
      */
     private final String name;
     /**
-     * description
+     * description, or null until {@code pendingDescription} has been decoded
      */
-    private final String description;
+    private String description;
+    /**
+     * Supplies the description the first time it is asked for, or null once it has
+     */
+    private volatile Supplier<String> pendingDescription;
     /**
      * requirements
      */
     private final EntryManager<Requirement> requirements;
+
+    /**
+     * The requirements compiled for checking, or null until next needed.
+     */
+    private CompiledRequirements compiled;
+
+    /**
+     * The adjustments of every granted feature flattened into one vector, or null until next
+     * needed.
+     */
+    private AdjustmentVector vector;
+
+    /**
+     * Whether the specialty can no longer be changed.
+     */
+    private boolean frozen;
     /**
      * features
      */
     private final EntryManager<Feature> features;
+    /**
+     * id
+     */
+    private int id;
 
     /**
      * Constructs a {@code specialty} that can hold {@link Feature}s and {@link Requirement}
@@ -40,6 +68,75 @@ public class Specialty implements Adjuster, Named, HasRequirements  {
         this.description = description;
         this.features = new EntryManager<>();
         this.requirements = new EntryManager<>();
+        this.id = SymbolTable.UNRESOLVED;
+    }
+
+    /**
+     * Constructs a {@code specialty} whose description is only worked out the first time it is
+     * asked for, used when loading large catalogs.
+     *
+     * @param name        the name of the specialty
+     * @param description supplies the description of the specialty when first needed
+     */
+    Specialty(String name, Supplier<String> description) {
+        this(name, (String) null);
+        this.pendingDescription = description;
+    }
+
+    /**
+     * Gets the id this specialty was interned under by its rulebook's {@link SymbolTable}.
+     *
+     * @return id of the specialty, or {@link SymbolTable#UNRESOLVED} if it has not been bound
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Interns this specialty's name into the given {@link SymbolTable} and resolves the stats
+     * referred to by its {@link Requirement}s to stat slots. The features it grants are bound
+     * by the rulebook that owns them.
+     *
+     * @param symbols the symbol table of the rulebook this specialty belongs to
+     * @throws IllegalStateException if the specialty has been frozen
+     */
+    public void bind(SymbolTable symbols) throws IllegalStateException {
+        checkNotFrozen();
+        this.id = symbols.intern(SymbolTable.Kind.SPECIALTY, this.name);
+        for (Requirement requirement : this.requirements) {
+            requirement.bind(symbols);
+        }
+        this.compiled = null;
+        this.vector = null;
+    }
+
+    /**
+     * Stops the specialty, its requirements and the list of features it grants being changed,
+     * so it can be shared between rulebooks and threads. Its requirements are compiled and
+     * its features' adjustments flattened now rather than on first use. The features it grants
+     * are frozen by the rulebook that owns them, before it.
+     */
+    public void freeze() {
+        for (Requirement requirement : this.requirements) {
+            requirement.freeze();
+        }
+        this.requirements.freeze();
+        this.features.freeze();
+        getCompiledRequirements();
+        getAdjustmentVector();
+        this.frozen = true;
+    }
+
+    /**
+     * Throws if the specialty has been frozen.
+     *
+     * @throws IllegalStateException if the specialty has been frozen
+     */
+    private void checkNotFrozen() throws IllegalStateException {
+        if (this.frozen) {
+            throw new IllegalStateException("Specialty " + this.name
+                    + " cannot be changed once frozen!");
+        }
     }
 
     /**
@@ -58,6 +155,11 @@ public class Specialty implements Adjuster, Named, HasRequirements  {
      * @return text description of the specialty
      */
     public String getDescription() {
+        Supplier<String> pending = this.pendingDescription;
+        if (pending != null) {
+            this.description = pending.get();
+            this.pendingDescription = null;
+        }
         return description;
     }
 
@@ -65,19 +167,25 @@ public class Specialty implements Adjuster, Named, HasRequirements  {
      * Adds a {@link Feature} to the features granted by this specialty.
      *
      * @param feature the feature being added to this specialty.
+     * @throws IllegalStateException if the specialty has been frozen
      */
-    public void addFeature(Feature feature) {
+    public void addFeature(Feature feature) throws IllegalStateException {
+        checkNotFrozen();
         this.features.add(feature);
+        this.vector = null;
     }
 
     /**
      * Adds a {@link Requirement} to the requirements this specialty uses.
      *
      * @param requirement the requirement being added to this specialty.
+     * @throws IllegalStateException if the specialty has been frozen
      */
     @Override
-    public void addRequirement(Requirement requirement) {
+    public void addRequirement(Requirement requirement) throws IllegalStateException {
+        checkNotFrozen();
         this.requirements.add(requirement);
+        this.compiled = null;
     }
 
     /**
@@ -87,7 +195,7 @@ public class Specialty implements Adjuster, Named, HasRequirements  {
      */
     @Override
     public List<Requirement> getRequirements() {
-        return new ArrayList<>(requirements.all());
+        return requirements.all();
     }
 
     /**
@@ -96,7 +204,7 @@ public class Specialty implements Adjuster, Named, HasRequirements  {
      * @return new List of features
      */
     public List<Feature> getFeatures() {
-        return new ArrayList<>(features.all());
+        return features.all();
     }
 
     /**
@@ -106,42 +214,72 @@ public class Specialty implements Adjuster, Named, HasRequirements  {
      */
     @Override
     public boolean meetsRequirements(Character character) {
-        boolean meetsRequirements = true;
-        for (Requirement requirement : this.requirements.all()) {
-            if (!requirement.check(character)) {
-                meetsRequirements = false;
+        return getCompiledRequirements().test(character);
+    }
+
+    /**
+     * Returns the requirements of this entry compiled into a single check, compiling them
+     * if they have changed since they were last compiled.
+     *
+     * @return the compiled requirements
+     */
+    @Override
+    public CompiledRequirements getCompiledRequirements() {
+        CompiledRequirements check = this.compiled;
+        if (check == null) {
+            check = CompiledRequirements.compile(this.requirements);
+            this.compiled = check;
+        }
+        return check;
+    }
+
+    /**
+     * Returns the net effect of the adjustments of every feature this specialty grants,
+     * counting each feature once. The features should have all their adjustments before they
+     * are added to the specialty.
+     *
+     * @return the specialty's {@link AdjustmentVector}
+     */
+    public AdjustmentVector getAdjustmentVector() {
+        AdjustmentVector flattened = this.vector;
+        if (flattened == null) {
+            List<AdjustmentVector> vectors = new ArrayList<>();
+            Set<Feature> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Feature feature : this.features) {
+                if (counted.add(feature)) {
+                    vectors.add(feature.getAdjustmentVector());
+                }
             }
+            flattened = AdjustmentVector.sum(vectors);
+            this.vector = flattened;
         }
-        return meetsRequirements;
+        return flattened;
     }
 
     /**
-     * Adds this specialty's features to the {@link Character}.
+     * Grants this specialty's features to the {@link Character}, adding the ones it lacks.
+     * When the character has none of them yet, their adjustments are applied together as one
+     * vector.
      *
      * @param character the {@link Character} to adjust
      * @return the adjusted character
      */
     @Override
     public Character adjust(Character character) {
-        for (Feature feature : this.features.all()) {
-            character.addFeature(feature);
-        }
+        character.grantFeatures(this.features.view(), getAdjustmentVector());
         return character;
     }
 
     /**
-     * Removes this specialty's features from the {@link Character}.
+     * Revokes this specialty's features from the {@link Character}. A feature that another of
+     * the character's specialties also grants is kept.
      *
      * @param character the {@link Character} to unadjust
      * @return the unadjusted character
      */
     @Override
     public Character unadjust(Character character) {
-        for (Feature feature : features.all()) {
-            if (character.getFeature().all().contains(feature)) {
-                character.removeFeature(feature);
-            }
-        }
+        character.revokeFeatures(this.features.view(), getAdjustmentVector());
         return character;
     }
 
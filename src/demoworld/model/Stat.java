@@ -42,6 +42,31 @@ public class Stat implements Named {
         this.modifier = new Value(min, max, 0);
     }
 
+    /**
+     * Constructs a {@code Stat} over existing base and modifier {@link Value}s, used by
+     * {@link StatBlock} to hand out views whose values live in the block.
+     *
+     * @param name        the name of the new {@code Stat}
+     * @param description the description of the new {@code Stat}
+     * @param base        the base {@link Value}
+     * @param modifier    the modifier {@link Value}
+     */
+    Stat(String name, String description, Value base, Value modifier) {
+        this.name = name;
+        this.description = description;
+        this.base = base;
+        this.modifier = modifier;
+    }
+
+    /**
+     * Stops the base and modifier {@link Value}s from being changed, so the {@code Stat} can be
+     * shared safely.
+     */
+    public void freeze() {
+        this.base.freeze();
+        this.modifier.freeze();
+    }
+
     /**
      * Gets the name of the {@code Stat}.
      *
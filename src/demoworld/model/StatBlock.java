@@ -0,0 +1,681 @@
+package demoworld.model;
+
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Compact storage for a {@link Character}'s {@link Stat}s and {@link Hitpoints}.
+ * Rather than one {@link Stat} holding two {@link Value}s per stat, the block keeps one
+ * {@code int[]} per field (base, modifier and their minimums and maximums) indexed by stat slot,
+ * with the hitpoints held in one extra slot after the stats.
+ * {@link #stat(int)} and {@link #hitpoints()} hand out lightweight {@link Stat} and
+ * {@link Hitpoints} views that read and write straight through to the arrays, so the existing
+ * {@link Stat}/{@link Value} API keeps working without the block holding any state per stat.
+ * Each view is made the first time it is asked for and handed out again after that.
+ * Bounds are enforced the same way {@link Value} enforces them, except that the modifier column
+ * holds the exact sum of the adjustments added with {@link #addToModifier(int, int)} and is only
+ * clamped when it is read. Removing an adjustment therefore always restores the modifier it
+ * replaced, whatever order adjustments were added and removed in. Totals are derived from the
+ * base and the clamped modifier and cached until the next write.
+ */
+public class StatBlock {
+    /**
+     * Column holding the current base amounts.
+     */
+    public static final int BASE = 0;
+    /**
+     * Column holding the base minimums.
+     */
+    public static final int BASE_MIN = 1;
+    /**
+     * Column holding the base maximums.
+     */
+    public static final int BASE_MAX = 2;
+    /**
+     * Column holding the current modifier amounts.
+     */
+    public static final int MODIFIER = 3;
+    /**
+     * Column holding the modifier minimums.
+     */
+    public static final int MODIFIER_MIN = 4;
+    /**
+     * Column holding the modifier maximums.
+     */
+    public static final int MODIFIER_MAX = 5;
+    /**
+     * Number of columns.
+     */
+    public static final int COLUMNS = 6;
+
+    /**
+     * names
+     */
+    private final String[] names;
+    /**
+     * descriptions
+     */
+    private final String[] descriptions;
+    /**
+     * One {@code int[]} per column, each indexed by slot.
+     */
+    private final int[][] columns;
+    /**
+     * Bit mask of the columns still shared with the block this one was copied from.
+     * A shared column is copied the first time it is written to.
+     */
+    private int shared;
+    /**
+     * How many times each slot has been written to, or null while no slot has been.
+     */
+    private long[] versions;
+    /**
+     * How many times any slot has been written to.
+     */
+    private long version;
+    /**
+     * Whether the block can no longer be written to.
+     */
+    private boolean frozen;
+    /**
+     * The total of each slot as of the last time they were derived, or null before then.
+     */
+    private int[] totals;
+    /**
+     * Whether a slot has been written to since {@code totals} was last derived.
+     */
+    private boolean dirty = true;
+    /**
+     * Told the slot every time a slot is written to, or null if nothing is listening.
+     */
+    private IntConsumer listener;
+    /**
+     * The view of each stat slot, each made the first time it is asked for, or null before
+     * any is.
+     */
+    private Stat[] views;
+    /**
+     * The view of the hitpoints slot, or null until it is first asked for.
+     */
+    private Hitpoints hitpointsView;
+
+    /**
+     * Constructs a {@code StatBlock} holding a copy of the current state of the given
+     * {@link Stat}s, in order, followed by the given {@link Hitpoints}.
+     *
+     * @param stats     the stats to copy, in stat slot order
+     * @param hitpoints the hitpoints to copy
+     */
+    public StatBlock(List<Stat> stats, Hitpoints hitpoints) {
+        int size = stats.size();
+        this.names = new String[size];
+        this.descriptions = new String[size];
+        this.columns = new int[COLUMNS][size + 1];
+        this.shared = 0;
+        for (int slot = 0; slot < size; slot++) {
+            Stat stat = stats.get(slot);
+            this.names[slot] = stat.getName();
+            this.descriptions[slot] = stat.getDescription();
+            copy(slot, stat);
+        }
+        copy(size, hitpoints);
+    }
+
+    /**
+     * Constructs a {@code StatBlock} that starts out with the same values as the given block.
+     * No values are copied up front: each column is shared with {@code defaults} until this
+     * block first writes to it, so blocks that never change cost next to nothing.
+     * The given block must not be written to while copies of it are still sharing columns.
+     *
+     * @param defaults the block to start from, typically the rulebook's defaults
+     */
+    public StatBlock(StatBlock defaults) {
+        this.names = defaults.names;
+        this.descriptions = defaults.descriptions;
+        this.columns = defaults.columns.clone();
+        this.shared = (1 << COLUMNS) - 1;
+    }
+
+    /**
+     * Copies the state of a stat into a slot.
+     *
+     * @param slot the slot to copy into
+     * @param stat the stat to copy from
+     */
+    private void copy(int slot, Stat stat) {
+        this.columns[BASE][slot] = stat.getBase().current();
+        this.columns[BASE_MIN][slot] = stat.getBase().min();
+        this.columns[BASE_MAX][slot] = stat.getBase().max();
+        this.columns[MODIFIER][slot] = stat.getModifier().current();
+        this.columns[MODIFIER_MIN][slot] = stat.getModifier().min();
+        this.columns[MODIFIER_MAX][slot] = stat.getModifier().max();
+    }
+
+    /**
+     * Returns a column ready to be written to, copying it first if it is still shared.
+     *
+     * @param column the column
+     * @return the column's array, owned by this block
+     * @throws IllegalStateException if the block has been frozen
+     */
+    private int[] writable(int column) {
+        if (this.frozen) {
+            throw new IllegalStateException("Stats cannot be changed once frozen!");
+        }
+        int bit = 1 << column;
+        if ((this.shared & bit) != 0) {
+            this.columns[column] = this.columns[column].clone();
+            this.shared &= ~bit;
+        }
+        return this.columns[column];
+    }
+
+    /**
+     * Stops the block being written to, so it can be shared as the defaults for many
+     * characters. Copies made with {@link #StatBlock(StatBlock)} can still be written to.
+     */
+    public void freeze() {
+        this.frozen = true;
+        // derive now, so a block shared between threads is never written to by a read
+        deriveTotals();
+    }
+
+    /**
+     * Records that a slot has been written to.
+     *
+     * @param slot the slot written to
+     */
+    private void changed(int slot) {
+        if (this.versions == null) {
+            this.versions = new long[this.names.length + 1];
+        }
+        this.versions[slot]++;
+        this.version++;
+        this.dirty = true;
+        if (this.listener != null) {
+            this.listener.accept(slot);
+        }
+    }
+
+    /**
+     * Sets what is told the slot every time a slot is written to.
+     *
+     * @param listener the listener, or null to stop listening
+     */
+    void setListener(IntConsumer listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Returns how many times a slot has been written to. A slot whose version has not moved
+     * since it was last read still holds the same values.
+     *
+     * @param slot the slot
+     * @return the version of the slot
+     */
+    public long version(int slot) {
+        return this.versions == null ? 0 : this.versions[slot];
+    }
+
+    /**
+     * Returns how many times any slot has been written to.
+     *
+     * @return the version of the whole block
+     */
+    public long version() {
+        return this.version;
+    }
+
+    /**
+     * Returns whether any of this block's values are still shared with the block it was
+     * copied from.
+     *
+     * @return true if at least one column has not been written to since copying
+     */
+    public boolean isShared() {
+        return this.shared != 0;
+    }
+
+    /**
+     * Returns the number of stats in the block, not counting the hitpoints.
+     *
+     * @return the number of stats
+     */
+    public int size() {
+        return this.names.length;
+    }
+
+    /**
+     * Returns the slot the hitpoints are held in, which is one past the last stat.
+     *
+     * @return the hitpoints slot
+     */
+    public int hitpointsSlot() {
+        return this.names.length;
+    }
+
+    /**
+     * Returns the name of the stat in a slot.
+     *
+     * @param slot the stat slot
+     * @return the stat's name
+     */
+    public String name(int slot) {
+        return this.names[slot];
+    }
+
+    /**
+     * Returns the description of the stat in a slot.
+     *
+     * @param slot the stat slot
+     * @return the stat's description
+     */
+    public String description(int slot) {
+        return this.descriptions[slot];
+    }
+
+    /**
+     * Returns a {@link Stat} view of the stat in a slot. The view holds no state of its own,
+     * so every change made through it lands in this block. The same view is returned every
+     * time for a slot.
+     *
+     * @param slot the stat slot
+     * @return a view of the stat
+     */
+    public Stat stat(int slot) {
+        if (this.views == null) {
+            this.views = new Stat[this.names.length];
+        }
+        Stat view = this.views[slot];
+        if (view == null) {
+            view = new StatView(slot);
+            this.views[slot] = view;
+        }
+        return view;
+    }
+
+    /**
+     * Returns a {@link Hitpoints} view of the hitpoints slot. The same view is returned every
+     * time.
+     *
+     * @return a view of the hitpoints
+     */
+    public Hitpoints hitpoints() {
+        if (this.hitpointsView == null) {
+            int slot = hitpointsSlot();
+            this.hitpointsView = new Hitpoints(new Cell(slot, false), new Cell(slot, true));
+        }
+        return this.hitpointsView;
+    }
+
+    /**
+     * Gets the current base amount in a slot.
+     *
+     * @param slot the slot
+     * @return the current base amount
+     */
+    public int base(int slot) {
+        return this.columns[BASE][slot];
+    }
+
+    /**
+     * Gets the minimum base amount in a slot.
+     *
+     * @param slot the slot
+     * @return the minimum base amount
+     */
+    public int baseMin(int slot) {
+        return this.columns[BASE_MIN][slot];
+    }
+
+    /**
+     * Gets the maximum base amount in a slot.
+     *
+     * @param slot the slot
+     * @return the maximum base amount
+     */
+    public int baseMax(int slot) {
+        return this.columns[BASE_MAX][slot];
+    }
+
+    /**
+     * Gets the current modifier amount in a slot, which is the sum of the adjustments added
+     * to it kept within the modifier bounds.
+     *
+     * @param slot the slot
+     * @return the current modifier amount
+     */
+    public int modifier(int slot) {
+        return clamp(this.columns[MODIFIER][slot],
+                this.columns[MODIFIER_MIN][slot], this.columns[MODIFIER_MAX][slot]);
+    }
+
+    /**
+     * Gets the sum of the adjustments added to the modifier in a slot, before it is kept
+     * within the modifier bounds.
+     *
+     * @param slot the slot
+     * @return the unclamped modifier amount
+     */
+    public int rawModifier(int slot) {
+        return this.columns[MODIFIER][slot];
+    }
+
+    /**
+     * Gets the minimum modifier amount in a slot.
+     *
+     * @param slot the slot
+     * @return the minimum modifier amount
+     */
+    public int modifierMin(int slot) {
+        return this.columns[MODIFIER_MIN][slot];
+    }
+
+    /**
+     * Gets the maximum modifier amount in a slot.
+     *
+     * @param slot the slot
+     * @return the maximum modifier amount
+     */
+    public int modifierMax(int slot) {
+        return this.columns[MODIFIER_MAX][slot];
+    }
+
+    /**
+     * Gets the total of the base and modifier current amounts in a slot.
+     *
+     * @param slot the slot
+     * @return the total current amount
+     */
+    public int total(int slot) {
+        if (this.dirty) {
+            deriveTotals();
+        }
+        return this.totals[slot];
+    }
+
+    /**
+     * Derives the total of every slot from the base and the clamped modifier.
+     */
+    private void deriveTotals() {
+        int[] derived = this.totals;
+        if (derived == null) {
+            derived = new int[this.names.length + 1];
+        }
+        for (int slot = 0; slot < derived.length; slot++) {
+            derived[slot] = this.columns[BASE][slot] + modifier(slot);
+        }
+        this.totals = derived;
+        this.dirty = false;
+    }
+
+    /**
+     * Sets the current base amount in a slot, keeping it within the base bounds.
+     *
+     * @param slot  the slot
+     * @param value the new current base amount
+     */
+    public void setBase(int slot, int value) {
+        writable(BASE)[slot] = value;
+        enforceBounds(BASE, slot);
+        changed(slot);
+    }
+
+    /**
+     * Sets the minimum base amount in a slot, then enforces the base bounds.
+     *
+     * @param slot  the slot
+     * @param value the new minimum base amount
+     */
+    public void setBaseMin(int slot, int value) {
+        writable(BASE_MIN)[slot] = value;
+        enforceBounds(BASE, slot);
+        changed(slot);
+    }
+
+    /**
+     * Sets the maximum base amount in a slot, then enforces the base bounds.
+     *
+     * @param slot  the slot
+     * @param value the new maximum base amount
+     */
+    public void setBaseMax(int slot, int value) {
+        writable(BASE_MAX)[slot] = value;
+        enforceBounds(BASE, slot);
+        changed(slot);
+    }
+
+    /**
+     * Sets the current modifier amount in a slot, keeping it within the modifier bounds.
+     *
+     * @param slot  the slot
+     * @param value the new current modifier amount
+     */
+    public void setModifier(int slot, int value) {
+        writable(MODIFIER)[slot] = clamp(value,
+                this.columns[MODIFIER_MIN][slot], this.columns[MODIFIER_MAX][slot]);
+        changed(slot);
+    }
+
+    /**
+     * Adds an adjustment to the modifier in a slot. The sum is kept exactly and only clamped
+     * to the modifier bounds when read, so adding the negated amount later always undoes it.
+     *
+     * @param slot  the slot
+     * @param value the amount to add
+     */
+    public void addToModifier(int slot, int value) {
+        writable(MODIFIER)[slot] += value;
+        changed(slot);
+    }
+
+    /**
+     * Sets the minimum modifier amount in a slot, then enforces the modifier bounds. The
+     * modifier itself is left as it is and clamped to the new bounds when read.
+     *
+     * @param slot  the slot
+     * @param value the new minimum modifier amount
+     */
+    public void setModifierMin(int slot, int value) {
+        writable(MODIFIER_MIN)[slot] = value;
+        enforceMaxBound(MODIFIER, slot);
+        changed(slot);
+    }
+
+    /**
+     * Sets the maximum modifier amount in a slot, then enforces the modifier bounds. The
+     * modifier itself is left as it is and clamped to the new bounds when read.
+     *
+     * @param slot  the slot
+     * @param value the new maximum modifier amount
+     */
+    public void setModifierMax(int slot, int value) {
+        writable(MODIFIER_MAX)[slot] = value;
+        enforceMaxBound(MODIFIER, slot);
+        changed(slot);
+    }
+
+    /**
+     * Copies every value held for a slot, in column order, with the modifier unclamped.
+     * The array is indexed by {@link #BASE}, {@link #BASE_MIN} and the other column constants.
+     *
+     * @param slot the slot
+     * @return a new array of the slot's values
+     */
+    public int[] row(int slot) {
+        int[] row = new int[COLUMNS];
+        for (int column = 0; column < COLUMNS; column++) {
+            row[column] = this.columns[column][slot];
+        }
+        return row;
+    }
+
+    /**
+     * Overwrites every value held for a slot with values copied by {@link #row(int)}.
+     *
+     * @param slot the slot
+     * @param row  the slot's values, in column order
+     */
+    public void loadRow(int slot, int[] row) {
+        for (int column = 0; column < COLUMNS; column++) {
+            if (this.columns[column][slot] != row[column]) {
+                writable(column)[slot] = row[column];
+            }
+        }
+        changed(slot);
+    }
+
+    /**
+     * Enforces the same bounds {@link Value} does on one slot of either the base or the
+     * modifier, only writing to the columns that actually change.
+     *
+     * @param current the {@link #BASE} or {@link #MODIFIER} column
+     * @param slot    the slot to enforce
+     */
+    private void enforceBounds(int current, int slot) {
+        enforceMaxBound(current, slot);
+        int min = this.columns[current + 1][slot];
+        int max = this.columns[current + 2][slot];
+        if (this.columns[current][slot] > max) {
+            writable(current)[slot] = max;
+        }
+        if (this.columns[current][slot] < min) {
+            writable(current)[slot] = min;
+        }
+    }
+
+    /**
+     * Raises the maximum of either the base or the modifier of one slot to its minimum, the
+     * way {@link Value} does, without touching the current amount.
+     *
+     * @param current the {@link #BASE} or {@link #MODIFIER} column
+     * @param slot    the slot to enforce
+     */
+    private void enforceMaxBound(int current, int slot) {
+        int min = this.columns[current + 1][slot];
+        if (this.columns[current + 2][slot] < min) {
+            writable(current + 2)[slot] = min;
+        }
+    }
+
+    /**
+     * Keeps an amount within the given bounds, the way {@link Value} does.
+     *
+     * @param value the amount
+     * @param min   the minimum
+     * @param max   the maximum, already at least {@code min}
+     * @return the amount kept within the bounds
+     */
+    private static int clamp(int value, int min, int max) {
+        return value > max ? max : Math.max(value, min);
+    }
+
+    /**
+     * A {@link Stat} view of one stat slot, whose total is read from the cached totals.
+     */
+    private final class StatView extends Stat {
+        /**
+         * slot
+         */
+        private final int slot;
+
+        /**
+         * Constructs a view of one stat slot.
+         *
+         * @param slot the stat slot to view
+         */
+        private StatView(int slot) {
+            super(names[slot], descriptions[slot], new Cell(slot, false), new Cell(slot, true));
+            this.slot = slot;
+        }
+
+        @Override
+        public int getTotal() {
+            return total(slot);
+        }
+    }
+
+    /**
+     * A {@link Value} view of either the base or the modifier of one slot.
+     */
+    private final class Cell extends Value {
+        /**
+         * slot
+         */
+        private final int slot;
+        /**
+         * whether this views the modifier rather than the base
+         */
+        private final boolean isModifier;
+
+        /**
+         * Constructs a view of one slot.
+         *
+         * @param slot       the slot to view
+         * @param isModifier true to view the modifier, false to view the base
+         */
+        private Cell(int slot, boolean isModifier) {
+            super(0, 0, 0);
+            this.slot = slot;
+            this.isModifier = isModifier;
+        }
+
+        @Override
+        public int min() {
+            return isModifier ? modifierMin(slot) : baseMin(slot);
+        }
+
+        @Override
+        public int max() {
+            return isModifier ? modifierMax(slot) : baseMax(slot);
+        }
+
+        @Override
+        public int current() {
+            return isModifier ? modifier(slot) : base(slot);
+        }
+
+        @Override
+        public void setMin(int min) {
+            if (isModifier) {
+                setModifierMin(slot, min);
+            } else {
+                setBaseMin(slot, min);
+            }
+        }
+
+        @Override
+        public void setMax(int max) {
+            if (isModifier) {
+                setModifierMax(slot, max);
+            } else {
+                setBaseMax(slot, max);
+            }
+        }
+
+        @Override
+        public void setCurrent(int value) {
+            if (isModifier) {
+                setModifier(slot, value);
+            } else {
+                setBase(slot, value);
+            }
+        }
+
+        @Override
+        public void addToCurrent(int value) {
+            // a stat modifier is a sum of adjustments and is kept exact, as addToModifier
+            // keeps it; temporary hitpoints are used up by damage, so they stay clamped
+            if (isModifier && slot != hitpointsSlot()) {
+                addToModifier(slot, value);
+            } else {
+                setCurrent(current() + value);
+            }
+        }
+
+        @Override
+        public void addToMax(int value) {
+            setMax(max() + value);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package demoworld.model;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Interns the names used by a {@link RuleBook} into dense integer ids, one id space per
+ * {@link Kind} of entry. Ids are handed out in the order names are first interned, starting at
+ * zero, so they can be used directly as array slots. Names are matched ignoring case, the same
+ * way {@link EntryManager#byName(String)} matches them.
+ */
+public class SymbolTable {
+
+    /**
+     * The id returned for names that have not been interned.
+     */
+    public static final int UNRESOLVED = -1;
+
+    /**
+     * The kinds of entry that each get their own id space.
+     */
+    public enum Kind {
+        /** Names of {@link Stat}s, whose ids are the stat slots of a {@link Character}. */
+        STAT,
+
+        /** Names of {@link Feature}s. */
+        FEATURE,
+
+        /** Names of {@link Specialty}/~ies. */
+        SPECIALTY;
+    }
+
+    /**
+     * Case-folded name to id, per kind.
+     */
+    private final Map<Kind, Map<String, Integer>> ids;
+
+    /**
+     * Id to name as first interned, per kind.
+     */
+    private final Map<Kind, List<String>> names;
+
+    /**
+     * Whether new names can no longer be interned.
+     */
+    private boolean frozen;
+
+    /**
+     * Constructs an empty SymbolTable.
+     */
+    public SymbolTable() {
+        this.ids = new EnumMap<>(Kind.class);
+        this.names = new EnumMap<>(Kind.class);
+        for (Kind kind : Kind.values()) {
+            ids.put(kind, new HashMap<>());
+            names.put(kind, new ArrayList<>());
+        }
+    }
+
+    /**
+     * Constructs a SymbolTable holding the same ids as the given table, which new names can
+     * be interned into even if the original has been frozen.
+     *
+     * @param base the table to copy
+     */
+    public SymbolTable(SymbolTable base) {
+        this();
+        for (Kind kind : Kind.values()) {
+            ids.get(kind).putAll(base.ids.get(kind));
+            names.get(kind).addAll(base.names.get(kind));
+        }
+    }
+
+    /**
+     * Returns the id for the given name, assigning the next free id if the name is new.
+     *
+     * @param kind the id space the name belongs to
+     * @param name the name to intern
+     * @return the id of the name
+     * @throws IllegalStateException if the name is new and the table has been frozen
+     */
+    public int intern(Kind kind, String name) throws IllegalStateException {
+        Integer id = ids.get(kind).get(fold(name));
+        if (id != null) {
+            return id;
+        }
+        if (frozen) {
+            throw new IllegalStateException("Cannot intern " + kind + " " + name
+                    + " once frozen!");
+        }
+        List<String> known = names.get(kind);
+        int next = known.size();
+        known.add(name);
+        ids.get(kind).put(fold(name), next);
+        return next;
+    }
+
+    /**
+     * Returns the id for the given name without interning it.
+     *
+     * @param kind the id space to look in
+     * @param name the name to look up
+     * @return the id of the name, or {@link #UNRESOLVED} if it has not been interned
+     */
+    public int idOf(Kind kind, String name) {
+        Integer id = ids.get(kind).get(fold(name));
+        return id == null ? UNRESOLVED : id;
+    }
+
+    /**
+     * Returns the name that was interned under the given id.
+     *
+     * @param kind the id space to look in
+     * @param id   the id to look up
+     * @return the name as it was first interned
+     * @throws IllegalStateException if no name has that id
+     */
+    public String nameOf(Kind kind, int id) throws IllegalStateException {
+        List<String> known = names.get(kind);
+        if (id < 0 || id >= known.size()) {
+            throw new IllegalStateException("No " + kind + " with id " + id + "!");
+        }
+        return known.get(id);
+    }
+
+    /**
+     * Returns how many names have been interned for the given kind, which is also one more
+     * than the largest id handed out.
+     *
+     * @param kind the id space to count
+     * @return the number of interned names
+     */
+    public int size(Kind kind) {
+        return names.get(kind).size();
+    }
+
+    /**
+     * Stops any new names being interned, so the table can be shared safely. Names already
+     * interned can still be looked up and interned again. Freezing cannot be undone.
+     */
+    public void freeze() {
+        this.frozen = true;
+    }
+
+    /**
+     * Case-folds a name into the key used for lookups.
+     *
+     * @param name the name to fold
+     * @return the folded key
+     */
+    private static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -21,6 +21,10 @@ public class Value {
      *  current
      */
     private int current;
+    /**
+     * Whether the value can no longer be changed.
+     */
+    private boolean frozen;
 
     /**
      * Constructs a new {@code Value} with values given for the initial boundaries and
@@ -75,8 +79,10 @@ public class Value {
      * If the current is below the new minimum, it should be set to match that minimum.
      *
      * @param min the value the minimum amount is being set to
+     * @throws IllegalStateException if the value has been frozen
      */
-    public void setMin(int min) {
+    public void setMin(int min) throws IllegalStateException {
+        checkNotFrozen();
         this.min = min;
         this.enforceBounds();
     }
@@ -88,8 +94,10 @@ public class Value {
      * If the current is above the new maximum, it should be set to match that maximum.
      *
      * @param max the value the maximum amount is being set to
+     * @throws IllegalStateException if the value has been frozen
      */
-    public void setMax(int max) {
+    public void setMax(int max) throws IllegalStateException {
+        checkNotFrozen();
         this.max = max;
         this.enforceBounds();
     }
@@ -101,8 +109,10 @@ public class Value {
      * If the new current is above the maximum, it should be set to match that maximum.
      *
      * @param value the value the current amount is being set to
+     * @throws IllegalStateException if the value has been frozen
      */
-    public void setCurrent(int value) {
+    public void setCurrent(int value) throws IllegalStateException {
+        checkNotFrozen();
         this.current = value;
         this.enforceBounds();
     }
@@ -114,8 +124,10 @@ public class Value {
      * If the new current is above the maximum, it should be set to match that maximum.
      *
      * @param value the value being added to the current amount
+     * @throws IllegalStateException if the value has been frozen
      */
-    public void addToCurrent(int value) {
+    public void addToCurrent(int value) throws IllegalStateException {
+        checkNotFrozen();
         this.current += value;
         this.enforceBounds();
     }
@@ -127,12 +139,32 @@ public class Value {
      * If the current is above the new maximum, it should be set to match that maximum.
      *
      * @param value amount being added to the values max amount
+     * @throws IllegalStateException if the value has been frozen
      */
-    public void addToMax(int value) {
+    public void addToMax(int value) throws IllegalStateException {
+        checkNotFrozen();
         this.max += value;
         this.enforceBounds();
     }
 
+    /**
+     * Stops the {@code Value} from being changed, so it can be shared safely.
+     */
+    public void freeze() {
+        this.frozen = true;
+    }
+
+    /**
+     * Throws if the {@code Value} has been frozen.
+     *
+     * @throws IllegalStateException if the value has been frozen
+     */
+    private void checkNotFrozen() throws IllegalStateException {
+        if (this.frozen) {
+            throw new IllegalStateException("Value cannot be changed once frozen!");
+        }
+    }
+
     private void enforceBounds() {
         if (this.max < this.min) {
             this.max = this.min;
@@ -2,6 +2,7 @@ package demoworld.model.adjustments;
 
 import demoworld.model.Adjuster;
 import demoworld.model.Character;
+import demoworld.model.SymbolTable;
 
 /**
  * {@code Adjustment} provides a base implementation for adjusting
@@ -30,4 +31,13 @@ public abstract class Adjustment implements Adjuster {
      */
     @Override
     public abstract Character unadjust(Character character);
+
+    /**
+     * Resolves any names this adjustment refers to against the given {@link SymbolTable}.
+     * Adjustments that do not refer to anything by name need not override this.
+     *
+     * @param symbols the symbol table of the rulebook this adjustment belongs to
+     */
+    public void bind(SymbolTable symbols) {
+    }
 }
\ No newline at end of file
@@ -23,6 +23,14 @@ public class MaxHpAdjustment extends Adjustment implements Adjuster {
         this.value = value;
     }
 
+    /**
+     * Gets the value the maximum {@link Hitpoints} is adjusted by
+     * @return the value assigned to the adjustment
+     */
+    public int getValue() {
+        return this.value;
+    }
+
     /**
      * Adjusts the maximum {@link Hitpoints} of the given character.
      *
@@ -26,6 +26,14 @@ public class MaxXpAdjustment extends Adjustment implements Adjuster {
         this.value = value;
     }
 
+    /**
+     * Gets the value the maximum {@link Experience} is adjusted by
+     * @return the value assigned to the adjustment
+     */
+    public int getValue() {
+        return this.value;
+    }
+
     /**
      * Adjusts the maximum {@link Experience} of the given character.
      *
@@ -3,6 +3,7 @@ package demoworld.model.adjustments;
 import demoworld.model.Adjuster;
 import demoworld.model.Stat;
 import demoworld.model.Character;
+import demoworld.model.SymbolTable;
 
 
 /**
@@ -25,6 +26,18 @@ public class StatAdjustment extends Adjustment implements Adjuster {
         super();
         this.statKey = stat;
         this.value = value;
+        this.statSlot = SymbolTable.UNRESOLVED;
+    }
+
+    /**
+     * Resolves the statKey to its stat slot so adjusting does not look the {@link Stat} up
+     * by name.
+     *
+     * @param symbols the symbol table of the rulebook this adjustment belongs to
+     */
+    @Override
+    public void bind(SymbolTable symbols) {
+        this.statSlot = symbols.idOf(SymbolTable.Kind.STAT, this.statKey);
     }
 
     /**
@@ -35,6 +48,14 @@ public class StatAdjustment extends Adjustment implements Adjuster {
         return this.statKey;
     }
 
+    /**
+     * Gets the stat slot the statKey was bound to
+     * @return the stat slot, or {@link SymbolTable#UNRESOLVED} if not bound
+     */
+    public int getStatSlot() {
+        return this.statSlot;
+    }
+
     /**
      * Gets the value assigned to the statAdjustment
      * @return the value assigned to the statAdjustment
@@ -51,6 +72,10 @@ public class StatAdjustment extends Adjustment implements Adjuster {
      */
     @Override
     public Character adjust(Character character) {
+        if (this.statSlot != SymbolTable.UNRESOLVED) {
+            character.getStatBlock().addToModifier(this.statSlot, this.value);
+            return character;
+        }
         Stat statToChange = character.getStatByName(this.statKey);
         statToChange.addToCurrentModifier(this.value);
         return character;
@@ -65,6 +90,10 @@ public class StatAdjustment extends Adjustment implements Adjuster {
      */
     @Override
     public Character unadjust(Character character) {
+        if (this.statSlot != SymbolTable.UNRESOLVED) {
+            character.getStatBlock().addToModifier(this.statSlot, -this.value);
+            return character;
+        }
         Stat statToChange = character.getStatByName(this.statKey);
         statToChange.addToCurrentModifier(-this.value);
         return character;
@@ -79,5 +108,9 @@ public class StatAdjustment extends Adjustment implements Adjuster {
      * The {@code value} used to adjust the specific {@link Stat}
      */
     private final int value;
-}
 
+    /**
+     * The stat slot {@code statKey} resolves to, or {@link SymbolTable#UNRESOLVED} until bound
+     */
+    private int statSlot;
+}
@@ -0,0 +1,523 @@
+package demoworld.roster;
+
+import demoworld.model.Character;
+import demoworld.model.CharacterSnapshot;
+import demoworld.model.Feature;
+import demoworld.model.RuleBook;
+import demoworld.model.Specialty;
+import demoworld.model.StatBlock;
+import demoworld.model.SymbolTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Holds the characters of a whole campaign in columns rather than as {@link Character} objects.
+ * Each stat, and the hitpoints, get one column for every value a {@link StatBlock} holds for
+ * them, with the modifier unclamped, and experience gets a column of its own, all indexed by
+ * row. The features and specialties
+ * each character has are kept as bitmaps, one run of {@code long} words per row, keyed by the
+ * ids in the rulebook's {@link SymbolTable}, and the grant count of each held feature is kept
+ * alongside, one int per feature id per row.
+ * Characters are given a stable id when added. Removing a character moves the last row into
+ * its place, so the rows stay packed and a scan over a column never skips holes.
+ */
+public class Roster {
+
+    /**
+     * The rulebook every character in the roster is built from.
+     */
+    private final RuleBook rulebook;
+
+    /**
+     * Number of stat columns.
+     */
+    private final int statCount;
+
+    /**
+     * Number of {@code long} words in each row of the feature bitmap.
+     */
+    private final int featureWords;
+
+    /**
+     * Number of {@code long} words in each row of the specialty bitmap.
+     */
+    private final int specialtyWords;
+
+    /**
+     * Features by id, filled in as characters holding them are added.
+     */
+    private final Feature[] features;
+
+    /**
+     * Specialties by id, filled in as characters holding them are added.
+     */
+    private final Specialty[] specialties;
+
+    /**
+     * Number of rows in use.
+     */
+    private int size;
+
+    /**
+     * The id handed to the next character added.
+     */
+    private int nextId;
+
+    /**
+     * names
+     */
+    private String[] names;
+
+    /**
+     * The stat block values of every row, by slot and then by {@link StatBlock} column, so
+     * {@code values[slot][StatBlock.BASE]} is the column of bases of that slot. The
+     * hitpoints are held in the last slot.
+     */
+    private final int[][][] values;
+
+    /**
+     * experience
+     */
+    private int[] experience;
+
+    /**
+     * maximum experience
+     */
+    private int[] maxExperience;
+
+    /**
+     * The features each row has, {@code featureWords} words per row.
+     */
+    private long[] featureBits;
+
+    /**
+     * The specialties each row has, {@code specialtyWords} words per row.
+     */
+    private long[] specialtyBits;
+
+    /**
+     * The grant count of every feature in each row, as {@link Character#grantCount(Feature)}
+     * returns it, one int per feature id per row.
+     */
+    private int[] grants;
+
+    /**
+     * The id of the character in each row.
+     */
+    private int[] idAt;
+
+    /**
+     * The row each id is held in, or -1 once that character has been removed.
+     */
+    private int[] rowOf;
+
+    /**
+     * Constructs an empty roster for characters built from the given rulebook.
+     *
+     * @param rulebook the rulebook the characters use
+     */
+    public Roster(RuleBook rulebook) {
+        this.rulebook = rulebook;
+        SymbolTable symbols = rulebook.getSymbols();
+        this.statCount = symbols.size(SymbolTable.Kind.STAT);
+        int featureCount = symbols.size(SymbolTable.Kind.FEATURE);
+        int specialtyCount = symbols.size(SymbolTable.Kind.SPECIALTY);
+        this.featureWords = (featureCount + 63) >>> 6;
+        this.specialtyWords = (specialtyCount + 63) >>> 6;
+        this.features = new Feature[featureCount];
+        this.specialties = new Specialty[specialtyCount];
+        this.values = new int[statCount + 1][StatBlock.COLUMNS][];
+        allocate(16);
+    }
+
+    /**
+     * Sizes every column to hold the given number of rows, keeping the rows already held.
+     *
+     * @param capacity the number of rows to make room for
+     */
+    private void allocate(int capacity) {
+        this.names = this.names == null ? new String[capacity] : Arrays.copyOf(names, capacity);
+        for (int[][] slot : values) {
+            for (int column = 0; column < StatBlock.COLUMNS; column++) {
+                slot[column] = grow(slot[column], capacity);
+            }
+        }
+        this.experience = grow(experience, capacity);
+        this.maxExperience = grow(maxExperience, capacity);
+        this.idAt = grow(idAt, capacity);
+        this.featureBits = featureBits == null ? new long[capacity * featureWords]
+                : Arrays.copyOf(featureBits, capacity * featureWords);
+        this.specialtyBits = specialtyBits == null ? new long[capacity * specialtyWords]
+                : Arrays.copyOf(specialtyBits, capacity * specialtyWords);
+        this.grants = grow(grants, capacity * features.length);
+    }
+
+    /**
+     * Returns a column resized to the given capacity.
+     *
+     * @param column   the column, or null if it has not been created yet
+     * @param capacity the new capacity
+     * @return the resized column
+     */
+    private static int[] grow(int[] column, int capacity) {
+        return column == null ? new int[capacity] : Arrays.copyOf(column, capacity);
+    }
+
+    /**
+     * Returns the number of characters in the roster.
+     *
+     * @return the number of characters
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copies a character into the roster. Later changes to the character are not seen by the
+     * roster.
+     *
+     * @param character the character to add, built from the roster's rulebook
+     * @return the id the character can be looked up by
+     * @throws IllegalStateException if the character holds a feature or specialty that is not
+     *                               one of the rulebook's
+     */
+    public int add(Character character) throws IllegalStateException {
+        if (size == idAt.length) {
+            allocate(size * 2);
+        }
+        int row = size;
+        int id = nextId;
+        if (rowOf == null || id == rowOf.length) {
+            rowOf = rowOf == null ? new int[16] : Arrays.copyOf(rowOf, id * 2);
+        }
+        names[row] = character.getName();
+        StatBlock stats = character.getStatBlock();
+        for (int slot = 0; slot < statCount; slot++) {
+            store(stats.row(slot), slot, row);
+        }
+        store(stats.row(stats.hitpointsSlot()), statCount, row);
+        experience[row] = character.getExperience().current();
+        maxExperience[row] = character.getExperience().max();
+        Arrays.fill(featureBits, row * featureWords, (row + 1) * featureWords, 0L);
+        Arrays.fill(grants, row * features.length, (row + 1) * features.length, 0);
+        for (Feature feature : character.getFeature()) {
+            int featureId = checkId(feature.getId(), features.length, feature.getName());
+            features[featureId] = feature;
+            featureBits[row * featureWords + (featureId >>> 6)] |= 1L << featureId;
+            grants[row * features.length + featureId] = character.grantCount(feature);
+        }
+        Arrays.fill(specialtyBits, row * specialtyWords, (row + 1) * specialtyWords, 0L);
+        for (Specialty specialty : character.getSpecialty()) {
+            int specialtyId = checkId(specialty.getId(), specialties.length, specialty.getName());
+            specialties[specialtyId] = specialty;
+            specialtyBits[row * specialtyWords + (specialtyId >>> 6)] |= 1L << specialtyId;
+        }
+        idAt[row] = id;
+        rowOf[id] = row;
+        size++;
+        nextId++;
+        return id;
+    }
+
+    /**
+     * Stores the values of one stat block slot in a row.
+     *
+     * @param slotValues the slot's values, as returned by {@link StatBlock#row(int)}
+     * @param slot       the slot to store them under
+     * @param row        the row
+     */
+    private void store(int[] slotValues, int slot, int row) {
+        for (int column = 0; column < StatBlock.COLUMNS; column++) {
+            values[slot][column][row] = slotValues[column];
+        }
+    }
+
+    /**
+     * Copies the values of one stat block slot out of a row.
+     *
+     * @param slot the slot
+     * @param row  the row
+     * @return the slot's values, as {@link StatBlock#loadRow(int, int[])} takes them
+     */
+    private int[] load(int slot, int row) {
+        int[] slotValues = new int[StatBlock.COLUMNS];
+        for (int column = 0; column < StatBlock.COLUMNS; column++) {
+            slotValues[column] = values[slot][column][row];
+        }
+        return slotValues;
+    }
+
+    /**
+     * Gets the modifier of a slot in a row, kept within its bounds as
+     * {@link StatBlock#modifier(int)} does.
+     *
+     * @param slot the slot
+     * @param row  the row
+     * @return the modifier
+     */
+    private int modifier(int slot, int row) {
+        int[][] columns = values[slot];
+        return Math.max(Math.min(columns[StatBlock.MODIFIER][row],
+                columns[StatBlock.MODIFIER_MAX][row]), columns[StatBlock.MODIFIER_MIN][row]);
+    }
+
+    /**
+     * Checks that an entry's id is one of the rulebook's.
+     *
+     * @param id    the entry's id
+     * @param count how many ids the rulebook has for that kind of entry
+     * @param name  the entry's name, for the error message
+     * @return the id
+     * @throws IllegalStateException if the id is not one of the rulebook's
+     */
+    private static int checkId(int id, int count, String name) throws IllegalStateException {
+        if (id < 0 || id >= count) {
+            throw new IllegalStateException("Entry with name " + name
+                    + " is not one of the rulebook's!");
+        }
+        return id;
+    }
+
+    /**
+     * Removes a character from the roster. The last row is moved into its place.
+     *
+     * @param id the id of the character to remove
+     * @return true if the character was removed, false if there was no character with that id
+     */
+    public boolean remove(int id) {
+        if (!contains(id)) {
+            return false;
+        }
+        int row = rowOf[id];
+        int last = size - 1;
+        if (row != last) {
+            names[row] = names[last];
+            for (int[][] slot : values) {
+                for (int[] column : slot) {
+                    column[row] = column[last];
+                }
+            }
+            experience[row] = experience[last];
+            maxExperience[row] = maxExperience[last];
+            System.arraycopy(featureBits, last * featureWords,
+                    featureBits, row * featureWords, featureWords);
+            System.arraycopy(specialtyBits, last * specialtyWords,
+                    specialtyBits, row * specialtyWords, specialtyWords);
+            System.arraycopy(grants, last * features.length,
+                    grants, row * features.length, features.length);
+            idAt[row] = idAt[last];
+            rowOf[idAt[row]] = row;
+        }
+        names[last] = null;
+        rowOf[id] = -1;
+        size--;
+        return true;
+    }
+
+    /**
+     * Returns whether the roster holds a character with the given id.
+     *
+     * @param id the id to look for
+     * @return true if a character with that id is in the roster
+     */
+    public boolean contains(int id) {
+        return id >= 0 && id < nextId && rowOf[id] >= 0;
+    }
+
+    /**
+     * Returns the row a character is held in.
+     *
+     * @param id the character's id
+     * @return the row
+     * @throws IllegalStateException if there is no character with that id
+     */
+    private int row(int id) throws IllegalStateException {
+        if (!contains(id)) {
+            throw new IllegalStateException("Character with id " + id + " does not exist!");
+        }
+        return rowOf[id];
+    }
+
+    /**
+     * Gets the name of a character.
+     *
+     * @param id the character's id
+     * @return the name
+     * @throws IllegalStateException if there is no character with that id
+     */
+    public String getName(int id) throws IllegalStateException {
+        return names[row(id)];
+    }
+
+    /**
+     * Gets the total of a stat for a character.
+     *
+     * @param id   the character's id
+     * @param slot the stat slot
+     * @return the base plus the modifier of the stat
+     * @throws IllegalStateException if there is no character with that id
+     */
+    public int getTotal(int id, int slot) throws IllegalStateException {
+        int row = row(id);
+        return values[slot][StatBlock.BASE][row] + modifier(slot, row);
+    }
+
+    /**
+     * Gets the current hitpoints of a character, not counting temporary hitpoints.
+     *
+     * @param id the character's id
+     * @return the current hitpoints
+     * @throws IllegalStateException if there is no character with that id
+     */
+    public int getHitpoints(int id) throws IllegalStateException {
+        return values[statCount][StatBlock.BASE][row(id)];
+    }
+
+    /**
+     * Gets the temporary hitpoints of a character.
+     *
+     * @param id the character's id
+     * @return the temporary hitpoints
+     * @throws IllegalStateException if there is no character with that id
+     */
+    public int getTempHitpoints(int id) throws IllegalStateException {
+        return modifier(statCount, row(id));
+    }
+
+    /**
+     * Gets the current experience of a character.
+     *
+     * @param id the character's id
+     * @return the current experience
+     * @throws IllegalStateException if there is no character with that id
+     */
+    public int getExperience(int id) throws IllegalStateException {
+        return experience[row(id)];
+    }
+
+    /**
+     * Returns whether a character has a feature.
+     *
+     * @param id      the character's id
+     * @param feature the feature
+     * @return true if the character had the feature when it was added
+     * @throws IllegalStateException if there is no character with that id
+     */
+    public boolean hasFeature(int id, Feature feature) throws IllegalStateException {
+        int row = row(id);
+        int featureId = feature.getId();
+        if (featureId < 0 || featureId >= features.length) {
+            return false;
+        }
+        return (featureBits[row * featureWords + (featureId >>> 6)] & (1L << featureId)) != 0;
+    }
+
+    /**
+     * Builds a {@link Character} from a row of the roster. Its specialties are added first and
+     * then any features they do not grant, after which the stored stats, hitpoints,
+     * experience and grant counts are restored exactly, bounds and unclamped modifiers
+     * included, so the character behaves as the one added did.
+     *
+     * @param id the character's id
+     * @return a new character with the stored state
+     * @throws IllegalStateException if there is no character with that id
+     */
+    public Character get(int id) throws IllegalStateException {
+        int row = row(id);
+        Character character = new Character(names[row], rulebook);
+        character.applyAll(members(specialties, specialtyBits, specialtyWords, row),
+                members(features, featureBits, featureWords, row));
+        List<int[]> slots = new ArrayList<>(statCount + 1);
+        for (int slot = 0; slot <= statCount; slot++) {
+            slots.add(load(slot, row));
+        }
+        character.restore(CharacterSnapshot.of(names[row], slots, experience[row],
+                maxExperience[row], character.getFeature().view(),
+                character.getSpecialty().view(),
+                Arrays.copyOfRange(grants, row * features.length, (row + 1) * features.length)));
+        return character;
+    }
+
+    /**
+     * Lists the entries whose bits are set in one row of a bitmap.
+     *
+     * @param byId  the entries by id
+     * @param bits  the bitmap
+     * @param words the number of words per row
+     * @param row   the row
+     * @param <T>   the type of entry
+     * @return the entries in the row, in id order
+     */
+    private static <T> List<T> members(T[] byId, long[] bits, int words, int row) {
+        List<T> found = new ArrayList<>();
+        for (int word = 0; word < words; word++) {
+            long remaining = bits[row * words + word];
+            while (remaining != 0) {
+                found.add(byId[(word << 6) + Long.numberOfTrailingZeros(remaining)]);
+                remaining &= remaining - 1;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Calls the given action with the id of every character, in row order.
+     *
+     * @param action the action to call
+     */
+    public void forEachId(IntConsumer action) {
+        for (int row = 0; row < size; row++) {
+            action.accept(idAt[row]);
+        }
+    }
+
+    /**
+     * Returns the ids of every character, in row order.
+     *
+     * @return the ids
+     */
+    public int[] ids() {
+        return Arrays.copyOf(idAt, size);
+    }
+
+    /**
+     * Returns the ids of every character that has the given feature, in row order.
+     *
+     * @param feature the feature to look for
+     * @return the ids of the characters with the feature
+     */
+    public int[] withFeature(Feature feature) {
+        int featureId = feature.getId();
+        if (featureId < 0 || featureId >= features.length) {
+            return new int[0];
+        }
+        int word = featureId >>> 6;
+        long bit = 1L << featureId;
+        int[] found = new int[size];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if ((featureBits[row * featureWords + word] & bit) != 0) {
+                found[count++] = idAt[row];
+            }
+        }
+        return Arrays.copyOf(found, count);
+    }
+
+    /**
+     * Sums the total of a stat over every character in the roster.
+     *
+     * @param slot the stat slot
+     * @return the sum of the stat's totals
+     */
+    public long sumOfTotals(int slot) {
+        int[] base = values[slot][StatBlock.BASE];
+        long sum = 0;
+        for (int row = 0; row < size; row++) {
+            sum += base[row] + modifier(slot, row);
+        }
+        return sum;
+    }
+}
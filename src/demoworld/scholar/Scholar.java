@@ -1,12 +1,15 @@
 package demoworld.scholar;
 
 import demoworld.model.Character;
+import demoworld.model.Feature;
 import demoworld.model.RuleBook;
-import demoworld.model.Stat;
+import demoworld.model.Specialty;
+import demoworld.model.StatBlock;
+import demoworld.model.SymbolTable;
 
-import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -92,9 +95,19 @@ public class Scholar {
      */
     private Character character;
 
+    /**
+     * The upper-cased names of the rulebook's stats, by stat slot, as they appear on a sheet.
+     */
+    private final String[] statKeywords;
+
+    /**
+     * The number of characters read from a file at a time.
+     */
+    private static final int BUFFER_SIZE = 8192;
 
     /**
      * Instantiates an instance of Scholar using the given Rulebook.
+     * The stat lines it recognises are those naming one of the rulebook's stats.
      *
      * @param rulebook the DemoWorld rulebook
      */
@@ -103,31 +116,38 @@ public class Scholar {
         this.currentMode = Mode.NONE;
         this.specialties = new ArrayList<>();
         this.features = new ArrayList<>();
+
+        SymbolTable symbols = rulebook.getSymbols();
+        this.statKeywords = new String[symbols.size(SymbolTable.Kind.STAT)];
+        for (int slot = 0; slot < statKeywords.length; slot++) {
+            statKeywords[slot] = symbols.nameOf(SymbolTable.Kind.STAT, slot).toUpperCase();
+        }
     }
 
     /**
      * Takes the file at the given filepath, reads the text line by line, and processes it.
+     * The whole file is read into one buffer and each line is processed as a slice of it.
      *
      * @param filePath the filepath to be read and processed
      * @return a reference to the Scholar instance, allowing method chaining
      */
     public Scholar build(String filePath) {
-        System.out.println("Starting to build character from file: " + filePath);
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            String line;
-
+        try (Reader reader = new FileReader(filePath)) {
             character = new Character("Unnamed Character", rulebook);  // Default name
 
-            while ((line = reader.readLine()) != null) {
-                processLine(line);
+            StringBuilder text = new StringBuilder();
+            char[] buffer = new char[BUFFER_SIZE];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                text.append(buffer, 0, read);
             }
+            processText(text);
         } catch (IOException e) {
             System.err.println("Error reading the character sheet: " + e.getMessage());
         }
         return this;
     }
 
-
     /**
      * Returns the current Scholar.Mode scholar is configured to.
      *
@@ -137,6 +157,30 @@ public class Scholar {
         return this.currentMode;
     }
 
+    /**
+     * Processes every line of a text, as {@link #processLine(String)} does. Lines end at
+     * {@code \n}, {@code \r} or {@code \r\n}.
+     *
+     * @param text the text to process
+     */
+    public void processText(CharSequence text) {
+        int start = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '\r') {
+                processLine(text, start, i);
+                if (c == '\r' && i + 1 < length && text.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                start = i + 1;
+            }
+        }
+        if (start < length) {
+            processLine(text, start, length);
+        }
+    }
+
     /**
      * Processes a given line of text, determining if there is any information
      * within that should be tracked for future use when getCharacter is called.
@@ -144,70 +188,96 @@ public class Scholar {
      * @param line The line that will be processed.
      */
     public void processLine(String line) {
-        line = line.trim();
+        processLine(line, 0, line.length());
+    }
 
-        if (line.matches("^[|=\\[\\]#>/-]+$")) {
+    /**
+     * Processes the line held in a slice of a text.
+     *
+     * @param text  the text holding the line
+     * @param start the start of the line
+     * @param end   the end of the line
+     */
+    private void processLine(CharSequence text, int start, int end) {
+        start = SheetTokenizer.trimStart(text, start, end);
+        end = SheetTokenizer.trimEnd(text, start, end);
+
+        if (SheetTokenizer.isRule(text, start, end)) {
             return;
         }
-        System.out.println("Processing line: " + line);
-
-        if (line.contains("*") && line.contains("|")) {
-            System.out.println("Line with * detected: " + line);
-            characterName = extractName(line);
-            if (characterName != null && !characterName.isEmpty()) {
-                System.out.println("Extracted Character Name: " + characterName);
-            } else {
-                System.err.println("Failed to extract name from line: " + line);
-            }
-        } else if (line.contains("FORCE") || line.contains("QUICKNESS")
-                || line.contains("RESILIENCE")
-                || line.contains("ANALYTICAL") || line.contains("EMPATHY")) {
-
-            String[] parts = line.split("\\s+");
 
-            if (parts.length >= 2) {
-                String statName = parts[1].toLowerCase();
-                int statValue = extractStat(line);
-
-                System.out.println("Extracting stat name: " + statName);
+        int firstStar = SheetTokenizer.indexOf(text, '*', start, end);
+        if (firstStar >= 0 && SheetTokenizer.indexOf(text, '|', start, end) >= 0) {
+            characterName = extractName(text, start, end);
+            if (characterName.isEmpty()) {
+                System.err.println("Failed to extract name from line: "
+                        + text.subSequence(start, end));
+            }
+            return;
+        }
 
-                Stat stat = character.getStatByName(statName);
-                if (stat != null) {
-                    stat.setCurrentBase(statValue);
-                } else {
-                    System.err.println("Stat not found: " + statName);
-                }
-            } else {
-                System.err.println("Invalid stat line: " + line);
+        int slot = statSlot(text, start, end);
+        if (slot >= 0) {
+            long value = SheetTokenizer.firstInt(text, start, end);
+            if (value == SheetTokenizer.NO_INT) {
+                throw new NumberFormatException("No valid stat value found in line: "
+                        + text.subSequence(start, end));
             }
-        } else if (line.startsWith("HITPOINTS")) {
-            hitpoints = extractCurrentHp(line);
-            System.out.println("Current HP: " + hitpoints);
-        } else if (line.startsWith("TEMP HP")) {
-            tempHp = extractTempHp(line);
-            System.out.println("Temp HP: " + tempHp);
-        } else if (line.startsWith("XP")) {
-            experience = extractCurrentXp(line);
-            System.out.println("Current XP: " + experience);
-        } else if (line.contains("SPECIALTIES")) {
+            character.getStatBySlot(slot).setCurrentBase((int) value);
+        } else if (SheetTokenizer.regionMatches(text, start, end, "HITPOINTS")) {
+            hitpoints = extractCurrentValue(text, start, end);
+        } else if (SheetTokenizer.regionMatches(text, start, end, "TEMP HP")) {
+            tempHp = extractValue(text, start, end);
+        } else if (SheetTokenizer.regionMatches(text, start, end, "XP")) {
+            experience = extractCurrentValue(text, start, end);
+        } else if (SheetTokenizer.contains(text, start, end, "SPECIALTIES")) {
             currentMode = Mode.SPECIALTIES;
-        } else if (line.contains("FEATURES")) {
+        } else if (SheetTokenizer.contains(text, start, end, "FEATURES")) {
             currentMode = Mode.FEATURES;
         } else if (currentMode == Mode.SPECIALTIES) {
-            String specialtyName = extractNamedEntry(line);
+            String specialtyName = extractNamedEntry(text, start, end);
             if (specialtyName != null) {
-                System.out.println("Extracting specialty: " + specialtyName);
                 specialties.add(specialtyName);
             }
         } else if (currentMode == Mode.FEATURES) {
-            String featureName = extractNamedEntry(line);
+            String featureName = extractNamedEntry(text, start, end);
             if (featureName != null) {
-                System.out.println("Extracting feature: " + featureName);
                 features.add(featureName);
             }
         }
     }
 
+    /**
+     * Finds which stat a trimmed line is about. A stat line starts at the border of the sheet,
+     * and its second token is the upper-cased name of one of the rulebook's stats.
+     *
+     * @param text  the text holding the line
+     * @param start the start of the trimmed line
+     * @param end   the end of the trimmed line
+     * @return the stat's slot, or -1 if the line is not a stat line
+     */
+    private int statSlot(CharSequence text, int start, int end) {
+        if (start == end || text.charAt(start) != '|') {
+            return -1;
+        }
+        int nameStart = SheetTokenizer.skipSpace(text,
+                SheetTokenizer.tokenEnd(text, start, end), end);
+        int nameEnd = SheetTokenizer.tokenEnd(text, nameStart, end);
+        if (nameStart == nameEnd) {
+            return -1;
+        }
+        if (character == null) {
+            character = new Character("Unnamed Character", rulebook);
+        }
+        int stats = Math.min(statKeywords.length, character.getStatBlock().size());
+        for (int slot = 0; slot < stats; slot++) {
+            if (SheetTokenizer.sliceEquals(text, nameStart, nameEnd, statKeywords[slot])) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Generates a new Character using the information stored in scholar
      * from it reading the given file and consulting the RuleBook where relevant.
@@ -216,15 +286,24 @@ public class Scholar {
      */
     public Character getCharacter() {
         Character character = new Character(characterName, rulebook);
+        if (this.character != null) {
+            StatBlock read = this.character.getStatBlock();
+            for (int slot = 0; slot < read.size(); slot++) {
+                character.getStatBlock().setBase(slot, read.base(slot));
+            }
+        }
         character.getHitpoints().setCurrentBase(hitpoints);
         character.getHitpoints().setTempHp(tempHp);
         character.getExperience().setCurrent(experience);
+        List<Specialty> readSpecialties = new ArrayList<>(specialties.size());
         for (String specialty : specialties) {
-            character.addSpecialty(rulebook.getSpecialtyByName(specialty));
+            readSpecialties.add(rulebook.getSpecialtyByName(specialty));
         }
+        List<Feature> readFeatures = new ArrayList<>(features.size());
         for (String feature : features) {
-            character.addFeature(rulebook.getFeatureByName(feature));
+            readFeatures.add(rulebook.getFeatureByName(feature));
         }
+        character.applyAll(readSpecialties, readFeatures);
         return character;
     }
 
@@ -235,8 +314,7 @@ public class Scholar {
      * @return the extracted current HP as an int
      */
     public int extractCurrentHp(String line) {
-        String[] parts = line.split(":");
-        return Integer.parseInt(parts[1].split("/")[0].trim());
+        return extractCurrentValue(line, 0, line.length());
     }
 
     /**
@@ -246,8 +324,7 @@ public class Scholar {
      * @return the extracted current experience as an int
      */
     public int extractCurrentXp(String line) {
-        String[] parts = line.split(":");
-        return Integer.parseInt(parts[1].split("/")[0].trim());
+        return extractCurrentValue(line, 0, line.length());
     }
 
     /**
@@ -257,8 +334,73 @@ public class Scholar {
      * @return the extracted current temporary hp as a int
      */
     public int extractTempHp(String line) {
-        String[] parts = line.split(":");
-        return Integer.parseInt(parts[1].trim());
+        return extractValue(line, 0, line.length());
+    }
+
+    /**
+     * Extracts the current amount from a line like {@code LABEL:current/max}: the int after
+     * the first colon, up to any slash or further colon.
+     *
+     * @param text  the text holding the line
+     * @param start the start of the line
+     * @param end   the end of the line
+     * @return the current amount
+     * @throws NumberFormatException if the line holds no such int
+     */
+    private static int extractCurrentValue(CharSequence text, int start, int end)
+            throws NumberFormatException {
+        int from = valueStart(text, start, end);
+        int to = valueEnd(text, from, end);
+        int slash = SheetTokenizer.indexOf(text, '/', from, to);
+        return SheetTokenizer.parseInt(text, from, slash < 0 ? to : slash);
+    }
+
+    /**
+     * Extracts the amount from a line like {@code LABEL: amount}: the int after the first
+     * colon, up to any further colon.
+     *
+     * @param text  the text holding the line
+     * @param start the start of the line
+     * @param end   the end of the line
+     * @return the amount
+     * @throws NumberFormatException if the line holds no such int
+     */
+    private static int extractValue(CharSequence text, int start, int end)
+            throws NumberFormatException {
+        int from = valueStart(text, start, end);
+        return SheetTokenizer.parseInt(text, from, valueEnd(text, from, end));
+    }
+
+    /**
+     * Finds where the value of a labelled line starts, just after its first colon.
+     *
+     * @param text  the text holding the line
+     * @param start the start of the line
+     * @param end   the end of the line
+     * @return the start of the value
+     * @throws NumberFormatException if the line has no colon
+     */
+    private static int valueStart(CharSequence text, int start, int end)
+            throws NumberFormatException {
+        int colon = SheetTokenizer.indexOf(text, ':', start, end);
+        if (colon < 0) {
+            throw new NumberFormatException("No value found in line: "
+                    + text.subSequence(start, end));
+        }
+        return colon + 1;
+    }
+
+    /**
+     * Finds where the value of a labelled line ends, at the next colon or the end of the line.
+     *
+     * @param text  the text holding the line
+     * @param from  the start of the value
+     * @param end   the end of the line
+     * @return the end of the value
+     */
+    private static int valueEnd(CharSequence text, int from, int end) {
+        int colon = SheetTokenizer.indexOf(text, ':', from, end);
+        return colon < 0 ? end : colon;
     }
 
     /**
@@ -268,37 +410,41 @@ public class Scholar {
      * @return the extracted name as a string
      */
     public String extractName(String line) {
-        return line.substring(line.indexOf("*") + 1, line.lastIndexOf("*")).trim().toUpperCase();
+        return extractName(line, 0, line.length());
+    }
+
+    /**
+     * Extracts the name between the first and last {@code *} of a line, upper-cased.
+     *
+     * @param text  the text holding the line
+     * @param start the start of the line
+     * @param end   the end of the line
+     * @return the name, or an empty string if the line has fewer than two stars
+     */
+    private static String extractName(CharSequence text, int start, int end) {
+        int first = SheetTokenizer.indexOf(text, '*', start, end);
+        int last = SheetTokenizer.lastIndexOf(text, '*', start, end);
+        if (first < 0 || first == last) {
+            return "";
+        }
+        int from = SheetTokenizer.trimStart(text, first + 1, last);
+        int to = SheetTokenizer.trimEnd(text, from, last);
+        return text.subSequence(from, to).toString().toUpperCase();
     }
 
     /**
      * Extracts the stat value from the line.
+     * This is the first int on the line, which on a sheet is the stat's total.
      *
      * @param line the line of text expected to contain a stat
      * @return the stat value from the line as an int
      */
     public int extractStat(String line) {
-        line = line.trim();
-
-        if (line.startsWith("|")) {
-            line = line.substring(1).trim();
-        }
-        if (line.endsWith("|")) {
-            line = line.substring(0, line.length() - 1).trim();
-        }
-
-        String cleanedLine = line.replaceAll("[^0-9-]+", " ").trim();
-
-        String[] parts = cleanedLine.split("\\s+");
-
-        for (String part : parts) {
-            try {
-                return Integer.parseInt(part);
-            } catch (NumberFormatException e) {
-                System.err.println("Invalid stat value found: " + part);
-            }
+        long value = SheetTokenizer.firstInt(line, 0, line.length());
+        if (value == SheetTokenizer.NO_INT) {
+            throw new NumberFormatException("No valid stat value found in line: " + line.trim());
         }
-        throw new NumberFormatException("No valid stat value found in line: " + line);
+        return (int) value;
     }
 
     /**
@@ -308,20 +454,40 @@ public class Scholar {
      * @return the extracted named entry from the line, or null if the line is invalid
      */
     public String extractNamedEntry(String line) {
-        line = line.trim();
+        return extractNamedEntry(line, 0, line.length());
+    }
+
+    /**
+     * Extracts a named entry from a line like {@code 2. NAME [**]}: the text after the
+     * number, without any bracketed part at its end, lower-cased.
+     *
+     * @param text  the text holding the line
+     * @param start the start of the line
+     * @param end   the end of the line
+     * @return the named entry, or null if the line is not a numbered entry
+     */
+    private static String extractNamedEntry(CharSequence text, int start, int end) {
+        start = SheetTokenizer.trimStart(text, start, end);
+        end = SheetTokenizer.trimEnd(text, start, end);
 
-        if (line.matches("^[|=/\\-]+$") || line.isEmpty()) {
+        int i = start;
+        while (i < end && text.charAt(i) >= '0' && text.charAt(i) <= '9') {
+            i++;
+        }
+        if (i == start || i + 1 >= end || text.charAt(i) != '.'
+                || !SheetTokenizer.isSpace(text.charAt(i + 1))) {
             return null;
         }
-
-        if (line.matches("^\\d+\\.\\s+.*")) {
-            String entry = line.split("\\.\\s+", 2)[1].trim();
-
-            entry = entry.replaceAll("\\[.*?\\]$", "").trim();
-
-            return entry.toLowerCase();
+        int from = SheetTokenizer.trimStart(text, SheetTokenizer.skipSpace(text, i + 1, end), end);
+        int to = end;
+        if (to > from && text.charAt(to - 1) == ']') {
+            int bracket = SheetTokenizer.indexOf(text, '[', from, to);
+            if (bracket >= 0) {
+                to = bracket;
+            }
         }
-        return null;
+        to = SheetTokenizer.trimEnd(text, from, to);
+        return text.subSequence(from, to).toString().toLowerCase();
     }
 
 
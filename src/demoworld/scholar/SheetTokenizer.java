@@ -0,0 +1,300 @@
+package demoworld.scholar;
+
+/**
+ * Hand-written scanning for the lines of a character sheet. Every method works on a slice
+ * {@code [start, end)} of a {@link CharSequence}, so a whole sheet can be read into one buffer
+ * and taken apart without making a string per line, per token or per number.
+ */
+final class SheetTokenizer {
+
+    /**
+     * Returned by {@link #firstInt} when the slice holds no int.
+     */
+    static final long NO_INT = Long.MIN_VALUE;
+
+    /**
+     * The characters a rule line, such as the borders of the sheet, is made of.
+     */
+    private static final String RULE_CHARS = "|=[]#>/-";
+
+    /**
+     * Not instantiable.
+     */
+    private SheetTokenizer() {
+    }
+
+    /**
+     * Returns whether a character is trimmed by {@link String#trim()}.
+     *
+     * @param c the character
+     * @return true if it is a space or a control character
+     */
+    private static boolean isTrimmed(char c) {
+        return c <= ' ';
+    }
+
+    /**
+     * Returns whether a character separates tokens, as {@code \s} does in a regex.
+     *
+     * @param c the character
+     * @return true if it is whitespace
+     */
+    static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Skips the characters {@link String#trim()} would remove from the start of a slice.
+     *
+     * @param text  the text
+     * @param start the start of the slice
+     * @param end   the end of the slice
+     * @return the start of the trimmed slice
+     */
+    static int trimStart(CharSequence text, int start, int end) {
+        while (start < end && isTrimmed(text.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Skips the characters {@link String#trim()} would remove from the end of a slice.
+     *
+     * @param text  the text
+     * @param start the start of the slice
+     * @param end   the end of the slice
+     * @return the end of the trimmed slice
+     */
+    static int trimEnd(CharSequence text, int start, int end) {
+        while (end > start && isTrimmed(text.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Returns whether a slice is a rule line: not empty, and made only of {@code |=[]#>/-}.
+     *
+     * @param text  the text
+     * @param start the start of the slice
+     * @param end   the end of the slice
+     * @return true if the slice is a rule line
+     */
+    static boolean isRule(CharSequence text, int start, int end) {
+        if (start >= end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (RULE_CHARS.indexOf(text.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the first position of a character in a slice.
+     *
+     * @param text  the text
+     * @param c     the character to find
+     * @param start the start of the slice
+     * @param end   the end of the slice
+     * @return the position, or -1 if the character is not in the slice
+     */
+    static int indexOf(CharSequence text, char c, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the last position of a character in a slice.
+     *
+     * @param text  the text
+     * @param c     the character to find
+     * @param start the start of the slice
+     * @param end   the end of the slice
+     * @return the position, or -1 if the character is not in the slice
+     */
+    static int lastIndexOf(CharSequence text, char c, int start, int end) {
+        for (int i = end - 1; i >= start; i--) {
+            if (text.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether a word appears in a slice starting at the given position.
+     *
+     * @param text     the text
+     * @param position where the word would start
+     * @param end      the end of the slice
+     * @param word     the word
+     * @return true if the word is there
+     */
+    static boolean regionMatches(CharSequence text, int position, int end, String word) {
+        if (end - position < word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (text.charAt(position + i) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether a slice is exactly a word.
+     *
+     * @param text  the text
+     * @param start the start of the slice
+     * @param end   the end of the slice
+     * @param word  the word
+     * @return true if the slice holds the word and nothing else
+     */
+    static boolean sliceEquals(CharSequence text, int start, int end, String word) {
+        return end - start == word.length() && regionMatches(text, start, end, word);
+    }
+
+    /**
+     * Returns whether a word appears anywhere in a slice.
+     *
+     * @param text  the text
+     * @param start the start of the slice
+     * @param end   the end of the slice
+     * @param word  the word
+     * @return true if the slice contains the word
+     */
+    static boolean contains(CharSequence text, int start, int end, String word) {
+        for (int i = start; i + word.length() <= end; i++) {
+            if (regionMatches(text, i, end, word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the end of the token starting at a position, a token being a run of characters
+     * that are not whitespace.
+     *
+     * @param text  the text
+     * @param start where the token starts
+     * @param end   the end of the slice
+     * @return the position after the token's last character
+     */
+    static int tokenEnd(CharSequence text, int start, int end) {
+        while (start < end && !isSpace(text.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Skips whitespace.
+     *
+     * @param text  the text
+     * @param start where to start skipping
+     * @param end   the end of the slice
+     * @return the position of the first character that is not whitespace, or {@code end}
+     */
+    static int skipSpace(CharSequence text, int start, int end) {
+        while (start < end && isSpace(text.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Parses the int in a slice, ignoring the characters {@link String#trim()} would remove.
+     *
+     * @param text  the text
+     * @param start the start of the slice
+     * @param end   the end of the slice
+     * @return the int
+     * @throws NumberFormatException if the trimmed slice is not an int
+     */
+    static int parseInt(CharSequence text, int start, int end) throws NumberFormatException {
+        int from = trimStart(text, start, end);
+        int to = trimEnd(text, from, end);
+        if (from == to) {
+            throw new NumberFormatException("No value found in: " + text.subSequence(start, end));
+        }
+        return Integer.parseInt(text, from, to, 10);
+    }
+
+    /**
+     * Finds the first int in a slice. The slice is taken as runs of digits and minus signs
+     * separated by anything else, and the first run that is an int, such as {@code 3} or
+     * {@code -12}, is the one returned. Runs that are not, such as {@code -} or {@code 3-2},
+     * are skipped.
+     *
+     * @param text  the text
+     * @param start the start of the slice
+     * @param end   the end of the slice
+     * @return the int, or {@link #NO_INT} if no run is one
+     */
+    static long firstInt(CharSequence text, int start, int end) {
+        int i = start;
+        while (i < end) {
+            while (i < end && !isNumberChar(text.charAt(i))) {
+                i++;
+            }
+            int runStart = i;
+            while (i < end && isNumberChar(text.charAt(i))) {
+                i++;
+            }
+            long value = parseRun(text, runStart, i);
+            if (value != NO_INT) {
+                return value;
+            }
+        }
+        return NO_INT;
+    }
+
+    /**
+     * Returns whether a character can be part of a run {@link #firstInt} looks at.
+     *
+     * @param c the character
+     * @return true if it is a digit or a minus sign
+     */
+    private static boolean isNumberChar(char c) {
+        return (c >= '0' && c <= '9') || c == '-';
+    }
+
+    /**
+     * Parses a run of digits and minus signs.
+     *
+     * @param text  the text
+     * @param start the start of the run
+     * @param end   the end of the run
+     * @return the int the run is, or {@link #NO_INT} if it is not one
+     */
+    private static long parseRun(CharSequence text, int start, int end) {
+        boolean negative = start < end && text.charAt(start) == '-';
+        int i = negative ? start + 1 : start;
+        if (i == end) {
+            return NO_INT;
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '-') {
+                return NO_INT;
+            }
+            value = value * 10 + (c - '0');
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                return NO_INT;
+            }
+        }
+        value = negative ? -value : value;
+        return value > Integer.MAX_VALUE ? NO_INT : value;
+    }
+}
@@ -0,0 +1,575 @@
+package demoworld.scribe;
+
+import demoworld.model.Character;
+import demoworld.model.CharacterSnapshot;
+import demoworld.model.Feature;
+import demoworld.model.RuleBook;
+import demoworld.model.Specialty;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An append-only log of the changes made to one {@link Character}, so that every change is
+ * on disk without rewriting the whole sheet, and the character can be rebuilt after a crash.
+ * Each change is appended to the log as a small binary event. Every so often the log is
+ * compacted: the whole character is written to a snapshot file and the log starts again
+ * empty, so rebuilding the character only has to replay the events since the last snapshot.
+ * <p>
+ * The log file starts with a header of {@link #MAGIC}, {@link #VERSION} and the sequence number
+ * of the last event the snapshot already includes, followed by one record per event: a type
+ * byte, then either a 4 byte amount or a 2 byte length and the UTF-8 bytes of a name.
+ * The snapshot file holds {@link #MAGIC}, the sequence number of the last event it includes,
+ * and the exact state of the character as held by a {@link CharacterSnapshot}: its name, the
+ * values of every stat block slot, its experience, the names of its features and specialties,
+ * and its feature grant counts. The character sheet text is not used, since reading it back
+ * does not give the same stats.
+ * Both files are replaced by moving a finished temporary file over them, and a record cut off
+ * part way by a crash is dropped when the log is next opened.
+ */
+public class MutationLog implements AutoCloseable {
+
+    /**
+     * Marks the start of log and snapshot files ("DWML").
+     */
+    public static final int MAGIC = 0x44574D4C;
+
+    /**
+     * The version of the log format.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Size of the log file header in bytes.
+     */
+    private static final int HEADER_SIZE = 16;
+
+    /**
+     * How many events are appended before the log is compacted, by default.
+     */
+    public static final int DEFAULT_COMPACT_EVERY = 256;
+
+    /**
+     * The kinds of change that can be logged.
+     */
+    public enum Type {
+        /** The character took damage; the amount is the damage. */
+        DAMAGE(false),
+
+        /** The character was healed; the amount is the healing. */
+        HEAL(false),
+
+        /** The character's experience was adjusted; the amount is the change. */
+        ADJUST_XP(false),
+
+        /** The character's temporary hitpoints were set; the amount is the new value. */
+        SET_TEMP_HP(false),
+
+        /** A feature was added; the name is the feature's. */
+        ADD_FEATURE(true),
+
+        /** A feature was removed; the name is the feature's. */
+        REMOVE_FEATURE(true),
+
+        /** A specialty was added; the name is the specialty's. */
+        ADD_SPECIALTY(true),
+
+        /** A specialty was removed; the name is the specialty's. */
+        REMOVE_SPECIALTY(true);
+
+        /**
+         * Whether events of this type carry a name rather than an amount.
+         */
+        private final boolean named;
+
+        /**
+         * Constructs a type.
+         *
+         * @param named whether events of this type carry a name
+         */
+        Type(boolean named) {
+            this.named = named;
+        }
+
+        /**
+         * Returns whether events of this type carry a name rather than an amount.
+         *
+         * @return true if the event carries a name
+         */
+        public boolean isNamed() {
+            return named;
+        }
+    }
+
+    /**
+     * The log file.
+     */
+    private final Path path;
+
+    /**
+     * The snapshot file.
+     */
+    private final Path snapshotPath;
+
+    /**
+     * The rulebook the logged character is built from.
+     */
+    private final RuleBook rulebook;
+
+    /**
+     * How many events are appended before the log is compacted.
+     */
+    private final int compactEvery;
+
+    /**
+     * The open log file, positioned at its end.
+     */
+    private FileChannel channel;
+
+    /**
+     * The sequence number of the last event the log file's header says the snapshot includes.
+     */
+    private long baseSequence;
+
+    /**
+     * The sequence number of the last event appended.
+     */
+    private long sequence;
+
+    /**
+     * A buffer reused for writing events.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * Opens the log at the given path, creating it with {@code initial} as its starting state if
+     * there is no log there yet. The snapshot is kept next to the log, with
+     * {@code .snapshot} added to its name.
+     *
+     * @param path         the log file
+     * @param rulebook     the rulebook the character is built from
+     * @param initial      the character to start a new log from
+     * @param compactEvery how many events to append before compacting
+     * @throws IOException if the files cannot be read or written, or are not logs
+     */
+    public MutationLog(Path path, RuleBook rulebook, Character initial, int compactEvery)
+            throws IOException {
+        this.path = path;
+        this.snapshotPath = path.resolveSibling(path.getFileName() + ".snapshot");
+        this.rulebook = rulebook;
+        this.compactEvery = compactEvery;
+        this.buffer = ByteBuffer.allocate(64);
+        if (Files.exists(path)) {
+            open();
+        } else {
+            snapshot(initial);
+        }
+    }
+
+    /**
+     * Opens the log at the given path with the default compaction interval.
+     *
+     * @param path     the log file
+     * @param rulebook the rulebook the character is built from
+     * @param initial  the character to start a new log from
+     * @throws IOException if the files cannot be read or written, or are not logs
+     */
+    public MutationLog(Path path, RuleBook rulebook, Character initial) throws IOException {
+        this(path, rulebook, initial, DEFAULT_COMPACT_EVERY);
+    }
+
+    /**
+     * Opens an existing log file, dropping any record a crash cut off part way.
+     *
+     * @throws IOException if the file cannot be read or is not a log
+     */
+    private void open() throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        readFully(header, 0);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            channel.close();
+            throw new IOException(path + " is not a mutation log!");
+        }
+        this.baseSequence = header.getLong(8);
+        long[] end = new long[1];
+        long count = scan(null, end);
+        this.sequence = baseSequence + count;
+        channel.truncate(end[0]);
+        channel.position(end[0]);
+    }
+
+    /**
+     * Returns the sequence number of the last event appended.
+     *
+     * @return the sequence number, counting every event since the log was created
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Appends an event that carries an amount, compacting the log if it is due.
+     *
+     * @param character the character after the change was made to it
+     * @param type      the kind of change
+     * @param amount    the amount of the change
+     * @throws IOException if the event cannot be written
+     */
+    public void record(Character character, Type type, int amount) throws IOException {
+        checkNamed(type, false);
+        buffer.clear();
+        buffer.put((byte) type.ordinal()).putInt(amount).flip();
+        append(character);
+    }
+
+    /**
+     * Appends an event that carries a name, compacting the log if it is due.
+     *
+     * @param character the character after the change was made to it
+     * @param type      the kind of change
+     * @param name      the name of the feature or specialty
+     * @throws IOException if the event cannot be written
+     */
+    public void record(Character character, Type type, String name) throws IOException {
+        checkNamed(type, true);
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IOException("Name is too long to log: " + name);
+        }
+        if (buffer.capacity() < 3 + bytes.length) {
+            buffer = ByteBuffer.allocate(3 + bytes.length);
+        }
+        buffer.clear();
+        buffer.put((byte) type.ordinal()).putShort((short) bytes.length).put(bytes).flip();
+        append(character);
+    }
+
+    /**
+     * Checks that an event type carries the kind of payload given.
+     *
+     * @param type  the type
+     * @param named whether a name was given
+     * @throws IllegalArgumentException if the payload does not match the type
+     */
+    private static void checkNamed(Type type, boolean named) throws IllegalArgumentException {
+        if (type.isNamed() != named) {
+            throw new IllegalArgumentException(type + (named ? " does not take a name!"
+                    : " takes a name!"));
+        }
+    }
+
+    /**
+     * Writes the event in {@code buffer} to the end of the log, then compacts if it is due.
+     *
+     * @param character the character after the change
+     * @throws IOException if the event cannot be written
+     */
+    private void append(Character character) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        sequence++;
+        if (sequence - baseSequence >= compactEvery) {
+            snapshot(character);
+        }
+    }
+
+    /**
+     * Writes the whole character to the snapshot file and starts the log again empty.
+     * Used for compaction, and whenever the character changes in a way no event describes.
+     *
+     * @param character the character as of the last event appended
+     * @throws IOException if the files cannot be written
+     */
+    public void snapshot(Character character) throws IOException {
+        replace(snapshotPath, ByteBuffer.wrap(encode(character.snapshot())));
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putLong(sequence).flip();
+        if (channel != null) {
+            channel.close();
+        }
+        replace(path, header);
+        this.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.channel.position(HEADER_SIZE);
+        this.baseSequence = sequence;
+    }
+
+    /**
+     * Encodes a character's state for the snapshot file.
+     *
+     * @param state the character's state
+     * @return the snapshot file's contents
+     * @throws IOException if the state cannot be encoded
+     */
+    private byte[] encode(CharacterSnapshot state) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeLong(sequence);
+            out.writeUTF(state.getName());
+            out.writeInt(state.slotCount());
+            for (int slot = 0; slot < state.slotCount(); slot++) {
+                int[] row = state.row(slot);
+                out.writeInt(row.length);
+                for (int value : row) {
+                    out.writeInt(value);
+                }
+            }
+            out.writeInt(state.getExperience());
+            out.writeInt(state.getMaxExperience());
+            out.writeInt(state.getFeatures().size());
+            for (Feature feature : state.getFeatures()) {
+                out.writeUTF(feature.getName());
+            }
+            out.writeInt(state.getSpecialties().size());
+            for (Specialty specialty : state.getSpecialties()) {
+                out.writeUTF(specialty.getName());
+            }
+            int[] grants = state.grants();
+            out.writeInt(grants.length);
+            for (int grant : grants) {
+                out.writeInt(grant);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Rebuilds the character from the snapshot and the events logged since.
+     *
+     * @return the character as of the last event logged
+     * @throws IOException if the files cannot be read or the snapshot is not one
+     */
+    public Character recover() throws IOException {
+        long snapshotSequence;
+        Character character;
+        try (DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(Files.readAllBytes(snapshotPath)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(snapshotPath + " is not a mutation log snapshot!");
+            }
+            snapshotSequence = in.readLong();
+            String name = in.readUTF();
+            List<int[]> slots = new ArrayList<>();
+            for (int slot = in.readInt(); slot > 0; slot--) {
+                int[] row = new int[in.readInt()];
+                for (int column = 0; column < row.length; column++) {
+                    row[column] = in.readInt();
+                }
+                slots.add(row);
+            }
+            int experience = in.readInt();
+            int maxExperience = in.readInt();
+            List<Feature> features = new ArrayList<>();
+            for (int count = in.readInt(); count > 0; count--) {
+                features.add(rulebook.getFeatureByName(in.readUTF()));
+            }
+            List<Specialty> specialties = new ArrayList<>();
+            for (int count = in.readInt(); count > 0; count--) {
+                specialties.add(rulebook.getSpecialtyByName(in.readUTF()));
+            }
+            int[] grants = new int[in.readInt()];
+            for (int id = 0; id < grants.length; id++) {
+                grants[id] = in.readInt();
+            }
+            character = new Character(name, rulebook);
+            character.restore(CharacterSnapshot.of(name, slots, experience, maxExperience,
+                    features, specialties, grants));
+        }
+        // events the snapshot already includes are skipped, in case a crash came between
+        // writing the snapshot and starting the log again
+        scan(new Replay(character, snapshotSequence - baseSequence), new long[1]);
+        return character;
+    }
+
+    /**
+     * Reads every complete event in the log, handing each to the replay if there is one.
+     *
+     * @param replay the replay to apply events to, or null to only count them
+     * @param end    set to the position just past the last complete event
+     * @return the number of complete events
+     * @throws IOException if the log cannot be read
+     */
+    private long scan(Replay replay, long[] end) throws IOException {
+        ByteBuffer events = ByteBuffer.allocate((int) (channel.size() - HEADER_SIZE));
+        readFully(events, HEADER_SIZE);
+        events.flip();
+        Type[] types = Type.values();
+        long count = 0;
+        while (events.remaining() >= 1) {
+            int start = events.position();
+            int code = events.get();
+            if (code < 0 || code >= types.length) {
+                events.position(start);
+                break;
+            }
+            Type type = types[code];
+            if (type.isNamed()) {
+                if (events.remaining() < 2
+                        || events.remaining() < 2 + (events.getShort(events.position()) & 0xFFFF)) {
+                    events.position(start);
+                    break;
+                }
+                byte[] name = new byte[events.getShort() & 0xFFFF];
+                events.get(name);
+                if (replay != null) {
+                    replay.apply(type, 0, new String(name, StandardCharsets.UTF_8));
+                }
+            } else {
+                if (events.remaining() < 4) {
+                    events.position(start);
+                    break;
+                }
+                int amount = events.getInt();
+                if (replay != null) {
+                    replay.apply(type, amount, null);
+                }
+            }
+            count++;
+        }
+        end[0] = HEADER_SIZE + events.position();
+        return count;
+    }
+
+    /**
+     * Reads from the log until the buffer is full or the log ends.
+     *
+     * @param target   the buffer to fill
+     * @param position where in the log to start reading
+     * @throws IOException if the log cannot be read or ends before the header does
+     */
+    private void readFully(ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            int read = channel.read(target, position + target.position());
+            if (read < 0) {
+                if (position == 0) {
+                    throw new IOException(path + " is not a mutation log!");
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Replaces a file by writing a temporary file next to it and moving that over it.
+     *
+     * @param target   the file to replace
+     * @param contents the new contents
+     * @throws IOException if the file cannot be written
+     */
+    private static void replace(Path target, ByteBuffer contents) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (contents.hasRemaining()) {
+                out.write(contents);
+            }
+            out.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns whether a file was changed after the last change was logged, such as a sheet
+     * edited or saved over since. A log older than the sheet it was started from no longer
+     * describes that sheet, and should be started again rather than recovered.
+     *
+     * @param file the file to compare with
+     * @return true if the file was modified after the log was last written
+     * @throws IOException if the modification times cannot be read
+     */
+    public boolean isOlderThan(Path file) throws IOException {
+        return Files.getLastModifiedTime(path).compareTo(Files.getLastModifiedTime(file)) < 0;
+    }
+
+    /**
+     * Closes the log and deletes it and its snapshot, for when the character no longer needs to
+     * be recovered, such as on a clean exit. The log must not be used afterwards.
+     *
+     * @throws IOException if the files cannot be closed or deleted
+     */
+    public void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+        Files.deleteIfExists(snapshotPath);
+    }
+
+    /**
+     * Closes the log file.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * Applies replayed events to a character.
+     */
+    private final class Replay {
+        /**
+         * character
+         */
+        private final Character character;
+        /**
+         * How many more events to skip because the snapshot already includes them.
+         */
+        private long skip;
+
+        /**
+         * Constructs a replay onto a character.
+         *
+         * @param character the character to apply events to
+         * @param skip      how many events at the start of the log to skip
+         */
+        private Replay(Character character, long skip) {
+            this.character = character;
+            this.skip = skip;
+        }
+
+        /**
+         * Applies one event.
+         *
+         * @param type   the kind of change
+         * @param amount the amount, for events that carry one
+         * @param name   the name, for events that carry one
+         */
+        private void apply(Type type, int amount, String name) {
+            if (skip > 0) {
+                skip--;
+                return;
+            }
+            switch (type) {
+                case DAMAGE -> character.damage(amount);
+                case HEAL -> character.heal(amount);
+                case ADJUST_XP -> character.adjustXp(amount);
+                case SET_TEMP_HP -> character.getHitpoints().setTempHp(amount);
+                case ADD_FEATURE -> character.addFeature(rulebook.getFeatureByName(name));
+                case REMOVE_FEATURE -> character.removeFeature(character.getFeature().byName(name));
+                case ADD_SPECIALTY -> character.addSpecialty(rulebook.getSpecialtyByName(name));
+                case REMOVE_SPECIALTY ->
+                        character.removeSpecialty(character.getSpecialty().byName(name));
+                default -> throw new IllegalStateException("Unknown event " + type + "!");
+            }
+        }
+    }
+}
@@ -1,13 +1,84 @@
 package demoworld.scribe;
 
-import java.io.FileWriter;
+import demoworld.model.Character;
+import demoworld.model.SheetRenderer;
+
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * The Scribe class provides functionality to write contents to a file.
+ * <p>
+ * A file is never written in place. Its contents are streamed into a temporary file next to
+ * it, which is then moved over it in one step, so a crash part way through leaves either the
+ * old file or the new one and never a mix of the two. A Scribe can also force the contents to
+ * disk before the move. Text is encoded in the platform's default charset, which is what
+ * {@link demoworld.scholar.Scholar} reads sheets with.
+ * <p>
+ * A Scribe reuses its encoder, buffers and {@link SheetRenderer} for every file it writes,
+ * so saving many characters with one Scribe allocates almost nothing per character. It must
+ * only be used by one thread at a time.
  */
 public class Scribe {
 
+    /**
+     * The number of characters, and of bytes, held before they are written to the file.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Whether each file is forced to disk before it replaces the old one.
+     */
+    private final boolean sync;
+
+    /**
+     * The encoder turning characters into bytes, reset for every file.
+     */
+    private final CharsetEncoder encoder;
+
+    /**
+     * Characters waiting to be encoded.
+     */
+    private final CharBuffer chars;
+
+    /**
+     * Bytes waiting to be written to the file.
+     */
+    private final ByteBuffer bytes;
+
+    /**
+     * Writes character sheets.
+     */
+    private final SheetRenderer renderer;
+
+    /**
+     * Constructs a Scribe.
+     *
+     * @param sync whether to force each file to disk before it replaces the old one
+     */
+    public Scribe(boolean sync) {
+        this.sync = sync;
+        this.encoder = Charset.defaultCharset().newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.chars = CharBuffer.allocate(BUFFER_SIZE);
+        this.bytes = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        this.renderer = new SheetRenderer();
+    }
+
     /**
      * Writes the specified contents to a file with the given filename and appends the student ID
      * at the top.
@@ -18,12 +89,209 @@ public class Scribe {
      */
     public static void writeToFile(String filename, String contents, String studentId) {
         String fullPath = filename;
-        try (FileWriter writer = new FileWriter(fullPath)) {
+        try (AtomicWriter writer = new Scribe(true).open(Paths.get(fullPath))) {
             writer.write("Student ID: " + studentId + "\n");
             writer.write(contents);
+            writer.commit();
             System.out.println("File written successfully to " + fullPath);
         } catch (IOException e) {
             System.err.println("An error occurred while writing to the file: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Writes a character's sheet to a file, with the student ID at the top, replacing the file
+     * in one step. The sheet is streamed to the file as it is rendered.
+     *
+     * @param path      the file to write the sheet to
+     * @param character the character whose sheet to write
+     * @param studentId the student ID to be appended at the top of the file
+     * @throws IOException if the file cannot be written; the old file, if any, is left as it was
+     */
+    public void write(Path path, Character character, String studentId) throws IOException {
+        try (AtomicWriter writer = open(path)) {
+            writer.write("Student ID: ");
+            writer.write(studentId);
+            writer.write('\n');
+            renderer.render(character, writer);
+            writer.commit();
+        }
+    }
+
+    /**
+     * Opens a writer onto a temporary file next to the given one, named after it with
+     * {@code .tmp} added. Nothing replaces the given file until the writer is committed;
+     * closing it without committing throws the temporary file away.
+     *
+     * @param path the file to replace
+     * @return the writer
+     * @throws IOException if the temporary file cannot be created
+     */
+    private AtomicWriter open(Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        return new AtomicWriter(path, temp, FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+    }
+
+    /**
+     * A writer that encodes what is written to it with the Scribe's encoder and writes it to a
+     * temporary file, which {@link #commit()} moves over the target file.
+     */
+    private final class AtomicWriter extends Writer {
+
+        /**
+         * The file to replace.
+         */
+        private final Path target;
+
+        /**
+         * The temporary file being written.
+         */
+        private final Path temp;
+
+        /**
+         * The channel onto the temporary file.
+         */
+        private final FileChannel channel;
+
+        /**
+         * Whether the temporary file has been moved over the target.
+         */
+        private boolean committed;
+
+        /**
+         * Constructs a writer onto a temporary file.
+         *
+         * @param target  the file to replace
+         * @param temp    the temporary file
+         * @param channel the channel onto the temporary file
+         */
+        private AtomicWriter(Path target, Path temp, FileChannel channel) {
+            this.target = target;
+            this.temp = temp;
+            this.channel = channel;
+            encoder.reset();
+            chars.clear();
+            bytes.clear();
+        }
+
+        @Override
+        public void write(char[] source, int offset, int length) throws IOException {
+            while (length > 0) {
+                int count = Math.min(length, chars.remaining());
+                chars.put(source, offset, count);
+                offset += count;
+                length -= count;
+                if (!chars.hasRemaining()) {
+                    encode(false);
+                }
+            }
+        }
+
+        @Override
+        public void write(String source, int offset, int length) throws IOException {
+            while (length > 0) {
+                int count = Math.min(length, chars.remaining());
+                chars.put(source, offset, offset + count);
+                offset += count;
+                length -= count;
+                if (!chars.hasRemaining()) {
+                    encode(false);
+                }
+            }
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            if (!chars.hasRemaining()) {
+                encode(false);
+            }
+            chars.put((char) c);
+        }
+
+        /**
+         * Encodes the characters waiting in the buffer, writing the bytes to the file whenever
+         * the byte buffer fills.
+         *
+         * @param endOfInput whether these are the last characters of the file
+         * @throws IOException if the file cannot be written
+         */
+        private void encode(boolean endOfInput) throws IOException {
+            chars.flip();
+            while (true) {
+                CoderResult result = encoder.encode(chars, bytes, endOfInput);
+                if (result.isOverflow()) {
+                    drain();
+                } else if (result.isUnderflow()) {
+                    break;
+                } else {
+                    result.throwException();
+                }
+            }
+            // keep the half of a surrogate pair that has to wait for the next characters
+            chars.compact();
+        }
+
+        /**
+         * Writes the bytes waiting in the byte buffer to the file.
+         *
+         * @throws IOException if the file cannot be written
+         */
+        private void drain() throws IOException {
+            bytes.flip();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            bytes.clear();
+        }
+
+        /**
+         * Writes out everything waiting in the buffers.
+         *
+         * @throws IOException if the file cannot be written
+         */
+        @Override
+        public void flush() throws IOException {
+            encode(false);
+            drain();
+        }
+
+        /**
+         * Finishes the file and moves it over the target, forcing it to disk first if the
+         * Scribe syncs.
+         *
+         * @throws IOException if the file cannot be finished or moved
+         */
+        private void commit() throws IOException {
+            encode(true);
+            while (encoder.flush(bytes).isOverflow()) {
+                drain();
+            }
+            drain();
+            if (sync) {
+                channel.force(true);
+            }
+            channel.close();
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            committed = true;
+        }
+
+        /**
+         * Closes the file, throwing it away if it was not committed.
+         *
+         * @throws IOException if the file cannot be closed or deleted
+         */
+        @Override
+        public void close() throws IOException {
+            channel.close();
+            if (!committed) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+}
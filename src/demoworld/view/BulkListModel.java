@@ -0,0 +1,68 @@
+package demoworld.view;
+
+import javax.swing.*;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A read-only list model whose contents are replaced all at once.
+ * Unlike {@link DefaultListModel}, which fires an event for every element added or removed,
+ * {@link #setAll(List)} swaps in the new contents and fires a single event, so a
+ * {@link JList} backed by this model repaints once however many entries change.
+ *
+ * @param <E> the type of the elements in the model
+ */
+public class BulkListModel<E> extends AbstractListModel<E> {
+
+    /**
+     * The elements currently shown, never modified in place.
+     */
+    private List<? extends E> elements;
+
+    /**
+     * Constructs an empty BulkListModel.
+     */
+    public BulkListModel() {
+        this.elements = Collections.emptyList();
+    }
+
+    /**
+     * Replaces the contents of the model and notifies listeners once.
+     * The model keeps the given list rather than copying it, so it must not be changed
+     * afterwards.
+     *
+     * @param elements the new contents of the model
+     */
+    public void setAll(List<? extends E> elements) {
+        int oldSize = this.elements.size();
+        int newSize = elements.size();
+        this.elements = elements;
+        if (oldSize == 0 && newSize == 0) {
+            return;
+        }
+        if (oldSize == 0) {
+            fireIntervalAdded(this, 0, newSize - 1);
+        } else if (newSize == 0) {
+            fireIntervalRemoved(this, 0, oldSize - 1);
+        } else {
+            fireContentsChanged(this, 0, Math.max(oldSize, newSize) - 1);
+        }
+    }
+
+    /**
+     * Removes every element from the model.
+     */
+    public void clear() {
+        setAll(Collections.emptyList());
+    }
+
+    @Override
+    public int getSize() {
+        return elements.size();
+    }
+
+    @Override
+    public E getElementAt(int index) {
+        return elements.get(index);
+    }
+}
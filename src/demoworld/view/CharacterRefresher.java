@@ -0,0 +1,134 @@
+package demoworld.view;
+
+import demoworld.ReliesOnCharacterData;
+import demoworld.model.Character;
+import demoworld.model.CharacterChange;
+import demoworld.model.CharacterListener;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps a set of panels up to date with one {@link Character}. Each panel subscribes to the
+ * {@link CharacterChange}s it shows. Changes are collected as the character reports them, and
+ * once per pass of the event dispatch thread every panel affected by them is updated once,
+ * however many changes a single action made.
+ */
+public class CharacterRefresher implements CharacterListener {
+
+    /**
+     * The panels kept up to date, in the order they subscribed.
+     */
+    private final List<ReliesOnCharacterData> panels;
+
+    /**
+     * The changes each panel subscribed to, in the same order as {@code panels}.
+     */
+    private final List<Set<CharacterChange>> interests;
+
+    /**
+     * The changes reported since the panels were last updated.
+     */
+    private final Set<CharacterChange> pending;
+
+    /**
+     * The character being shown, or null before one is bound.
+     */
+    private Character character;
+
+    /**
+     * Whether an update of the panels has been queued on the event dispatch thread.
+     */
+    private boolean scheduled;
+
+    /**
+     * Constructs a refresher with no panels and no character.
+     */
+    public CharacterRefresher() {
+        this.panels = new ArrayList<>();
+        this.interests = new ArrayList<>();
+        this.pending = EnumSet.noneOf(CharacterChange.class);
+    }
+
+    /**
+     * Subscribes a panel to the given changes.
+     *
+     * @param panel  the panel to update when any of the changes happen
+     * @param first  a change the panel shows
+     * @param others any other changes the panel shows
+     */
+    public void subscribe(ReliesOnCharacterData panel, CharacterChange first,
+                          CharacterChange... others) {
+        panels.add(panel);
+        interests.add(EnumSet.of(first, others));
+    }
+
+    /**
+     * Shows the given character. If it is not the character already shown, the refresher stops
+     * listening to the old one and every panel is updated with the new one. If it is, nothing
+     * happens, since its changes have already been reported.
+     *
+     * @param character the character to show
+     */
+    public synchronized void bind(Character character) {
+        if (character == this.character) {
+            return;
+        }
+        if (this.character != null) {
+            this.character.removeListener(this);
+        }
+        this.character = character;
+        character.addListener(this);
+        pending.addAll(EnumSet.allOf(CharacterChange.class));
+        schedule();
+    }
+
+    /**
+     * Collects a change to the character being shown.
+     *
+     * @param changed the character that changed
+     * @param change  the part that changed
+     */
+    @Override
+    public synchronized void characterChanged(Character changed, CharacterChange change) {
+        if (changed == this.character) {
+            pending.add(change);
+            schedule();
+        }
+    }
+
+    /**
+     * Queues an update of the panels for the pending changes, if none is queued yet.
+     */
+    private void schedule() {
+        if (!scheduled) {
+            scheduled = true;
+            SwingUtilities.invokeLater(this::refresh);
+        }
+    }
+
+    /**
+     * Updates every panel subscribed to a pending change.
+     */
+    private void refresh() {
+        Set<CharacterChange> changes;
+        Character shown;
+        synchronized (this) {
+            changes = EnumSet.copyOf(pending);
+            pending.clear();
+            scheduled = false;
+            shown = character;
+        }
+        for (int i = 0; i < panels.size(); i++) {
+            for (CharacterChange change : interests.get(i)) {
+                if (changes.contains(change)) {
+                    panels.get(i).updateCharacter(shown);
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -24,6 +24,13 @@ public interface MainView {
      */
     DicePanel getDicePanel();
 
+    /**
+     * Retrieves the notification center for the view.
+     *
+     * @return The {@code NotificationCenter} that shows notifications.
+     */
+    NotificationCenter getNotifications();
+
     /**
      * Retrieves the menu panel for the view.
      *
@@ -5,59 +5,74 @@ import java.awt.*;
 
 /**
  * Notification class that extends {@link JFrame}.
- * This class displays a small notification window at the center of the screen.
- * Each notification can be manually closed by the user.
+ * This class displays a small notification window on the screen.
+ * Notification windows are owned and reused by a {@link NotificationCenter}, which shows them,
+ * changes what they say and hides them again. Each notification can be manually closed by the
+ * user.
  */
 public class Notification extends JFrame {
 
-    /** Tracks the number of active notifications currently displayed on the screen. */
-    private static int notificationCount = 0;
+    /** The label displaying the title of the notification. */
+    private final JLabel titleLabel;
+
+    /** The label displaying the text content of the notification. */
+    private final JLabel messageLabel;
 
     /**
-     * Instantiates a new Notification.
+     * Instantiates a new Notification, hidden until it is shown.
      *
-     * @param title   The title that will be displayed on the notification.
-     * @param message The text content that will be displayed on the notification.
+     * @param onClose what to run when the user closes the notification
      */
-    public Notification(String title, String message) {
-        setTitle(title);
+    Notification(Runnable onClose) {
         setUndecorated(true);
         setAlwaysOnTop(true);
+        setFocusableWindowState(false);
         setSize(300, 200);
 
         JPanel panel = new JPanel(new BorderLayout());
         panel.setBorder(BorderFactory.createLineBorder(Color.GRAY));
         panel.setBackground(Color.LIGHT_GRAY);
 
-        JLabel titleLabel = new JLabel(title, JLabel.LEFT);
+        titleLabel = new JLabel("", JLabel.LEFT);
         titleLabel.setFont(new Font("Arial", Font.BOLD, 14));
         panel.add(titleLabel, BorderLayout.NORTH);
 
-        JLabel messageLabel = new JLabel(message, JLabel.CENTER);
+        messageLabel = new JLabel("", JLabel.CENTER);
         messageLabel.setFont(new Font("Arial", Font.PLAIN, 12));
         panel.add(messageLabel, BorderLayout.CENTER);
 
         JButton closeButton = new JButton("Close");
-        closeButton.addActionListener(e -> {
-            setVisible(false);
-            dispose();
-            notificationCount--;
-        });
+        closeButton.addActionListener(e -> onClose.run());
         panel.add(closeButton, BorderLayout.SOUTH);
 
         add(panel);
+    }
+
+    /**
+     * Changes what the notification says.
+     *
+     * @param title   The title that will be displayed on the notification.
+     * @param message The text content that will be displayed on the notification.
+     */
+    void setContent(String title, String message) {
+        setTitle(title);
+        titleLabel.setText(title);
+        messageLabel.setText(message);
+    }
 
-        Toolkit toolkit = Toolkit.getDefaultToolkit();
-        Dimension screenSize = toolkit.getScreenSize();
+    /**
+     * Shows the notification centred on the screen, moved down by the given number of places
+     * so that notifications shown together do not cover each other.
+     *
+     * @param place how many notifications down from the centre of the screen to show this one
+     */
+    void showAt(int place) {
+        Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
         int x = (screenSize.width - getWidth()) / 2;
-        int y = (screenSize.height - getHeight()) / 2;
+        int y = (screenSize.height - getHeight()) / 2 + place * (getHeight() + 10);
+        y = Math.min(y, Math.max(0, screenSize.height - getHeight()));
 
         setLocation(x, y);
-
         setVisible(true);
-
-        notificationCount++;
     }
 }
-
-
@@ -0,0 +1,159 @@
+package demoworld.view;
+
+import javax.swing.Timer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Shows {@link Notification}s using a small pool of windows that are made once and reused.
+ * A notification posted while another with the same title is showing or waiting is merged
+ * into it, so repeated clicks show one "Damage! x7" instead of seven windows. Notifications
+ * posted while every window is in use wait their turn, and each one hides itself after a few
+ * seconds. Must only be used from the event dispatch thread.
+ */
+public class NotificationCenter {
+
+    /**
+     * The most notifications shown at once.
+     */
+    public static final int POOL_SIZE = 3;
+
+    /**
+     * How long a notification stays on screen after it was last posted, in milliseconds.
+     */
+    public static final int LIFETIME_MILLIS = 3000;
+
+    /**
+     * A notification that is showing or waiting to be shown.
+     */
+    private static class Toast {
+        /** title */
+        private final String title;
+        /** The text of the most recent notification merged into this one. */
+        private String message;
+        /** How many notifications were merged into this one. */
+        private int count;
+
+        /**
+         * Creates a toast for one notification.
+         *
+         * @param title   the title
+         * @param message the text content
+         */
+        private Toast(String title, String message) {
+            this.title = title;
+            this.message = message;
+            this.count = 1;
+        }
+
+        /**
+         * Gets the title to display, with the number of notifications merged into it.
+         *
+         * @return the displayed title
+         */
+        private String label() {
+            return count == 1 ? title : title + " x" + count;
+        }
+    }
+
+    /**
+     * The windows of the pool, each made the first time it is needed.
+     */
+    private final Notification[] windows;
+
+    /**
+     * The toast each window is showing, or null if the window is free.
+     */
+    private final Toast[] showing;
+
+    /**
+     * The timer hiding each window when its toast expires.
+     */
+    private final Timer[] timers;
+
+    /**
+     * Toasts waiting for a free window, oldest first.
+     */
+    private final Deque<Toast> waiting;
+
+    /**
+     * Constructs a notification center with no windows made yet.
+     */
+    public NotificationCenter() {
+        this.windows = new Notification[POOL_SIZE];
+        this.showing = new Toast[POOL_SIZE];
+        this.timers = new Timer[POOL_SIZE];
+        this.waiting = new ArrayDeque<>();
+    }
+
+    /**
+     * Posts a notification. It is merged into a notification with the same title if one is
+     * showing or waiting, shown in a free window if there is one, and otherwise waits.
+     *
+     * @param title   The title that will be displayed on the notification.
+     * @param message The text content that will be displayed on the notification.
+     */
+    public void post(String title, String message) {
+        for (int i = 0; i < POOL_SIZE; i++) {
+            Toast toast = showing[i];
+            if (toast != null && toast.title.equals(title)) {
+                toast.count++;
+                toast.message = message;
+                windows[i].setContent(toast.label(), toast.message);
+                timers[i].restart();
+                return;
+            }
+        }
+        for (Toast toast : waiting) {
+            if (toast.title.equals(title)) {
+                toast.count++;
+                toast.message = message;
+                return;
+            }
+        }
+        Toast toast = new Toast(title, message);
+        for (int i = 0; i < POOL_SIZE; i++) {
+            if (showing[i] == null) {
+                show(i, toast);
+                return;
+            }
+        }
+        waiting.add(toast);
+    }
+
+    /**
+     * Shows a toast in a free window, making the window if it has not been made yet.
+     *
+     * @param slot  the window to use
+     * @param toast the toast to show
+     */
+    private void show(int slot, Toast toast) {
+        if (windows[slot] == null) {
+            windows[slot] = new Notification(() -> expire(slot));
+            timers[slot] = new Timer(LIFETIME_MILLIS, e -> expire(slot));
+            timers[slot].setRepeats(false);
+        }
+        showing[slot] = toast;
+        windows[slot].setContent(toast.label(), toast.message);
+        windows[slot].showAt(slot);
+        timers[slot].restart();
+    }
+
+    /**
+     * Hides a window, then shows the oldest waiting toast in it if there is one.
+     *
+     * @param slot the window to hide
+     */
+    private void expire(int slot) {
+        if (showing[slot] == null) {
+            return;
+        }
+        timers[slot].stop();
+        windows[slot].setVisible(false);
+        showing[slot] = null;
+        Toast next = waiting.poll();
+        if (next != null) {
+            show(slot, next);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package demoworld.view;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionListener;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -22,7 +23,7 @@ public class Search extends JPanel {
     /**
      * The model that holds the data for the entry list.
      */
-    private final DefaultListModel<String> listModel;
+    private final BulkListModel<String> listModel;
     /**
      * The button used to confirm the selection of an entry.
      */
@@ -31,6 +32,10 @@ public class Search extends JPanel {
      * A list holding the current entries available in the search panel.
      */
     private List<String> entries;
+    /**
+     * The index used to filter {@code entries}, rebuilt whenever the entries change.
+     */
+    private SearchIndex index;
 
     /**
      * Instantiates a new Search Panel.
@@ -39,7 +44,7 @@ public class Search extends JPanel {
         setLayout(new BorderLayout());
 
         searchField = new JTextField();
-        listModel = new DefaultListModel<>();
+        listModel = new BulkListModel<>();
         entryList = new JList<>(listModel);
         pickButton = new JButton("Pick");
 
@@ -62,10 +67,9 @@ public class Search extends JPanel {
      */
     public void updateList(List<String> entries) {
         this.entries = entries;
-        listModel.clear();
-        for (String entry : entries) {
-            listModel.addElement(entry);
-        }
+        this.index = new SearchIndex(entries);
+        entryList.clearSelection();
+        listModel.setAll(entries);
     }
 
     /**
@@ -99,13 +103,16 @@ public class Search extends JPanel {
      * Filters the JList based on the search field's input.
      */
     public void filterEntryList() {
-        String filter = searchField.getText().toLowerCase();
-        listModel.clear();
-        for (String entry : entries) {
-            if (entry.toLowerCase().contains(filter)) {
-                listModel.addElement(entry);
-            }
+        if (index == null) {
+            return;
+        }
+        int[] matches = index.filter(searchField.getText());
+        List<String> shown = new ArrayList<>(matches.length);
+        for (int position : matches) {
+            shown.add(entries.get(position));
         }
+        entryList.clearSelection();
+        listModel.setAll(shown);
     }
 
     /**
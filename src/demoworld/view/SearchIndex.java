@@ -0,0 +1,189 @@
+package demoworld.view;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A case-insensitive substring index over a fixed list of entries, used by {@link Search} to
+ * filter as the user types.
+ * Lower-cased keys are computed once, and every three-character run (trigram) of every key is
+ * indexed, so a query only has to check the entries that contain its rarest trigram. When a
+ * query contains the previous query, its matches can only be a subset of the previous matches,
+ * so only those are checked again.
+ */
+public class SearchIndex {
+
+    /**
+     * Length of the runs of characters that are indexed.
+     */
+    private static final int GRAM = 3;
+
+    /**
+     * The lower-cased entries, in their original order.
+     */
+    private final String[] keys;
+
+    /**
+     * For each trigram, the ascending positions of the entries containing it.
+     */
+    private final Map<Long, Postings> grams;
+
+    /**
+     * The last query filtered on, lower-cased, or null before the first query.
+     */
+    private String lastQuery;
+
+    /**
+     * The positions that matched {@code lastQuery}, in ascending order.
+     */
+    private int[] lastMatches;
+
+    /**
+     * Builds an index over the given entries.
+     *
+     * @param entries the entries to index
+     */
+    public SearchIndex(List<String> entries) {
+        this.keys = new String[entries.size()];
+        this.grams = new HashMap<>();
+        for (int position = 0; position < keys.length; position++) {
+            String key = entries.get(position).toLowerCase(Locale.ROOT);
+            keys[position] = key;
+            for (int start = 0; start + GRAM <= key.length(); start++) {
+                grams.computeIfAbsent(gram(key, start), g -> new Postings()).add(position);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of entries in the index.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the positions of the entries containing the query, ignoring case, in the order
+     * the entries were given.
+     *
+     * @param query the text to search for
+     * @return the ascending positions of every matching entry
+     */
+    public int[] filter(String query) {
+        String needle = query.toLowerCase(Locale.ROOT);
+        int[] matches;
+        if (needle.isEmpty()) {
+            matches = all();
+        } else if (lastQuery != null && needle.contains(lastQuery)) {
+            matches = verify(lastMatches, lastMatches.length, needle);
+        } else if (needle.length() >= GRAM) {
+            Postings rarest = rarestGram(needle);
+            matches = rarest == null ? new int[0] : verify(rarest.ids, rarest.size, needle);
+        } else {
+            matches = verify(null, keys.length, needle);
+        }
+        lastQuery = needle;
+        lastMatches = matches;
+        return matches;
+    }
+
+    /**
+     * Returns every position in the index.
+     *
+     * @return every position, ascending
+     */
+    private int[] all() {
+        int[] positions = new int[keys.length];
+        for (int position = 0; position < positions.length; position++) {
+            positions[position] = position;
+        }
+        return positions;
+    }
+
+    /**
+     * Keeps the candidates whose key contains the needle.
+     *
+     * @param candidates the candidate positions, or null to check every position
+     * @param count      how many candidates there are
+     * @param needle     the lower-cased query
+     * @return the matching positions, ascending
+     */
+    private int[] verify(int[] candidates, int count, String needle) {
+        int[] matches = new int[count];
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            int position = candidates == null ? i : candidates[i];
+            if (keys[position].contains(needle)) {
+                matches[found++] = position;
+            }
+        }
+        return found == count ? matches : Arrays.copyOf(matches, found);
+    }
+
+    /**
+     * Finds the trigram of the needle shared by the fewest entries.
+     *
+     * @param needle the lower-cased query, at least {@link #GRAM} characters long
+     * @return the postings of the rarest trigram, or null if some trigram is in no entry
+     */
+    private Postings rarestGram(String needle) {
+        Postings rarest = null;
+        for (int start = 0; start + GRAM <= needle.length(); start++) {
+            Postings postings = grams.get(gram(needle, start));
+            if (postings == null) {
+                return null;
+            }
+            if (rarest == null || postings.size < rarest.size) {
+                rarest = postings;
+            }
+        }
+        return rarest;
+    }
+
+    /**
+     * Packs the trigram starting at the given index into a single key.
+     *
+     * @param text  the text holding the trigram
+     * @param start where the trigram starts
+     * @return the packed trigram
+     */
+    private static Long gram(String text, int start) {
+        return ((long) text.charAt(start) << 32)
+                | ((long) text.charAt(start + 1) << 16)
+                | text.charAt(start + 2);
+    }
+
+    /**
+     * A growable ascending list of entry positions.
+     */
+    private static final class Postings {
+        /**
+         * ids
+         */
+        private int[] ids = new int[4];
+        /**
+         * size
+         */
+        private int size;
+
+        /**
+         * Adds a position, ignoring it if it was the last one added.
+         *
+         * @param position the position to add
+         */
+        private void add(int position) {
+            if (size > 0 && ids[size - 1] == position) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = position;
+        }
+    }
+}
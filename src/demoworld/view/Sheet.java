@@ -2,6 +2,7 @@ package demoworld.view;
 
 import demoworld.ReliesOnCharacterData;
 import demoworld.model.Character;
+import demoworld.model.CharacterChange;
 import demoworld.view.sheetpanels.*;
 
 import javax.swing.*;
@@ -43,6 +44,10 @@ public class Sheet extends JPanel implements ReliesOnCharacterData {
      * List component for displaying and managing the character's specialties.
      */
     private SpecialtyList specialtyList;
+    /**
+     * Updates the components above when the part of the character they show changes.
+     */
+    private final CharacterRefresher refresher;
 
     /**
      * Constructs a new Sheet panel and arranges its components using a {@link GridBagLayout}.
@@ -102,6 +107,15 @@ public class Sheet extends JPanel implements ReliesOnCharacterData {
         gbc.weighty = 0.3;
         gbc.gridwidth = 1;
         add(specialtyList, gbc);
+
+        refresher = new CharacterRefresher();
+        refresher.subscribe(character -> characterNameLabel.setText(character.getName()),
+                CharacterChange.NAME);
+        refresher.subscribe(hpPanel, CharacterChange.HITPOINTS);
+        refresher.subscribe(xpPanel, CharacterChange.EXPERIENCE);
+        refresher.subscribe(statsPanel, CharacterChange.STATS);
+        refresher.subscribe(featureList, CharacterChange.FEATURES);
+        refresher.subscribe(specialtyList, CharacterChange.SPECIALTIES);
     }
 
     /**
@@ -111,12 +125,7 @@ public class Sheet extends JPanel implements ReliesOnCharacterData {
      */
     @Override
     public void updateCharacter(Character character) {
-        characterNameLabel.setText(character.getName());
-        hpPanel.updateCharacter(character);
-        xpPanel.updateCharacter(character);
-        statsPanel.updateCharacter(character);
-        featureList.updateCharacter(character);
-        specialtyList.updateCharacter(character);
+        refresher.bind(character);
     }
 
     /**
@@ -30,6 +30,10 @@ public class View extends JFrame implements MainView {
      * Dice panel component for dice rolling interactions.
      */
     private DicePanel dicePanel;
+    /**
+     * Shows notifications using a small pool of reused windows.
+     */
+    private NotificationCenter notifications;
 
     /**
      * Constructs a new View, initializing the frame and its components such as
@@ -48,6 +52,7 @@ public class View extends JFrame implements MainView {
         menu = new Menu();
         search = new Search();
         sheet = new Sheet();
+        notifications = new NotificationCenter();
 
         setLayout(new BorderLayout());
 
@@ -84,6 +89,16 @@ public class View extends JFrame implements MainView {
         return sheet.getDicePanel();
     }
 
+    /**
+     * Returns the notification center used to show notifications.
+     *
+     * @return the notification center of the UI
+     */
+    @Override
+    public NotificationCenter getNotifications() {
+        return notifications;
+    }
+
     /**
      * Returns the main menu component.
      *
@@ -1,8 +1,11 @@
 package demoworld.view.sheetpanels;
 
+import demoworld.view.BulkListModel;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionListener;
+import java.util.List;
 
 /**
  * EntryList is a JPanel that contains a list of selectable entries.
@@ -18,10 +21,10 @@ public class EntryList extends JPanel {
 
     /**
      * The model that holds the data for the entry list.
-     * A {@code DefaultListModel} of type {@code String} that represents
+     * A {@code BulkListModel} of type {@code String} that represents
      * the underlying data for the {@code entryList}.
      */
-    private final DefaultListModel<String> listModel;
+    private final BulkListModel<String> listModel;
 
     /**
      * The button used to remove an entry from the list.
@@ -38,7 +41,7 @@ public class EntryList extends JPanel {
     public EntryList(String label) {
         setLayout(new BorderLayout());
 
-        listModel = new DefaultListModel<>();
+        listModel = new BulkListModel<>();
         entryList = new JList<>(listModel);
         removeButton = new JButton("Remove");
 
@@ -74,14 +77,24 @@ public class EntryList extends JPanel {
     }
 
     /**
-     * Returns the DefaultListModel used for the JList.
+     * Returns the BulkListModel used for the JList.
      *
-     * @return the given DefaultListModel
+     * @return the given BulkListModel
      */
-    public DefaultListModel<String> getListModel() {
+    public BulkListModel<String> getListModel() {
         return listModel;
     }
 
+    /**
+     * Replaces every entry shown in the list in one step, clearing the current selection.
+     *
+     * @param entries the entries to show, which must not be changed afterwards
+     */
+    public void setEntries(List<String> entries) {
+        entryList.clearSelection();
+        listModel.setAll(entries);
+    }
+
     /**
      * Returns the JList used by the EntryList.
      *
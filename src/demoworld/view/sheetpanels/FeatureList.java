@@ -4,6 +4,9 @@ import demoworld.ReliesOnCharacterData;
 import demoworld.model.Character;
 import demoworld.model.Feature;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * FeatureList that extends EntryList and implements ReliesOnCharacterData.
  * Meant for supporting a representation of a Character's Features.
@@ -24,11 +27,11 @@ public class FeatureList extends EntryList implements ReliesOnCharacterData {
      */
     @Override
     public void updateCharacter(Character character) {
-        getListModel().clear();
-
-        for (Feature feature : character.getFeature().all()) {
-            getListModel().addElement(feature.getName());
+        List<String> names = new ArrayList<>(character.getFeature().size());
+        for (Feature feature : character.getFeature()) {
+            names.add(feature.getName());
         }
+        setEntries(names);
     }
 }
 
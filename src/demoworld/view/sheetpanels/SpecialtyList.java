@@ -4,6 +4,9 @@ import demoworld.ReliesOnCharacterData;
 import demoworld.model.Character;
 import demoworld.model.Specialty;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * SpecialtyList extends EntryList and implements ReliesOnCharacterData.
  * Responsible for supporting a representation of a Character's Specialties.
@@ -24,11 +27,11 @@ public class SpecialtyList extends EntryList implements ReliesOnCharacterData {
      * @param character The character to refer to when updating this class' internal state.
      */
     public void updateCharacter(Character character) {
-        getListModel().clear();
-
-        for (Specialty specialty : character.getSpecialty().all()) {
-            getListModel().addElement(specialty.getName());
+        List<String> names = new ArrayList<>(character.getSpecialty().size());
+        for (Specialty specialty : character.getSpecialty()) {
+            names.add(specialty.getName());
         }
+        setEntries(names);
     }
 }
 
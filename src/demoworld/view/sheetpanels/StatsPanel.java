@@ -2,12 +2,9 @@ package demoworld.view.sheetpanels;
 
 import demoworld.ReliesOnCharacterData;
 import demoworld.model.Character;
-import demoworld.model.Stat;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
-import java.util.List;
 
 /**
  * StatsPanel is responsible for displaying the Character current PrimaryStat state.
@@ -23,10 +20,10 @@ public class StatsPanel extends JPanel implements ReliesOnCharacterData {
 
     /**
      * The model that holds the data for the stats table.
-     * A {@code DefaultTableModel} that manages the data shown in the {@code statsTable},
-     * including columns for name, total, base, and modifier values.
+     * A {@code StatsTableModel} that reads the name, total, base, and modifier values shown in
+     * the {@code statsTable} straight from the character's stat block.
      */
-    private DefaultTableModel tableModel;
+    private StatsTableModel tableModel;
 
 
     /**
@@ -35,8 +32,7 @@ public class StatsPanel extends JPanel implements ReliesOnCharacterData {
     public StatsPanel() {
         setLayout(new BorderLayout());
 
-        String[] columnNames = {"Name", "Total", "Base", "Modifier"};
-        tableModel = new DefaultTableModel(columnNames, 0);
+        tableModel = new StatsTableModel();
         statsTable = new JTable(tableModel);
 
         statsTable.setFillsViewportHeight(true);
@@ -52,17 +48,6 @@ public class StatsPanel extends JPanel implements ReliesOnCharacterData {
      */
     @Override
     public void updateCharacter(Character character) {
-        tableModel.setRowCount(0);
-
-        List<Stat> stats = character.getStat().all();
-        for (Stat stat : stats) {
-            Object[] rowData = {
-                    stat.getName(),
-                    stat.getTotal(),
-                    stat.getBase().current(),
-                    stat.getModifier().current()
-            };
-            tableModel.addRow(rowData);
-        }
+        tableModel.bind(character);
     }
 }
@@ -0,0 +1,156 @@
+package demoworld.view.sheetpanels;
+
+import demoworld.model.Character;
+import demoworld.model.StatBlock;
+
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * A table model that reads the stats of a {@link Character} straight out of its
+ * {@link StatBlock}, one row per stat slot. It holds no copy of the stats; it only remembers
+ * what each cell last showed, so that {@link #refresh()} can tell the table exactly which cells
+ * changed.
+ */
+public class StatsTableModel extends AbstractTableModel {
+
+    /**
+     * The column showing the stat's name.
+     */
+    public static final int NAME = 0;
+
+    /**
+     * The column showing the stat's total.
+     */
+    public static final int TOTAL = 1;
+
+    /**
+     * The column showing the stat's base amount.
+     */
+    public static final int BASE = 2;
+
+    /**
+     * The column showing the stat's modifier amount.
+     */
+    public static final int MODIFIER = 3;
+
+    /**
+     * The headers of the columns, in order.
+     */
+    private static final String[] COLUMN_NAMES = {"Name", "Total", "Base", "Modifier"};
+
+    /**
+     * The stat block being shown, or null before a character is bound.
+     */
+    private StatBlock stats;
+
+    /**
+     * The version of each slot when its row was last shown.
+     */
+    private long[] versions;
+
+    /**
+     * The total, base and modifier last shown for each slot, three to a slot.
+     */
+    private int[] shown;
+
+    /**
+     * Instantiates a model with no rows.
+     */
+    public StatsTableModel() {
+        this.versions = new long[0];
+        this.shown = new int[0];
+    }
+
+    /**
+     * Shows the stats of the given character. If its stat block is the one already shown, only
+     * the cells that changed are updated, as in {@link #refresh()}; otherwise every row is
+     * replaced.
+     *
+     * @param character the character whose stats to show
+     */
+    public void bind(Character character) {
+        StatBlock block = character.getStatBlock();
+        if (block == this.stats) {
+            refresh();
+            return;
+        }
+        this.stats = block;
+        this.versions = new long[block.size()];
+        this.shown = new int[block.size() * 3];
+        for (int slot = 0; slot < block.size(); slot++) {
+            remember(slot);
+        }
+        fireTableDataChanged();
+    }
+
+    /**
+     * Tells the table about every cell whose value changed since it was last shown. Slots that
+     * have not been written to since then are skipped without reading their values.
+     */
+    public void refresh() {
+        if (this.stats == null) {
+            return;
+        }
+        for (int slot = 0; slot < this.versions.length; slot++) {
+            if (this.stats.version(slot) == this.versions[slot]) {
+                continue;
+            }
+            int total = this.shown[slot * 3];
+            int base = this.shown[slot * 3 + 1];
+            int modifier = this.shown[slot * 3 + 2];
+            remember(slot);
+            if (this.shown[slot * 3] != total) {
+                fireTableCellUpdated(slot, TOTAL);
+            }
+            if (this.shown[slot * 3 + 1] != base) {
+                fireTableCellUpdated(slot, BASE);
+            }
+            if (this.shown[slot * 3 + 2] != modifier) {
+                fireTableCellUpdated(slot, MODIFIER);
+            }
+        }
+    }
+
+    /**
+     * Records the current version and values of a slot as the ones shown.
+     *
+     * @param slot the slot
+     */
+    private void remember(int slot) {
+        this.versions[slot] = this.stats.version(slot);
+        this.shown[slot * 3] = this.stats.total(slot);
+        this.shown[slot * 3 + 1] = this.stats.base(slot);
+        this.shown[slot * 3 + 2] = this.stats.modifier(slot);
+    }
+
+    @Override
+    public int getRowCount() {
+        return this.versions.length;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMN_NAMES[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        switch (column) {
+            case NAME:
+                return this.stats.name(row);
+            case TOTAL:
+                return this.stats.total(row);
+            case BASE:
+                return this.stats.base(row);
+            case MODIFIER:
+                return this.stats.modifier(row);
+            default:
+                throw new IllegalStateException("Column " + column + " does not exist!");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package demoworld.model;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class AdjustmentVectorTest {
+
+    private DemoWorld rulebook;
+    private Character character;
+    private int resilience;
+    private int empathy;
+    private int force;
+
+    @Before
+    public void setUp() {
+        rulebook = new DemoWorld();
+        character = new Character("Test Character", rulebook);
+        SymbolTable symbols = rulebook.getSymbols();
+        resilience = symbols.idOf(SymbolTable.Kind.STAT, "resilience");
+        empathy = symbols.idOf(SymbolTable.Kind.STAT, "empathy");
+        force = symbols.idOf(SymbolTable.Kind.STAT, "force");
+    }
+
+    @Test
+    public void testFeatureVector() {
+        AdjustmentVector grit = rulebook.getFeatureByName("grit").getAdjustmentVector();
+        assertEquals(1, grit.statDelta(resilience));
+        assertEquals(0, grit.statDelta(empathy));
+        assertEquals(1, grit.maxHpDelta());
+        assertEquals(0, grit.maxXpDelta());
+
+        AdjustmentVector callous = rulebook.getFeatureByName("callous").getAdjustmentVector();
+        assertEquals(-2, callous.statDelta(empathy));
+        assertEquals(1, callous.statDelta(force));
+    }
+
+    @Test
+    public void testSpecialtyVectorSumsFeatures() {
+        AdjustmentVector bandit = rulebook.getSpecialtyByName("bandit").getAdjustmentVector();
+        assertEquals(-4, bandit.statDelta(empathy));
+        assertEquals(1, bandit.statDelta(force));
+    }
+
+    @Test
+    public void testAddAndRemoveSpecialtyRestoresCharacter() {
+        String before = character.toString();
+        Specialty farmer = rulebook.getSpecialtyByName("farmer");
+        character.addSpecialty(farmer);
+        assertEquals(7, character.getHitpoints().getBase().max());
+        assertEquals(1, character.getStatBySlot(resilience).currentModifier());
+        assertEquals(3, character.getFeature().size());
+
+        character.removeSpecialty(farmer);
+        assertEquals(0, character.getFeature().size());
+        assertEquals(before, character.toString());
+    }
+
+    @Test
+    public void testSpecialtyWithFeatureAlreadyHeld() {
+        character.addFeature(rulebook.getFeatureByName("grit"));
+        character.addSpecialty(rulebook.getSpecialtyByName("farmer"));
+        assertEquals(3, character.getFeature().size());
+        assertEquals(1, character.getStatBySlot(resilience).currentModifier());
+        assertEquals(7, character.getHitpoints().getBase().max());
+    }
+}
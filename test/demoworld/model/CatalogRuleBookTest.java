@@ -0,0 +1,122 @@
+package demoworld.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class CatalogRuleBookTest {
+
+    private Path file;
+    private DemoWorld demo;
+    private CatalogRuleBook loaded;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("demoworld", ".catalog");
+        demo = new DemoWorld();
+        CatalogWriter.write(demo, file);
+        loaded = new CatalogRuleBook(file);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testRoundTripsRulebook() {
+        assertEquals(demo.getName(), loaded.getName());
+        assertEquals(demo.getEdition(), loaded.getEdition(), 0.0);
+        assertEquals(demo.getFeaturePickCount(), loaded.getFeaturePickCount());
+        assertEquals(demo.getStatSpreadReference(), loaded.getStatSpreadReference());
+        assertEquals(demo.getStat().toString(), loaded.getStat().toString());
+        assertEquals(demo.getFeature().toString(), loaded.getFeature().toString());
+        assertEquals(demo.getSpecialty().toString(), loaded.getSpecialty().toString());
+    }
+
+    @Test
+    public void testLoadedCharacterMatches() {
+        Character original = new Character("Test Character", demo);
+        Character copy = new Character("Test Character", loaded);
+        original.addSpecialty(demo.getSpecialtyByName("smith"));
+        copy.addSpecialty(loaded.getSpecialtyByName("smith"));
+        original.addFeature(demo.getFeatureByName("read"));
+        copy.addFeature(loaded.getFeatureByName("read"));
+        assertEquals(original.toString(), copy.toString());
+        assertEquals(demo.getFeaturesFilteredByRequirements(original).size(),
+                loaded.getFeaturesFilteredByRequirements(copy).size());
+    }
+
+    @Test
+    public void testDescriptionsDecodeLazily() {
+        Feature grit = loaded.getFeatureByName("grit");
+        assertEquals(demo.getFeatureByName("grit").getDescription(), grit.getDescription());
+        assertSame(grit.getDescription(), grit.getDescription());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testMissingFeature() {
+        loaded.getFeatureByName("GRIT");
+    }
+
+    @Test(expected = IOException.class)
+    public void testRejectsOtherFiles() throws IOException {
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        new CatalogRuleBook(file);
+    }
+
+    private void corrupt(int position, int value) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).putInt(position, value);
+        Files.write(file, bytes);
+    }
+
+    private int requirementCountPosition() {
+        return 56 + 4 * demo.getStatSpreadReference().size() + 28 * demo.getStat().size();
+    }
+
+    @Test(expected = IOException.class)
+    public void testRejectsNegativeNameLength() throws IOException {
+        corrupt(16, -1);
+        new CatalogRuleBook(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void testRejectsNegativeStringOffset() throws IOException {
+        corrupt(12, -100);
+        new CatalogRuleBook(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void testRejectsNegativeCount() throws IOException {
+        ByteBuffer original = ByteBuffer.wrap(Files.readAllBytes(file));
+        assertEquals(loaded.getRequirement().size(), original.getInt(requirementCountPosition()));
+        corrupt(requirementCountPosition(), -1);
+        new CatalogRuleBook(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void testRejectsHugeCount() throws IOException {
+        corrupt(48, Integer.MAX_VALUE);
+        new CatalogRuleBook(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void testRejectsCorruptLazyDescription() throws IOException {
+        int firstDescription = requirementCountPosition() + 4
+                + 20 * loaded.getRequirement().size() + 4 + 8;
+        corrupt(firstDescription + 4, -1);
+        new CatalogRuleBook(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void testRejectsStringSectionPastEnd() throws IOException {
+        corrupt(8, Integer.MAX_VALUE);
+        new CatalogRuleBook(file);
+    }
+}
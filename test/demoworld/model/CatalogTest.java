@@ -0,0 +1,60 @@
+package demoworld.model;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class CatalogTest {
+
+    @Test
+    public void testRulebooksShareCatalog() {
+        DemoWorld first = new DemoWorld();
+        DemoWorld second = new DemoWorld();
+        assertSame(first.getFeatureByName("grit"), second.getFeatureByName("grit"));
+        assertSame(first.getSymbols(), second.getSymbols());
+        assertSame(first.getDefaultStatBlock(), second.getDefaultStatBlock());
+        assertNotSame(first.getDiceRoller(), second.getDiceRoller());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFeaturesAreFrozen() {
+        new DemoWorld().getFeatureByName("grit")
+                .addRequirement(new Requirement("force", "force", 1));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCatalogEntriesAreFrozen() {
+        new DemoWorld().getFeature().add(new Feature("new", "New"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testDefaultStatsAreFrozen() {
+        new DemoWorld().getDefaultStatBlock().setBase(0, 1);
+    }
+
+    @Test
+    public void testSharedStatsAreFrozen() {
+        Stat force = new DemoWorld().getStatReference().get(0);
+        assertThrows(IllegalStateException.class, () -> force.setCurrentBase(3));
+        assertThrows(IllegalStateException.class, () -> force.getModifier().setMax(9));
+        assertThrows(IllegalStateException.class, () -> force.addToCurrentModifier(1));
+        assertEquals(0, new DemoWorld().getStatReference().get(0).getTotal());
+    }
+
+    @Test
+    public void testLookupsMatchExactName() {
+        DemoWorld rulebook = new DemoWorld();
+        assertEquals("grit", rulebook.getFeatureByName("grit").getName());
+        assertEquals("farmer", rulebook.getSpecialtyByName("farmer").getName());
+        assertThrows(IllegalStateException.class, () -> rulebook.getFeatureByName("GRIT"));
+        assertThrows(IllegalStateException.class, () -> rulebook.getSpecialtyByName("nobody"));
+    }
+
+    @Test
+    public void testCharactersStillChangeStats() {
+        DemoWorld rulebook = new DemoWorld();
+        Character character = new Character("Test Character", rulebook);
+        character.getStatByName("force").getBase().setCurrent(2);
+        assertEquals(2, character.getStatByName("force").getBase().current());
+        assertEquals(0, rulebook.getDefaultStatBlock().base(0));
+    }
+}
@@ -1,5 +1,9 @@
 package demoworld.model;
 
+import demoworld.model.adjustments.StatAdjustment;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import static org.junit.Assert.*;
@@ -62,5 +66,180 @@ public class CharacterTest {
         assertEquals(0, character.getExperience().current());
         assertEquals(7, character.getHitpoints().getBase().max());
     }
-}
 
+    @Test
+    public void testCharactersDoNotShareStats() {
+        Character other = new Character("Other Character", rulebook);
+        character.getStatByName("force").setCurrentBase(3);
+        character.addFeature(rulebook.getFeatureByName("grit"));
+        assertEquals(3, character.getStatByName("force").getTotal());
+        assertEquals(0, other.getStatByName("force").getTotal());
+        assertEquals(0, other.getStatByName("resilience").getTotal());
+        assertEquals(6, other.getHitpoints().getBase().max());
+    }
+
+    @Test
+    public void testUnchangedCharacterSharesDefaults() {
+        Character other = new Character("Other Character", rulebook);
+        assertTrue(other.getStatBlock().isShared());
+        other.damage(1);
+        assertEquals(5, other.getHitpoints().getTotal());
+        assertEquals(6, character.getHitpoints().getTotal());
+    }
+
+    @Test
+    public void testApplyAllMatchesAddingOneByOne() {
+        Character other = new Character("Test Character", rulebook);
+        other.addSpecialty(rulebook.getSpecialtyByName("farmer"));
+        other.addSpecialty(rulebook.getSpecialtyByName("bandit"));
+        other.addFeature(rulebook.getFeatureByName("grit"));
+
+        character.applyAll(
+                List.of(rulebook.getSpecialtyByName("farmer"),
+                        rulebook.getSpecialtyByName("bandit")),
+                List.of(rulebook.getFeatureByName("grit")));
+        assertEquals(other.toString(), character.toString());
+    }
+
+    @Test
+    public void testBatchDefersAdjustmentsUntilClosed() {
+        Character.Batch outer = character.batch();
+        Character.Batch inner = character.batch();
+        character.addFeature(rulebook.getFeatureByName("grit"));
+        inner.close();
+        assertTrue(character.getFeature().contains(rulebook.getFeatureByName("grit")));
+        assertEquals(0, character.getStatByName("resilience").getTotal());
+        assertEquals(6, character.getHitpoints().getBase().max());
+        outer.close();
+        assertEquals(1, character.getStatByName("resilience").getTotal());
+        assertEquals(7, character.getHitpoints().getBase().max());
+    }
+
+    @Test
+    public void testUnboundAdjustmentIsUndoneExactly() {
+        Stat force = character.getStatByName("force");
+        force.getModifier().setMax(2);
+        StatAdjustment big = new StatAdjustment("force", 3);
+        StatAdjustment small = new StatAdjustment("force", 1);
+        big.adjust(character);
+        small.adjust(character);
+        assertEquals(2, character.getStatByName("force").getModifier().current());
+        big.unadjust(character);
+        assertEquals(1, character.getStatByName("force").getModifier().current());
+        small.unadjust(character);
+        assertEquals(0, character.getStatByName("force").getModifier().current());
+    }
+
+    @Test
+    public void testClosingBatchTwiceAppliesOnce() {
+        Character.Batch changes = character.batch();
+        character.addFeature(rulebook.getFeatureByName("grit"));
+        changes.close();
+        changes.close();
+        assertEquals(1, character.getStatByName("resilience").getTotal());
+        assertEquals(7, character.getHitpoints().getBase().max());
+    }
+
+    @Test
+    public void testClosingStaleBatchLeavesNewBatchOpen() {
+        Character.Batch old = character.batch();
+        character.addFeature(rulebook.getFeatureByName("grit"));
+        old.close();
+
+        Character.Batch current = character.batch();
+        assertNotSame(old, current);
+        character.removeFeature(rulebook.getFeatureByName("grit"));
+        old.close();
+        assertEquals(1, character.getStatByName("resilience").getTotal());
+        assertEquals(7, character.getHitpoints().getBase().max());
+        current.close();
+        assertEquals(0, character.getStatByName("resilience").getTotal());
+        assertEquals(6, character.getHitpoints().getBase().max());
+    }
+
+    @Test
+    public void testSharedFeatureStaysUntilLastGrantRevoked() {
+        Feature grit = rulebook.getFeatureByName("grit");
+        Specialty farmer = rulebook.getSpecialtyByName("farmer");
+        Specialty smith = rulebook.getSpecialtyByName("smith");
+        character.addSpecialty(farmer);
+        character.addSpecialty(smith);
+        assertEquals(2, character.grantCount(grit));
+        assertEquals(1, character.getStatByName("resilience").getTotal());
+
+        character.removeSpecialty(farmer);
+        assertTrue(character.getFeature().contains(grit));
+        assertEquals(1, character.grantCount(grit));
+        assertEquals(1, character.getStatByName("resilience").getTotal());
+
+        character.removeSpecialty(smith);
+        assertFalse(character.getFeature().contains(grit));
+        assertEquals(0, character.getStatByName("resilience").getTotal());
+        assertEquals(0, character.getFeature().size());
+    }
+
+    @Test
+    public void testAddedFeatureOutlivesSpecialtyGrantingIt() {
+        Feature grit = rulebook.getFeatureByName("grit");
+        Specialty farmer = rulebook.getSpecialtyByName("farmer");
+        character.addFeature(grit);
+        character.addSpecialty(farmer);
+        assertEquals(2, character.grantCount(grit));
+
+        character.removeSpecialty(farmer);
+        assertTrue(character.getFeature().contains(grit));
+        assertEquals(1, character.grantCount(grit));
+        assertEquals(1, character.getStatByName("resilience").getTotal());
+
+        character.removeFeature(grit);
+        assertFalse(character.getFeature().contains(grit));
+        assertEquals(0, character.grantCount(grit));
+        assertEquals(0, character.getStatByName("resilience").getTotal());
+    }
+
+    @Test
+    public void testRemovedFeatureDropsItsGrants() {
+        Feature grit = rulebook.getFeatureByName("grit");
+        Specialty farmer = rulebook.getSpecialtyByName("farmer");
+        Specialty smith = rulebook.getSpecialtyByName("smith");
+        character.addSpecialty(farmer);
+        character.removeFeature(grit);
+        assertEquals(0, character.grantCount(grit));
+
+        character.addSpecialty(smith);
+        assertTrue(character.getFeature().contains(grit));
+        character.removeSpecialty(smith);
+        assertFalse(character.getFeature().contains(grit));
+        assertEquals(0, character.getStatByName("resilience").getTotal());
+    }
+
+    @Test
+    public void testListenersHearWhatChanged() {
+        List<CharacterChange> heard = new ArrayList<>();
+        character.addListener((changed, change) -> heard.add(change));
+
+        character.damage(2);
+        character.adjustXp(5);
+        character.addFeature(rulebook.getFeatureByName("grit"));
+        character.setName("Renamed");
+        character.setName("Renamed");
+
+        assertTrue(heard.contains(CharacterChange.HITPOINTS));
+        assertTrue(heard.contains(CharacterChange.EXPERIENCE));
+        assertTrue(heard.contains(CharacterChange.FEATURES));
+        assertEquals(1, Collections.frequency(heard, CharacterChange.NAME));
+        assertFalse(heard.contains(CharacterChange.SPECIALTIES));
+    }
+
+    @Test
+    public void testRemovedListenerHearsNothing() {
+        List<CharacterChange> heard = new ArrayList<>();
+        CharacterListener listener = (changed, change) -> heard.add(change);
+        character.addListener(listener);
+        character.removeListener(listener);
+
+        character.damage(2);
+
+        assertTrue(heard.isEmpty());
+    }
+}
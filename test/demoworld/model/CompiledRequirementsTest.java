@@ -0,0 +1,77 @@
+package demoworld.model;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class CompiledRequirementsTest {
+
+    private DemoWorld rulebook;
+    private Character character;
+    private SymbolTable symbols;
+
+    @Before
+    public void setUp() {
+        rulebook = new DemoWorld();
+        character = new Character("Test Character", rulebook);
+        symbols = new SymbolTable(rulebook.getSymbols());
+    }
+
+    private Requirement bound(String stat, int threshold) {
+        Requirement requirement = new Requirement(stat, stat, threshold);
+        requirement.bind(symbols);
+        return requirement;
+    }
+
+    @Test
+    public void testNoRequirementsAlwaysPass() {
+        CompiledRequirements check = CompiledRequirements.compile(new EntryManager<>());
+        assertSame(CompiledRequirements.NONE, check);
+        assertTrue(check.test(character));
+    }
+
+    @Test
+    public void testRequirementsOnOneStatMerge() {
+        EntryManager<Requirement> requirements = new EntryManager<>();
+        requirements.add(bound("force", 1));
+        requirements.add(bound("force", 3));
+        CompiledRequirements check = CompiledRequirements.compile(requirements);
+        assertEquals(1, check.size());
+
+        character.getStatByName("force").getBase().setCurrent(2);
+        assertFalse(check.test(character));
+        character.getStatByName("force").getBase().setCurrent(3);
+        assertTrue(check.test(character));
+    }
+
+    @Test
+    public void testMatchesUncompiledChecks() {
+        EntryManager<Requirement> requirements = new EntryManager<>();
+        requirements.add(bound("force", 2));
+        requirements.add(bound("empathy", 1));
+        requirements.add(new Requirement("unbound", "analytical", 1));
+        CompiledRequirements check = CompiledRequirements.compile(requirements);
+        assertEquals(3, check.size());
+
+        for (int value = 0; value <= 3; value++) {
+            character.getStatByName("force").getBase().setCurrent(value);
+            character.getStatByName("empathy").getBase().setCurrent(3 - value);
+            character.getStatByName("analytical").getBase().setCurrent(value % 2);
+            boolean expected = true;
+            for (Requirement requirement : requirements) {
+                expected &= requirement.check(character);
+            }
+            assertEquals(expected, check.test(character));
+        }
+    }
+
+    @Test
+    public void testAddingRequirementRecompiles() {
+        Feature feature = new Feature("Strong", "Strong");
+        feature.bind(symbols);
+        assertTrue(feature.meetsRequirements(character));
+
+        feature.addRequirement(bound("force", 1000));
+        assertFalse(feature.meetsRequirements(character));
+    }
+}
@@ -0,0 +1,78 @@
+package demoworld.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class EligibilityBitmapsTest {
+
+    private DemoWorld rulebook;
+    private EntryManager<Feature> catalog;
+
+    @Before
+    public void setUp() {
+        rulebook = new DemoWorld();
+        catalog = new EntryManager<>();
+        SymbolTable symbols = new SymbolTable(rulebook.getSymbols());
+        Random random = new Random(11);
+        String[] stats = {"force", "empathy", "analytical", "resilience"};
+        for (int i = 0; i < 150; i++) {
+            Feature feature = new Feature("feature " + i, "generated");
+            int count = random.nextInt(3);
+            for (int r = 0; r < count; r++) {
+                String stat = stats[random.nextInt(stats.length)];
+                feature.addRequirement(new Requirement(stat, stat, random.nextInt(6)));
+            }
+            if (i % 50 == 0) {
+                feature.addRequirement(new Requirement("unbound", "force", 2));
+            }
+            feature.bind(symbols);
+            catalog.add(feature);
+        }
+    }
+
+    private List<Feature> expected(Character character) {
+        List<Feature> expected = new ArrayList<>();
+        for (Feature feature : catalog) {
+            if (feature.meetsRequirements(character)) {
+                expected.add(feature);
+            }
+        }
+        return expected;
+    }
+
+    @Test
+    public void testMatchesRequirementChecks() {
+        EligibilityBitmaps<Feature> bitmaps = new EligibilityBitmaps<>(catalog);
+        Random random = new Random(3);
+        List<Character> characters = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Character character = new Character("Character " + i, rulebook);
+            for (Stat stat : character.getStat()) {
+                stat.getBase().setCurrent(random.nextInt(7));
+            }
+            characters.add(character);
+            assertEquals(expected(character), bitmaps.entries(bitmaps.evaluate(character)));
+        }
+
+        long[][] all = bitmaps.evaluateAll(characters);
+        for (int i = 0; i < characters.size(); i++) {
+            assertEquals(expected(characters.get(i)), bitmaps.entries(all[i]));
+        }
+    }
+
+    @Test
+    public void testRuleBookCatalog() {
+        Character character = new Character("Test Character", rulebook);
+        EligibilityBitmaps<Feature> bitmaps = rulebook.getFeatureEligibilityBitmaps();
+        assertSame(bitmaps, rulebook.getFeatureEligibilityBitmaps());
+        assertEquals(rulebook.getFeaturesFilteredByRequirements(character),
+                bitmaps.entries(bitmaps.evaluate(character)));
+        EligibilityBitmaps<Specialty> specialties = rulebook.getSpecialtyEligibilityBitmaps();
+        assertEquals(rulebook.getSpecialtiesFilteredByRequirements(character),
+                specialties.entries(specialties.evaluate(character)));
+    }
+}
@@ -0,0 +1,87 @@
+package demoworld.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class EligibilityTest {
+
+    private DemoWorld rulebook;
+    private Character character;
+
+    @Before
+    public void setUp() {
+        rulebook = new DemoWorld();
+        character = new Character("Test Character", rulebook);
+    }
+
+    private List<Feature> recheckFeatures(Character character) {
+        List<Feature> expected = new ArrayList<>();
+        for (Feature feature : rulebook.getFeature()) {
+            if (feature.meetsRequirements(character)) {
+                expected.add(feature);
+            }
+        }
+        return expected;
+    }
+
+    private List<Specialty> recheckSpecialties(Character character) {
+        List<Specialty> expected = new ArrayList<>();
+        for (Specialty specialty : rulebook.getSpecialty()) {
+            if (specialty.meetsRequirements(character)) {
+                expected.add(specialty);
+            }
+        }
+        return expected;
+    }
+
+    @Test
+    public void testFollowsStatChanges() {
+        Random random = new Random(7);
+        for (int round = 0; round < 50; round++) {
+            Stat stat = character.getStatBySlot(random.nextInt(character.getStatBlock().size()));
+            stat.getBase().setCurrent(random.nextInt(5));
+            assertEquals(recheckFeatures(character),
+                    rulebook.getFeaturesFilteredByRequirements(character));
+            assertEquals(recheckSpecialties(character),
+                    rulebook.getSpecialtiesFilteredByRequirements(character));
+        }
+    }
+
+    @Test
+    public void testUnchangedStatsGiveSameEntries() {
+        List<Feature> first = rulebook.getFeaturesFilteredByRequirements(character);
+        character.damage(1);
+        assertEquals(first, rulebook.getFeaturesFilteredByRequirements(character));
+    }
+
+    @Test
+    public void testCharactersAreTrackedSeparately() {
+        Character other = new Character("Other Character", rulebook);
+        rulebook.getFeaturesFilteredByRequirements(character);
+        for (Stat stat : other.getStat()) {
+            stat.getBase().setCurrent(stat.getBase().min());
+            stat.getModifier().setCurrent(-10);
+        }
+        for (Stat stat : character.getStat()) {
+            stat.getBase().setCurrent(10);
+        }
+        List<Feature> few = rulebook.getFeaturesFilteredByRequirements(other);
+        List<Feature> many = rulebook.getFeaturesFilteredByRequirements(character);
+        assertEquals(recheckFeatures(other), few);
+        assertEquals(recheckFeatures(character), many);
+        assertTrue(few.size() < many.size());
+    }
+
+    @Test
+    public void testStatBlockVersions() {
+        StatBlock block = character.getStatBlock();
+        long before = block.version(0);
+        block.setBase(0, block.base(0) + 1);
+        assertEquals(before + 1, block.version(0));
+        assertEquals(0, block.version(1));
+    }
+}
@@ -0,0 +1,95 @@
+package demoworld.model;
+
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class EntryManagerTest {
+
+    private EntryManager<Feature> manager;
+    private Feature grit;
+    private Feature read;
+
+    @Before
+    public void setUp() {
+        manager = new EntryManager<>();
+        grit = new Feature("grit", "Tough");
+        read = new Feature("Read", "Literate");
+        manager.add(grit);
+        manager.add(read);
+    }
+
+    @Test
+    public void testByNameIgnoresCase() {
+        assertSame(grit, manager.byName("GRIT"));
+        assertSame(read, manager.byName("read"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testByNameMissing() {
+        manager.byName("write");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testByNameAfterRemove() {
+        manager.remove(grit);
+        manager.byName("grit");
+    }
+
+    @Test
+    public void testDuplicateNamesResolveToFirstRemaining() {
+        Feature secondGrit = new Feature("Grit", "Tougher");
+        manager.add(secondGrit);
+        assertSame(grit, manager.byName("grit"));
+
+        manager.remove(grit);
+        assertSame(secondGrit, manager.byName("grit"));
+    }
+
+    @Test
+    public void testAllKeepsInsertionOrder() {
+        Feature write = new Feature("write", "Literate");
+        manager.add(write);
+        manager.remove(read);
+        assertEquals(2, manager.all().size());
+        assertSame(grit, manager.all().get(0));
+        assertSame(write, manager.all().get(1));
+    }
+
+    @Test
+    public void testViewIsLive() {
+        List<Feature> view = manager.view();
+        Feature write = new Feature("write", "Literate");
+        manager.add(write);
+        assertEquals(3, view.size());
+        assertSame(write, view.get(2));
+        assertSame(view, manager.view());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testViewIsReadOnly() {
+        manager.view().add(new Feature("write", "Literate"));
+    }
+
+    @Test
+    public void testContainsAndSize() {
+        assertTrue(manager.contains(grit));
+        assertFalse(manager.contains(new Feature("grit", "Tough")));
+        assertEquals(2, manager.size());
+
+        manager.remove(grit);
+        assertFalse(manager.contains(grit));
+        assertEquals(1, manager.size());
+    }
+
+    @Test
+    public void testIteration() {
+        int count = 0;
+        for (Feature feature : manager) {
+            assertSame(count == 0 ? grit : read, feature);
+            count++;
+        }
+        assertEquals(2, count);
+    }
+}
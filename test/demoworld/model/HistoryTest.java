@@ -0,0 +1,109 @@
+package demoworld.model;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class HistoryTest {
+
+    private DemoWorld rulebook;
+    private Character character;
+    private History history;
+
+    @Before
+    public void setUp() {
+        rulebook = new DemoWorld();
+        character = new Character("Test Character", rulebook);
+        history = new History(10);
+        history.reset(character);
+    }
+
+    @Test
+    public void testSnapshotIsReusedUntilChanged() {
+        CharacterSnapshot first = character.snapshot();
+        assertSame(first, character.snapshot());
+        character.damage(1);
+        CharacterSnapshot second = character.snapshot();
+        assertNotSame(first, second);
+        assertSame(first.getFeatures(), second.getFeatures());
+        assertEquals(6, first.base(character.getStatBlock().hitpointsSlot()));
+        assertEquals(5, second.base(character.getStatBlock().hitpointsSlot()));
+    }
+
+    @Test
+    public void testSnapshotFollowsFeatureChanges() {
+        Feature grit = rulebook.getFeatureByName("grit");
+        Feature callous = rulebook.getFeatureByName("callous");
+        character.addFeature(grit);
+        character.addFeature(callous);
+        CharacterSnapshot both = character.snapshot();
+        character.removeFeature(grit);
+        CharacterSnapshot onlyCallous = character.snapshot();
+        character.addFeature(grit);
+        CharacterSnapshot reordered = character.snapshot();
+
+        assertEquals(2, both.getFeatures().size());
+        assertSame(grit, both.getFeatures().get(0));
+        assertEquals(1, onlyCallous.getFeatures().size());
+        assertSame(callous, onlyCallous.getFeatures().get(0));
+        assertSame(callous, reordered.getFeatures().get(0));
+        assertSame(grit, reordered.getFeatures().get(1));
+        assertSame(both.getSpecialties(), reordered.getSpecialties());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSnapshotRejectsOpenBatch() {
+        Character.Batch batch = character.batch();
+        character.addFeature(rulebook.getFeatureByName("grit"));
+        character.snapshot();
+        batch.close();
+    }
+
+    @Test
+    public void testRestoreWithoutReadjusting() {
+        String before = character.toString();
+        CharacterSnapshot plain = character.snapshot();
+        character.addSpecialty(rulebook.getSpecialtyByName("farmer"));
+        String withFarmer = character.toString();
+        CharacterSnapshot farmer = character.snapshot();
+
+        character.restore(plain);
+        assertEquals(before, character.toString());
+        character.restore(farmer);
+        assertEquals(withFarmer, character.toString());
+        assertEquals(1, character.grantCount(rulebook.getFeatureByName("grit")));
+    }
+
+    @Test
+    public void testUndoAndRedo() {
+        String before = character.toString();
+        character.addSpecialty(rulebook.getSpecialtyByName("farmer"));
+        assertTrue(history.record(character));
+        String withFarmer = character.toString();
+        character.damage(2);
+        String damaged = character.toString();
+
+        assertTrue(history.undo(character));
+        assertEquals(withFarmer, character.toString());
+        assertTrue(history.undo(character));
+        assertEquals(before, character.toString());
+        assertFalse(history.undo(character));
+
+        assertTrue(history.redo(character));
+        assertTrue(history.redo(character));
+        assertEquals(damaged, character.toString());
+        assertFalse(history.redo(character));
+    }
+
+    @Test
+    public void testRecordingClearsRedo() {
+        character.damage(1);
+        history.record(character);
+        history.undo(character);
+        assertTrue(history.canRedo());
+        character.heal(1);
+        character.adjustXp(1);
+        history.record(character);
+        assertFalse(history.canRedo());
+    }
+}
@@ -0,0 +1,63 @@
+package demoworld.model;
+
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class PersistentVectorTest {
+
+    @Test
+    public void testAppendAndGetAcrossLevels() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 2000; i++) {
+            vector = vector.append(i);
+        }
+        assertEquals(2000, vector.size());
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(i, (int) vector.get(i));
+        }
+    }
+
+    @Test
+    public void testSetLeavesOldVersionUnchanged() {
+        PersistentVector<String> before = PersistentVector.of(List.of("a", "b", "c"));
+        PersistentVector<String> after = before.set(1, "x");
+        assertEquals("b", before.get(1));
+        assertEquals("x", after.get(1));
+        assertSame(before, before.set(0, before.get(0)));
+    }
+
+    @Test
+    public void testPop() {
+        PersistentVector<String> vector = PersistentVector.of(List.of("a", "b", "c"));
+        PersistentVector<String> popped = vector.pop();
+        assertEquals(2, popped.size());
+        assertEquals("b", popped.get(1));
+        assertEquals(3, vector.size());
+        assertEquals(0, popped.pop().pop().size());
+    }
+
+    @Test
+    public void testPopAcrossLevels() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 1100; i++) {
+            vector = vector.append(i);
+        }
+        for (int i = 1099; i >= 0; i--) {
+            assertEquals(i + 1, vector.size());
+            assertEquals(Integer.valueOf(i), vector.get(i));
+            assertEquals(Integer.valueOf(0), vector.get(0));
+            vector = vector.pop();
+        }
+        assertEquals(0, vector.size());
+        for (int i = 0; i < 40; i++) {
+            vector = vector.append(i);
+        }
+        assertEquals(Integer.valueOf(39), vector.get(39));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        PersistentVector.empty().get(0);
+    }
+}
@@ -0,0 +1,133 @@
+package demoworld.model;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class SheetRendererTest {
+
+    private static final String GRIT = "GRIT [**]\n"
+            + "\"Through your life you've built up a good tolerance for long hours"
+            + " and hard work.\"\n";
+
+    // the sheet as the hand-built toString wrote it before the renderer existed
+    private static final String SHEET = "   _______________________________\n"
+            + " / \\                              |\n"
+            + " \\__|                             |\n"
+            + "    |          * Test Character *          |\n"
+            + "    |                             |\n"
+            + "    |  FORCE 0 : (0 + 0)          |\n"
+            + "    |  QUICKNESS 0 : (0 + 0)      |\n"
+            + "    |  RESILIENCE 1 : (0 + 1)     |\n"
+            + "    |  ANALYTICAL 0 : (0 + 0)     |\n"
+            + "    |  EMPATHY 0 : (0 + 0)        |\n"
+            + "    |                             |\n"
+            + "    |  ___________________________|__\n"
+            + "    \\_/_____________________________/\n"
+            + "HITPOINTS:4/7\n"
+            + "[ ][ ][ ][ ][ ][ ][ ]\n"
+            + "TEMP HP: 0\n"
+            + "XP:3/5\n"
+            + "[ ][ ][ ][ ][ ]\n"
+            + "        |================================\\\n"
+            + "[0]#####>--------  SPECIALTIES  ---------->\n"
+            + "        |================================/\n"
+            + "\n"
+            + "1. FARMER\n"
+            + "You've spent much of your life waking early and working hard on the field.\n"
+            + "\n"
+            + "        |================================\\\n"
+            + "[0]#####>----------  FEATURES  ----------->\n"
+            + "        |================================/\n"
+            + "\n"
+            + "1. " + GRIT + "\n\n"
+            + "2. EARLY RISER []\n"
+            + "requires: resilience >= 0\n"
+            + "\"You've spent your life having to get up early, you are not afflicted by drowsy"
+            + " or similar effects in the morning.\"\n"
+            + "\n\n"
+            + "3. WEATHER MINDED []\n"
+            + "\"You've developed a strong set of heuristics you use to predict the weather and"
+            + " have gotten pretty good at it. You can roll twice and take the best result when"
+            + " doing rolls related to the weather\"\n"
+            + "\n\n";
+
+    private Character character;
+    private DemoWorld rulebook;
+
+    @Before
+    public void setUp() {
+        rulebook = new DemoWorld();
+        character = new Character("Test Character", rulebook);
+        character.addSpecialty(rulebook.getSpecialtyByName("farmer"));
+        character.addFeature(rulebook.getFeatureByName("grit"));
+        character.damage(2);
+        character.adjustXp(3);
+    }
+
+    @Test
+    public void testStringBuilderMatchesSheet() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        new SheetRenderer().render(character, sb);
+        assertEquals(SHEET, sb.toString());
+        assertEquals(SHEET, character.toString());
+    }
+
+    @Test
+    public void testWriterMatchesSheet() throws IOException {
+        StringWriter writer = new StringWriter();
+        new SheetRenderer().render(character, writer);
+        assertEquals(SHEET, writer.toString());
+    }
+
+    @Test
+    public void testOtherAppendableMatchesSheet() throws IOException {
+        CharBuffer buffer = CharBuffer.allocate(8192);
+        new SheetRenderer().render(character, buffer);
+        buffer.flip();
+        assertEquals(SHEET, buffer.toString());
+    }
+
+    @Test
+    public void testFeatureToStringMatchesSheet() {
+        assertEquals(GRIT, rulebook.getFeatureByName("grit").toString());
+        assertTrue(SHEET.contains(rulebook.getFeatureByName("early riser").toString()));
+    }
+
+    @Test
+    public void testStatLinesAreAligned() {
+        character.getStatBySlot(0).getModifier().setMin(-20);
+        character.getStatBySlot(0).getModifier().setCurrent(-12);
+        int width = -1;
+        for (String line : character.toString().split("\n")) {
+            if (line.endsWith("     |") && line.contains(" : (")) {
+                if (width == -1) {
+                    width = line.length();
+                }
+                assertEquals(width, line.length());
+            }
+        }
+        assertTrue(width > 0);
+    }
+
+    @Test
+    public void testStatsWrittenAsStatToString() {
+        String sheet = character.toString();
+        for (Stat stat : character.getStat()) {
+            assertTrue(sheet.contains("    |  " + stat.toString()));
+        }
+    }
+
+    @Test
+    public void testRendererCanBeReused() throws IOException {
+        SheetRenderer renderer = new SheetRenderer();
+        StringBuilder first = new StringBuilder();
+        renderer.render(character, first);
+        StringBuilder second = new StringBuilder();
+        renderer.render(character, second);
+        assertEquals(first.toString(), second.toString());
+    }
+}
@@ -0,0 +1,112 @@
+package demoworld.model;
+
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class StatBlockTest {
+
+    private StatBlock block;
+
+    @Before
+    public void setUp() {
+        block = new StatBlock(List.of(
+                new Stat("force", "Strength", -2, 5, 1),
+                new Stat("empathy", "Feelings", -2, 5, 0)),
+                new Hitpoints(6, 6));
+    }
+
+    @Test
+    public void testCopiesStats() {
+        assertEquals(2, block.size());
+        assertEquals("empathy", block.name(1));
+        assertEquals(1, block.base(0));
+        assertEquals(-2, block.baseMin(0));
+        assertEquals(5, block.modifierMax(1));
+        assertEquals(6, block.base(block.hitpointsSlot()));
+    }
+
+    @Test
+    public void testStatViewWritesThrough() {
+        Stat force = block.stat(0);
+        force.setCurrentBase(3);
+        force.addToCurrentModifier(1);
+        assertEquals(3, block.base(0));
+        assertEquals(1, block.modifier(0));
+        assertEquals(4, block.stat(0).getTotal());
+        assertEquals("FORCE 4 : (3 + 1)", block.stat(0).toString());
+    }
+
+    @Test
+    public void testViewsAreReused() {
+        assertSame(block.stat(1), block.stat(1));
+        assertNotSame(block.stat(0), block.stat(1));
+        assertSame(block.hitpoints(), block.hitpoints());
+        block.setBase(1, 3);
+        assertEquals(3, block.stat(1).getBase().current());
+        StatBlock copy = new StatBlock(block);
+        assertNotSame(block.stat(1), copy.stat(1));
+        copy.setBase(1, 4);
+        assertEquals(3, block.stat(1).getBase().current());
+        assertEquals(4, copy.stat(1).getBase().current());
+    }
+
+    @Test
+    public void testBoundsMatchValue() {
+        block.setBase(0, 10);
+        assertEquals(5, block.base(0));
+        block.addToModifier(1, -7);
+        assertEquals(-2, block.modifier(1));
+        block.setBaseMax(0, -5);
+        assertEquals(-2, block.baseMax(0));
+        assertEquals(-2, block.base(0));
+    }
+
+    @Test
+    public void testHitpointsView() {
+        Hitpoints hitpoints = block.hitpoints();
+        hitpoints.setTempHp(2);
+        hitpoints.damage(3);
+        assertEquals(0, block.hitpoints().getTempHp());
+        assertEquals(5, block.hitpoints().getBase().current());
+        hitpoints.addToMaxBase(1);
+        assertEquals(7, block.baseMax(block.hitpointsSlot()));
+    }
+
+    @Test
+    public void testRemovingAdjustmentsIgnoresOrder() {
+        block.addToModifier(1, 4);
+        block.addToModifier(1, 3);
+        assertEquals(5, block.modifier(1));
+        block.addToModifier(1, -4);
+        assertEquals(3, block.modifier(1));
+        block.addToModifier(1, -3);
+        assertEquals(0, block.modifier(1));
+        assertEquals(0, block.rawModifier(1));
+    }
+
+    @Test
+    public void testStatViewKeepsExactModifierSum() {
+        Stat empathy = block.stat(1);
+        empathy.addToCurrentModifier(4);
+        empathy.addToCurrentModifier(3);
+        assertEquals(5, empathy.getModifier().current());
+        empathy.addToCurrentModifier(-4);
+        assertEquals(3, block.modifier(1));
+        empathy.addToCurrentModifier(-3);
+        assertEquals(0, block.rawModifier(1));
+    }
+
+    @Test
+    public void testTotalsFollowWrites() {
+        assertEquals(1, block.total(0));
+        block.addToModifier(0, 2);
+        assertEquals(3, block.total(0));
+        assertEquals(3, block.stat(0).getTotal());
+        block.setModifierMax(0, 1);
+        assertEquals(2, block.total(0));
+        block.setModifierMax(0, 5);
+        assertEquals(3, block.total(0));
+    }
+}
@@ -0,0 +1,44 @@
+package demoworld.model;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class SymbolTableTest {
+
+    private SymbolTable symbols;
+
+    @Before
+    public void setUp() {
+        symbols = new SymbolTable();
+    }
+
+    @Test
+    public void testInternAssignsDenseIds() {
+        assertEquals(0, symbols.intern(SymbolTable.Kind.STAT, "force"));
+        assertEquals(1, symbols.intern(SymbolTable.Kind.STAT, "quickness"));
+        assertEquals(0, symbols.intern(SymbolTable.Kind.STAT, "FORCE"));
+        assertEquals(0, symbols.intern(SymbolTable.Kind.FEATURE, "grit"));
+        assertEquals(2, symbols.size(SymbolTable.Kind.STAT));
+        assertEquals("quickness", symbols.nameOf(SymbolTable.Kind.STAT, 1));
+    }
+
+    @Test
+    public void testIdOfUnknownName() {
+        assertEquals(SymbolTable.UNRESOLVED, symbols.idOf(SymbolTable.Kind.STAT, "force"));
+    }
+
+    @Test
+    public void testRulebookBindsRequirementsToStatSlots() {
+        DemoWorld rulebook = new DemoWorld();
+        SymbolTable table = rulebook.getSymbols();
+        Requirement empathy = rulebook.getRequirement().byName("empathy");
+        assertEquals(table.idOf(SymbolTable.Kind.STAT, "empathy"), empathy.getStatSlot());
+
+        Character character = new Character("Test", rulebook);
+        assertEquals("empathy", character.getStatBySlot(empathy.getStatSlot()).getName());
+        assertTrue(empathy.check(character));
+        character.getStatByName("empathy").setCurrentBase(-1);
+        assertFalse(empathy.check(character));
+    }
+}
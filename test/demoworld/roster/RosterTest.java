@@ -0,0 +1,120 @@
+package demoworld.roster;
+
+import demoworld.model.Character;
+import demoworld.model.DemoWorld;
+import demoworld.model.Feature;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class RosterTest {
+
+    private DemoWorld rulebook;
+    private Roster roster;
+    private Character farmer;
+    private Character smith;
+
+    @Before
+    public void setUp() {
+        rulebook = new DemoWorld();
+        roster = new Roster(rulebook);
+        farmer = new Character("Farmer", rulebook);
+        farmer.getStatByName("force").setCurrentBase(2);
+        farmer.addSpecialty(rulebook.getSpecialtyByName("farmer"));
+        farmer.damage(2);
+        smith = new Character("Smith", rulebook);
+        smith.addSpecialty(rulebook.getSpecialtyByName("smith"));
+        smith.addFeature(rulebook.getFeatureByName("callous"));
+    }
+
+    @Test
+    public void testAddAndLookUp() {
+        int first = roster.add(farmer);
+        int second = roster.add(smith);
+        assertEquals(2, roster.size());
+        assertEquals("Smith", roster.getName(second));
+        assertEquals(2, roster.getTotal(first, 0));
+        assertEquals(farmer.getHitpoints().getBase().current(), roster.getHitpoints(first));
+        assertTrue(roster.hasFeature(first, rulebook.getFeatureByName("grit")));
+        assertFalse(roster.hasFeature(first, rulebook.getFeatureByName("callous")));
+    }
+
+    @Test
+    public void testGetRebuildsCharacter() {
+        int id = roster.add(smith);
+        assertEquals(smith.toString(), roster.get(id).toString());
+        id = roster.add(farmer);
+        assertEquals(farmer.toString(), roster.get(id).toString());
+    }
+
+    @Test
+    public void testGetKeepsUnclampedModifiersAndBounds() {
+        Character character = new Character("Capped", rulebook);
+        character.getStatByName("resilience").getModifier().setMax(0);
+        Feature grit = rulebook.getFeatureByName("grit");
+        character.addFeature(grit);
+        Character rebuilt = roster.get(roster.add(character));
+
+        character.removeFeature(grit);
+        rebuilt.removeFeature(grit);
+
+        assertEquals(character.getStatByName("resilience").getTotal(),
+                rebuilt.getStatByName("resilience").getTotal());
+        assertEquals(character.toString(), rebuilt.toString());
+    }
+
+    @Test
+    public void testGetKeepsDirectlyAddedFeatures() {
+        Character character = new Character("Picker", rulebook);
+        Feature grit = rulebook.getFeatureByName("grit");
+        character.addFeature(grit);
+        character.addSpecialty(rulebook.getSpecialtyByName("farmer"));
+        roster.add(farmer);
+        Character rebuilt = roster.get(roster.add(character));
+        assertEquals(2, rebuilt.grantCount(grit));
+
+        character.removeSpecialty(rulebook.getSpecialtyByName("farmer"));
+        rebuilt.removeSpecialty(rulebook.getSpecialtyByName("farmer"));
+
+        assertTrue(rebuilt.getFeature().contains(grit));
+        assertEquals(character.toString(), rebuilt.toString());
+    }
+
+    @Test
+    public void testRemoveKeepsOtherIds() {
+        int first = roster.add(farmer);
+        int second = roster.add(smith);
+        int third = roster.add(new Character("Third", rulebook));
+        assertTrue(roster.remove(first));
+        assertFalse(roster.remove(first));
+        assertFalse(roster.contains(first));
+        assertEquals(2, roster.size());
+        assertEquals("Smith", roster.getName(second));
+        assertEquals("Third", roster.getName(third));
+        assertArrayEquals(new int[] {third, second}, roster.ids());
+        Feature callous = rulebook.getFeatureByName("callous");
+        assertEquals(smith.grantCount(callous), roster.get(second).grantCount(callous));
+        assertEquals(smith.toString(), roster.get(second).toString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testMissingId() {
+        roster.getName(0);
+    }
+
+    @Test
+    public void testScans() {
+        for (int i = 0; i < 100; i++) {
+            roster.add(i % 2 == 0 ? farmer : smith);
+        }
+        Feature grit = rulebook.getFeatureByName("grit");
+        Feature callous = rulebook.getFeatureByName("callous");
+        assertEquals(100, roster.withFeature(grit).length);
+        assertEquals(50, roster.withFeature(callous).length);
+        assertEquals(50L * farmer.getStatByName("force").getTotal()
+                + 50L * smith.getStatByName("force").getTotal(), roster.sumOfTotals(0));
+        int[] count = new int[1];
+        roster.forEachId(id -> count[0]++);
+        assertEquals(100, count[0]);
+    }
+}
@@ -0,0 +1,79 @@
+package demoworld.scholar;
+
+import demoworld.model.Character;
+import demoworld.model.DemoWorld;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ScholarTest {
+
+    private DemoWorld rulebook;
+    private Scholar scholar;
+
+    @Before
+    public void setUp() {
+        rulebook = new DemoWorld();
+        scholar = new Scholar(rulebook);
+    }
+
+    @Test
+    public void testReadsBackWrittenSheet() {
+        Character character = new Character("Reader", rulebook);
+        character.addSpecialty(rulebook.getSpecialtyByName("farmer"));
+        character.addFeature(rulebook.getFeatureByName("grit"));
+        character.getStatBySlot(1).setCurrentBase(2);
+        character.adjustXp(3);
+        character.damage(1);
+
+        scholar.processText(character.toString());
+        Character read = scholar.getCharacter();
+
+        assertEquals("READER", read.getName());
+        assertEquals(character.getStatBySlot(1).getTotal(), read.getStatBySlot(1).getTotal());
+        assertEquals(3, read.getExperience().current());
+        assertTrue(read.getSpecialty().contains(rulebook.getSpecialtyByName("farmer")));
+        assertTrue(read.getFeature().contains(rulebook.getFeatureByName("grit")));
+        assertEquals(Scholar.Mode.FEATURES, scholar.getCurrentMode());
+    }
+
+    @Test
+    public void testLineEndings() {
+        scholar.processText("|  * Ends *  |\r\nXP:4/5\rTEMP HP: 2\n");
+        Character read = scholar.getCharacter();
+        assertEquals("ENDS", read.getName());
+        assertEquals(4, read.getExperience().current());
+        assertEquals(2, read.getHitpoints().getTempHp());
+    }
+
+    @Test
+    public void testExtractStatTakesFirstInt() {
+        assertEquals(3, scholar.extractStat("|  FORCE 3 : (3 + 0)     |"));
+        assertEquals(-2, scholar.extractStat("|  FORCE - -2 : (1 + -3)  |"));
+        assertThrows(NumberFormatException.class, () -> scholar.extractStat("|  FORCE -  |"));
+    }
+
+    @Test
+    public void testExtractValues() {
+        assertEquals(6, scholar.extractCurrentHp("HITPOINTS:6/8"));
+        assertEquals(7, scholar.extractCurrentXp("XP: 7 /10"));
+        assertEquals(1, scholar.extractTempHp("TEMP HP: 1"));
+        assertEquals("SIR DOE", scholar.extractName("|   * Sir Doe *   |"));
+    }
+
+    @Test
+    public void testExtractNamedEntry() {
+        assertEquals("grit", scholar.extractNamedEntry("1. GRIT [**]"));
+        assertEquals("farmer", scholar.extractNamedEntry("  12.   FARMER  "));
+        assertNull(scholar.extractNamedEntry("\"A description.\""));
+        assertNull(scholar.extractNamedEntry("1.GRIT"));
+        assertNull(scholar.extractNamedEntry("|====|"));
+    }
+
+    @Test
+    public void testStatNamesInOtherLinesAreNotStats() {
+        scholar.processLine("[0]#####>----------  FEATURES  ----------->");
+        scholar.processLine("\"Adds FORCE when raging\"");
+        assertEquals(Scholar.Mode.FEATURES, scholar.getCurrentMode());
+    }
+}
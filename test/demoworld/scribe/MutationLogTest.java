@@ -0,0 +1,118 @@
+package demoworld.scribe;
+
+import demoworld.model.Character;
+import demoworld.model.DemoWorld;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class MutationLogTest {
+
+    private DemoWorld rulebook;
+    private Path directory;
+    private Path path;
+
+    @Before
+    public void setUp() throws IOException {
+        rulebook = new DemoWorld();
+        directory = Files.createTempDirectory("mutation-log");
+        path = directory.resolve("test.log");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private Character edit(MutationLog log, Character character) throws IOException {
+        character.addSpecialty(rulebook.getSpecialtyByName("farmer"));
+        log.record(character, MutationLog.Type.ADD_SPECIALTY, "farmer");
+        character.damage(2);
+        log.record(character, MutationLog.Type.DAMAGE, 2);
+        character.adjustXp(1);
+        log.record(character, MutationLog.Type.ADJUST_XP, 1);
+        character.removeFeature(character.getFeature().byName("grit"));
+        log.record(character, MutationLog.Type.REMOVE_FEATURE, "grit");
+        return character;
+    }
+
+    @Test
+    public void testReplayAfterReopening() throws IOException {
+        Character character = new Character("Logged", rulebook);
+        try (MutationLog log = new MutationLog(path, rulebook, character)) {
+            edit(log, character);
+            assertEquals(4, log.getSequence());
+        }
+        try (MutationLog log = new MutationLog(path, rulebook, null)) {
+            assertEquals(4, log.getSequence());
+            assertEquals(character.toString(), log.recover().toString());
+        }
+    }
+
+    @Test
+    public void testCompaction() throws IOException {
+        Character character = new Character("Logged", rulebook);
+        try (MutationLog log = new MutationLog(path, rulebook, character, 3)) {
+            edit(log, character);
+            assertEquals(16 + 1 + 2 + 4, Files.size(path));
+            assertEquals(character.toString(), log.recover().toString());
+        }
+    }
+
+    @Test
+    public void testTornRecordIsDropped() throws IOException {
+        Character character = new Character("Logged", rulebook);
+        try (MutationLog log = new MutationLog(path, rulebook, character)) {
+            character.damage(1);
+            log.record(character, MutationLog.Type.DAMAGE, 1);
+        }
+        long complete = Files.size(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0, 0}));
+        }
+        try (MutationLog log = new MutationLog(path, rulebook, null)) {
+            assertEquals(complete, Files.size(path));
+            assertEquals(character.toString(), log.recover().toString());
+        }
+    }
+
+    @Test
+    public void testOlderThanSheetChangedSince() throws IOException {
+        Path sheet = directory.resolve("test.sheet");
+        Files.writeString(sheet, "sheet");
+        Character character = new Character("Logged", rulebook);
+        try (MutationLog log = new MutationLog(path, rulebook, character)) {
+            character.damage(1);
+            log.record(character, MutationLog.Type.DAMAGE, 1);
+            Files.setLastModifiedTime(sheet, FileTime.fromMillis(0));
+            assertFalse(log.isOlderThan(sheet));
+            Files.setLastModifiedTime(sheet,
+                    FileTime.fromMillis(Files.getLastModifiedTime(path).toMillis() + 60000));
+            assertTrue(log.isOlderThan(sheet));
+        }
+    }
+
+    @Test
+    public void testDeleteRemovesLogAndSnapshot() throws IOException {
+        Character character = new Character("Logged", rulebook);
+        MutationLog log = new MutationLog(path, rulebook, character);
+        character.damage(1);
+        log.record(character, MutationLog.Type.DAMAGE, 1);
+        log.delete();
+        assertFalse(Files.exists(path));
+        assertFalse(Files.exists(directory.resolve("test.log.snapshot")));
+    }
+}
@@ -0,0 +1,86 @@
+package demoworld.scribe;
+
+import demoworld.model.Character;
+import demoworld.model.DemoWorld;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ScribeTest {
+
+    private DemoWorld rulebook;
+    private Path directory;
+    private Path path;
+
+    @Before
+    public void setUp() throws IOException {
+        rulebook = new DemoWorld();
+        directory = Files.createTempDirectory("scribe");
+        path = directory.resolve("test.sheet");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private String read() throws IOException {
+        return new String(Files.readAllBytes(path), Charset.defaultCharset());
+    }
+
+    @Test
+    public void testWritesSheetWithStudentId() throws IOException {
+        Character character = new Character("Test Character", rulebook);
+        character.addSpecialty(rulebook.getSpecialtyByName("farmer"));
+        character.damage(2);
+
+        new Scribe(false).write(path, character, "123");
+
+        assertEquals("Student ID: 123\n" + character.toString(), read());
+    }
+
+    @Test
+    public void testReplacesExistingFileAndLeavesNoTemporaryFile() throws IOException {
+        Files.writeString(path, "old contents that are longer than the new ones ".repeat(500));
+        Character character = new Character("Test Character", rulebook);
+
+        new Scribe(true).write(path, character, "123");
+
+        assertEquals("Student ID: 123\n" + character.toString(), read());
+        try (var files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void testScribeCanBeReused() throws IOException {
+        Scribe scribe = new Scribe(false);
+        Character first = new Character("First", rulebook);
+        Character second = new Character("Second", rulebook);
+        second.adjustXp(2);
+
+        scribe.write(path, first, "1");
+        scribe.write(path, second, "2");
+
+        assertEquals("Student ID: 2\n" + second.toString(), read());
+    }
+
+    @Test
+    public void testContentsLargerThanBuffer() throws IOException {
+        String contents = "line of the sheet\n".repeat(2000);
+
+        Scribe.writeToFile(path.toString(), contents, "123");
+
+        assertEquals("Student ID: 123\n" + contents, read());
+    }
+}
@@ -0,0 +1,113 @@
+package demoworld.view;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class SearchIndexTest {
+
+    private List<String> entries;
+    private SearchIndex index;
+
+    @Before
+    public void setUp() {
+        entries = List.of("Grit", "Early Riser", "Weather Minded", "Strong Arm",
+                "Forge Born", "GRITTY", "arms dealer", "", "Ri", "Stronghold");
+        index = new SearchIndex(entries);
+    }
+
+    // checks every entry, with none of the index's shortcuts
+    private int[] bruteForce(String query) {
+        String needle = query.toLowerCase(Locale.ROOT);
+        List<Integer> matches = new ArrayList<>();
+        for (int position = 0; position < entries.size(); position++) {
+            if (entries.get(position).toLowerCase(Locale.ROOT).contains(needle)) {
+                matches.add(position);
+            }
+        }
+        return matches.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private void assertMatches(String query) {
+        assertArrayEquals(bruteForce(query), index.filter(query));
+    }
+
+    @Test
+    public void testSize() {
+        assertEquals(entries.size(), index.size());
+    }
+
+    @Test
+    public void testEmptyQueryMatchesEverything() {
+        assertMatches("");
+        assertEquals(entries.size(), index.filter("").length);
+    }
+
+    @Test
+    public void testShortQueries() {
+        assertMatches("r");
+        assertMatches("RI");
+        assertMatches("z");
+        assertMatches("m ");
+    }
+
+    @Test
+    public void testIgnoresCase() {
+        assertMatches("GRIT");
+        assertMatches("sTrOnG");
+        assertArrayEquals(new int[]{0, 5}, index.filter("grit"));
+    }
+
+    @Test
+    public void testTrigramInNoEntry() {
+        assertMatches("xyz");
+        assertEquals(0, index.filter("grixyz").length);
+        assertMatches("grixyz");
+    }
+
+    @Test
+    public void testTrigramsPresentButNotTogether() {
+        // "gri" and "arm" are both indexed, but no entry holds "griarm"
+        assertMatches("griarm");
+    }
+
+    @Test
+    public void testTypingNarrowsFromLastQuery() {
+        for (String query : new String[]{"s", "st", "str", "stro", "stron", "strong",
+                "strongh", "stronga"}) {
+            assertMatches(query);
+        }
+    }
+
+    @Test
+    public void testSuperstringOnBothSidesOfLastQuery() {
+        assertMatches("ar");
+        assertMatches("arm");
+        assertMatches("g arm");
+        assertMatches("ng arm");
+        assertMatches("ng arms");
+    }
+
+    @Test
+    public void testDeletingWidensAgain() {
+        assertMatches("strongh");
+        assertMatches("stron");
+        assertMatches("r");
+        assertMatches("");
+        assertMatches("er");
+    }
+
+    @Test
+    public void testEveryQueryOfEveryEntry() {
+        for (String entry : entries) {
+            for (int start = 0; start < entry.length(); start++) {
+                for (int end = start; end <= entry.length(); end++) {
+                    assertMatches(entry.substring(start, end));
+                }
+            }
+        }
+    }
+}